@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# Runs load/thread-modes.js against the application in platform-thread mode and in virtual-thread mode.
+# Requires k6, a JDK with the jfr tool, and the MySQL variables of the .env file in the environment.
+# Results are written to target/load: k6 summaries, Prometheus snapshots and pinned virtual thread events.
+# The application runs with the load profile of load/application-load.properties, which lifts the authentication limits.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+OUT=target/load
+PASSWORD='S4fecar!Password'
+mkdir -p "$OUT"
+# Stops the application of the current mode when the script fails
+trap '[ -n "${APP_PID:-}" ] && kill "$APP_PID" 2> /dev/null; true' EXIT
+
+# Signs up an administrator and prints its JWT, which /actuator/prometheus requires
+admin_token() {
+  local email="load-admin-$(date +%s%N)@safecar.test"
+  curl -sf -o /dev/null -H 'Content-Type: application/json' "$BASE_URL/api/v1/authentication/sign-up" \
+    -d "{\"email\":\"$email\",\"password\":\"$PASSWORD\",\"confirmPassword\":\"$PASSWORD\",\"roles\":[\"ROLE_ADMIN\"]}"
+  curl -sf -H 'Content-Type: application/json' "$BASE_URL/api/v1/authentication/sign-in" \
+    -d "{\"email\":\"$email\",\"password\":\"$PASSWORD\"}" | sed -n 's/.*"token" *: *"\([^"]*\)".*/\1/p'
+}
+
+./mvnw -B -q -DskipTests package
+JAR=$(ls target/backend-*.jar | grep -v original | head -1)
+
+for MODE in platform-threads virtual-threads; do
+  PROFILES=load
+  [ "$MODE" = virtual-threads ] && PROFILES=load,virtual-threads
+  java -XX:StartFlightRecording=filename="$OUT/$MODE.jfr",settings=profile \
+    -jar "$JAR" --server.port="$PORT" --spring.config.additional-location=file:load/ \
+    --spring.profiles.active="$PROFILES" > "$OUT/$MODE.log" 2>&1 &
+  APP_PID=$!
+  until curl -sf "$BASE_URL/actuator/health" > /dev/null; do sleep 1; done
+
+  k6 run --quiet -e BASE_URL="$BASE_URL" -e VUS="${VUS:-400}" -e DURATION="${DURATION:-60s}" --summary-export "$OUT/$MODE-summary.json" load/thread-modes.js
+  TOKEN=$(admin_token)
+  STATUS=$(curl -s -o "$OUT/$MODE-metrics.txt" -w '%{http_code}' -H "Authorization: Bearer $TOKEN" "$BASE_URL/actuator/prometheus")
+  if [ "$STATUS" != 200 ]; then
+    echo "/actuator/prometheus returned $STATUS in $MODE mode" >&2
+    exit 1
+  fi
+
+  kill "$APP_PID"
+  wait "$APP_PID" || true
+  APP_PID=""
+  jfr print --events jdk.VirtualThreadPinned "$OUT/$MODE.jfr" > "$OUT/$MODE-pinned.txt"
+done
+
+for MODE in platform-threads virtual-threads; do
+  echo "== $MODE"
+  grep -h -A 7 -e '"http_req_duration{name:' -e '"http_reqs{name:' "$OUT/$MODE-summary.json" || true
+  echo "pinned virtual thread events: $(grep -c 'jdk.VirtualThreadPinned' "$OUT/$MODE-pinned.txt" || true)"
+done
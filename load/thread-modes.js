@@ -0,0 +1,75 @@
+// Load scenario comparing the platform-thread and virtual-thread execution modes.
+// Run through load/compare-thread-modes.sh, which starts the application in each mode with the load profile.
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '400');
+const SIGN_IN_VUS = Math.max(1, Math.floor(VUS / 10));
+const DURATION = __ENV.DURATION || '60s';
+const PASSWORD = 'S4fecar!Password';
+// Accounts signed up at once while seeding; each sign-up costs a password hash
+const SEED_BATCH_SIZE = 20;
+
+export const options = {
+    scenarios: {
+        // Database-bound: principal and user lookups by email
+        reads: { executor: 'constant-vus', vus: VUS, duration: DURATION, exec: 'readUser' },
+        // CPU-bound: password verification on the hashing pool
+        signIns: { executor: 'constant-vus', vus: SIGN_IN_VUS, duration: DURATION, exec: 'signIn' },
+    },
+    setupTimeout: '10m',
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    // Always-passing thresholds so the per-request summaries are exported
+    thresholds: {
+        'http_req_duration{name:read-user}': ['max>=0'],
+        'http_req_duration{name:sign-in}': ['max>=0'],
+        'http_reqs{name:read-user}': ['count>=0'],
+        'http_reqs{name:sign-in}': ['count>=0'],
+    },
+};
+
+const json = { headers: { 'Content-Type': 'application/json' } };
+
+// One account per VU, so that neither the per-email limits nor a single hot row shape the results
+export function setup() {
+    const run = Date.now();
+    const accounts = [];
+    for (let vu = 1; vu <= VUS + SIGN_IN_VUS; vu += SEED_BATCH_SIZE) {
+        const batch = [];
+        for (let id = vu; id < Math.min(vu + SEED_BATCH_SIZE, VUS + SIGN_IN_VUS + 1); id++)
+            batch.push(`load-${run}-${id}@safecar.test`);
+        seed(batch, 'sign-up', 201, (email) => ({ email, password: PASSWORD, confirmPassword: PASSWORD, roles: ['ROLE_DRIVER'] }));
+        seed(batch, 'sign-in', 200, (email) => ({ email, password: PASSWORD }))
+            .forEach((response, index) => accounts.push({ email: batch[index], token: response.json('token') }));
+    }
+    return { accounts };
+}
+
+function seed(emails, action, expectedStatus, body) {
+    const responses = http.batch(emails.map((email) =>
+        ['POST', `${BASE_URL}/api/v1/authentication/${action}`, JSON.stringify(body(email)), json]));
+    responses.forEach((response, index) => {
+        if (response.status !== expectedStatus)
+            fail(`${action} of ${emails[index]} returned ${response.status}`);
+    });
+    return responses;
+}
+
+function accountOf(data) {
+    return data.accounts[exec.vu.idInTest - 1];
+}
+
+export function readUser(data) {
+    const account = accountOf(data);
+    const response = http.get(`${BASE_URL}/api/v1/users/${account.email}`,
+        { headers: { Authorization: `Bearer ${account.token}` }, tags: { name: 'read-user' } });
+    check(response, { 'read 200': (r) => r.status === 200 });
+}
+
+export function signIn(data) {
+    const response = http.post(`${BASE_URL}/api/v1/authentication/sign-in`,
+        JSON.stringify({ email: accountOf(data).email, password: PASSWORD }), Object.assign({ tags: { name: 'sign-in' } }, json));
+    check(response, { 'sign-in 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,39 @@
+package com.safecar.platform.iam.domain.model.valueobjects;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the validation performed by the {@link Email} and {@link Password} records on construction.
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueObjectValidationBenchmark {
+    private String email = "driver.name+fleet@safecar.com";
+    private String password = "S4fecar!Password";
+
+    @Benchmark
+    public Email email() {
+        return new Email(email);
+    }
+
+    @Benchmark
+    public Password password() {
+        return new Password(password);
+    }
+}
@@ -0,0 +1,44 @@
+package com.safecar.platform.iam.infrastructure.authorization.sfs.model;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.safecar.platform.iam.domain.model.projections.UserCredentials;
+
+/**
+ * Benchmarks the construction of {@link UserDetailsImpl} principals, once per authenticated request.
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDetailsBenchmark {
+    private final List<String> roleNames = List.of("ROLE_DRIVER", "ROLE_MECHANIC");
+    private final UserCredentials credentials = new UserCredentials(
+            UUID.randomUUID(), "driver@safecar.com", "{bcrypt}$2a$10$abcdefghijklmnopqrstuv", 0L, roleNames);
+
+    @Benchmark
+    public UserDetailsImpl buildFromCredentials() {
+        return UserDetailsImpl.build(credentials);
+    }
+
+    @Benchmark
+    public UserDetailsImpl buildFromClaims() {
+        return UserDetailsImpl.build("driver@safecar.com", roleNames);
+    }
+}
@@ -0,0 +1,65 @@
+package com.safecar.platform.iam.infrastructure.hashing.bcrypt.services;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Benchmarks password verification by {@link HashingServiceImpl} with each supported algorithm.
+ * <p>
+ * Calibration is disabled so the configured costs, and therefore the results, are the same on every machine.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HashingServiceBenchmark {
+    private static final String PASSWORD = "S4fecar!Password";
+
+    @Param({"bcrypt", "pbkdf2", "argon2"})
+    private String algorithm;
+
+    private PasswordHashingExecutor hashingExecutor;
+    private HashingServiceImpl hashingService;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        var meterRegistry = new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class);
+        var passwordEncoderFactory = new CalibratedPasswordEncoderFactory(
+                algorithm, false, Duration.ofMillis(50), 10, 310_000, new int[0], 16_384, 2);
+        hashingExecutor = new PasswordHashingExecutor(0, 64, meterRegistry);
+        hashingService = new HashingServiceImpl(passwordEncoderFactory, hashingExecutor);
+        encodedPassword = hashingService.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return hashingService.matches(PASSWORD, encodedPassword);
+    }
+}
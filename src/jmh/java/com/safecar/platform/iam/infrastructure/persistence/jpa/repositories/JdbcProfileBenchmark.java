@@ -0,0 +1,144 @@
+package com.safecar.platform.iam.infrastructure.persistence.jpa.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.safecar.platform.iam.domain.model.aggregates.User;
+import com.safecar.platform.iam.domain.model.entities.Role;
+import com.safecar.platform.iam.domain.model.projections.UserCredentials;
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
+import com.safecar.platform.iam.domain.model.valueobjects.Roles;
+
+/**
+ * Benchmarks the {@link UserRepository} and {@link RoleRepository} workloads with the default JDBC settings
+ * and with those of the {@code jdbc-tuned} profile.
+ * <p>
+ * The repositories run in a persistence-only application context against an in-memory H2 database in MySQL mode,
+ * with the properties of the selected profile; the datasource URL is replaced by the H2 one, so the MySQL
+ * Connector/J settings of the profile are not measured, while the pool and Hibernate settings are.
+ * The database is seeded with {@value #SEEDED_USERS} users; batch inserts keep adding users during the run.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JdbcProfileBenchmark {
+    private static final int SEEDED_USERS = 2_000;
+    private static final int BATCH_SIZE = 100;
+    private static final int PAGE_SIZE = 100;
+    private static final int MAXIMUM_EMAILS_CHECKED = 40;
+    private static final String PASSWORD = "S4fecar!Password";
+
+    @Param({"default", "jdbc-tuned"})
+    private String profile;
+
+    private final AtomicLong insertedUsers = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private RoleRepository roleRepository;
+    private Role driverRole;
+
+    /**
+     * Persistence-only context: the entities, the Spring Data repositories and their auto-configuration.
+     */
+    @Configuration
+    @EnableAutoConfiguration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = { User.class, Role.class })
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    static class PersistenceConfiguration {
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(PersistenceConfiguration.class)
+                .profiles(profile)
+                .run("--spring.main.web-application-type=none",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:" + profile + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false");
+        userRepository = context.getBean(UserRepository.class);
+        roleRepository = context.getBean(RoleRepository.class);
+        roleRepository.saveAll(List.of(Roles.values()).stream().map(Role::new).toList());
+        driverRole = roleRepository.findByName(Roles.ROLE_DRIVER).orElseThrow();
+        for (int i = 0; i < SEEDED_USERS; i += BATCH_SIZE)
+            insertUsers();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<User> insertUsers() {
+        var users = new ArrayList<User>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++)
+            users.add(new User("user" + insertedUsers.getAndIncrement() + "@safecar.com", PASSWORD, driverRole));
+        return userRepository.saveAll(users);
+    }
+
+    @Benchmark
+    public Optional<UserCredentials> findCredentialsByEmail() {
+        return userRepository.findCredentialsByEmail(seededEmail());
+    }
+
+    @Benchmark
+    public List<String> findRegisteredEmails() {
+        var count = ThreadLocalRandom.current().nextInt(1, MAXIMUM_EMAILS_CHECKED + 1);
+        return userRepository.findRegisteredEmailsIn(IntStream.range(0, count).mapToObj(i -> seededEmail()).toList());
+    }
+
+    @Benchmark
+    public List<UserSummary> findSummaries() {
+        return userRepository.findSummaries(null, Limit.of(PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Optional<Role> findRoleByName() {
+        return roleRepository.findByName(Roles.ROLE_DRIVER);
+    }
+
+    private static String seededEmail() {
+        return "user" + ThreadLocalRandom.current().nextInt(SEEDED_USERS) + "@safecar.com";
+    }
+}
@@ -0,0 +1,73 @@
+package com.safecar.platform.iam.infrastructure.tokens.jwt.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Benchmarks the generation and validation of bearer tokens by {@link TokenServiceImpl}.
+ * <p>
+ * Validation is measured with the verified claims cache disabled ({@code cacheMaximumSize = 0}),
+ * which verifies the signature on every call, and enabled, which serves repeated tokens from memory.
+ * Each is measured with the shared-secret {@code HS256} signature and with the asymmetric {@code EdDSA}
+ * and {@code ES256} signatures of the {@link SigningKeyRing}.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenServiceBenchmark {
+    private static final String SECRET = "benchmark-secret-of-at-least-two-hundred-and-fifty-six-bits";
+
+    @Param({"0", "10000"})
+    private long cacheMaximumSize;
+
+    @Param({"HS256", "EdDSA", "ES256"})
+    private String algorithm;
+
+    private TokenServiceImpl tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() throws IOException {
+        tokenService = new TokenServiceImpl();
+        var keyDirectory = Files.createTempDirectory("jwt-keys");
+        tokenService.setSigningKeyRing(new SigningKeyRing(algorithm, keyDirectory, Duration.ofDays(30), Duration.ofSeconds(1), 7));
+        ReflectionTestUtils.setField(tokenService, "secret", SECRET);
+        ReflectionTestUtils.setField(tokenService, "expirationDays", 7);
+        ReflectionTestUtils.setField(tokenService, "selfContainedPrincipal", true);
+        ReflectionTestUtils.setField(tokenService, "verifiedClaimsCacheMaximumSize", cacheMaximumSize);
+        tokenService.initialize();
+        token = generateToken();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenService.generateToken("1", "driver@safecar.com", List.of("ROLE_DRIVER"), 0L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenService.validateToken(token);
+    }
+}
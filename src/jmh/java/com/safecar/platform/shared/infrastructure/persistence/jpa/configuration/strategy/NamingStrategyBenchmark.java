@@ -0,0 +1,42 @@
+package com.safecar.platform.shared.infrastructure.persistence.jpa.configuration.strategy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the table and column names produced by {@link SnakeCaseWithPluralizedTablePhysicalNamingStrategy}.
+ *
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NamingStrategyBenchmark {
+    private final SnakeCaseWithPluralizedTablePhysicalNamingStrategy namingStrategy =
+            new SnakeCaseWithPluralizedTablePhysicalNamingStrategy();
+    private final Identifier tableName = Identifier.toIdentifier("TelemetryReading");
+    private final Identifier columnName = Identifier.toIdentifier("securityVersion");
+
+    @Benchmark
+    public Identifier toPhysicalTableName() {
+        return namingStrategy.toPhysicalTableName(tableName, null);
+    }
+
+    @Benchmark
+    public Identifier toPhysicalColumnName() {
+        return namingStrategy.toPhysicalColumnName(columnName, null);
+    }
+}
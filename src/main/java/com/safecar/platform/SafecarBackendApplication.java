@@ -2,13 +2,20 @@ package com.safecar.platform;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class SafecarBackendApplication {
+	// Startup steps kept for /actuator/startup and the startup timings log
+	private static final int STARTUP_STEPS_CAPACITY = 4096;
 
 	public static void main(String[] args) {
-		SpringApplication.run(SafecarBackendApplication.class, args);
+		var application = new SpringApplication(SafecarBackendApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+		application.run(args);
 	}
 }
@@ -0,0 +1,46 @@
+package com.safecar.platform.iam.application.acl;
+
+import java.util.UUID;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.springframework.stereotype.Service;
+
+import com.safecar.platform.iam.domain.model.commands.IssueDeviceCredentialCommand;
+import com.safecar.platform.iam.domain.model.commands.RevokeDeviceCredentialCommand;
+import com.safecar.platform.iam.domain.services.DeviceCredentialCommandService;
+import com.safecar.platform.iam.interfaces.acl.IamContextFacade;
+
+/**
+ * IamContextFacadeImpl
+ * <p>
+ * Implementation of {@link IamContextFacade}.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class IamContextFacadeImpl implements IamContextFacade {
+    private final DeviceCredentialCommandService deviceCredentialCommandService;
+
+    /**
+     * Constructor
+     *
+     * @param deviceCredentialCommandService {@link DeviceCredentialCommandService} instance
+     */
+    public IamContextFacadeImpl(DeviceCredentialCommandService deviceCredentialCommandService) {
+        this.deviceCredentialCommandService = deviceCredentialCommandService;
+    }
+
+    // inherited javadoc
+    @Override
+    public ImmutablePair<UUID, String> issueDeviceCredential(UUID vehicleId) {
+        var credential = deviceCredentialCommandService.handle(new IssueDeviceCredentialCommand(vehicleId));
+        return ImmutablePair.of(credential.getId(), credential.getSecret());
+    }
+
+    // inherited javadoc
+    @Override
+    public boolean revokeDeviceCredential(UUID vehicleId, UUID deviceId) {
+        return deviceCredentialCommandService.handle(new RevokeDeviceCredentialCommand(vehicleId, deviceId)).isPresent();
+    }
+}
@@ -0,0 +1,69 @@
+package com.safecar.platform.iam.application.internal.commandservices;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.safecar.platform.iam.domain.model.aggregates.DeviceCredential;
+import com.safecar.platform.iam.domain.model.commands.IssueDeviceCredentialCommand;
+import com.safecar.platform.iam.domain.model.commands.RevokeDeviceCredentialCommand;
+import com.safecar.platform.iam.domain.services.DeviceCredentialCommandService;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.services.DeviceKeyRegistry;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.DeviceCredentialRepository;
+
+/**
+ * DeviceCredentialCommandServiceImpl
+ * <p>
+ * Implementation of {@link DeviceCredentialCommandService}.
+ * Issued and revoked credentials are applied to the {@link DeviceKeyRegistry} of this instance
+ * once stored, so a device can report as soon as its credential is returned.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class DeviceCredentialCommandServiceImpl implements DeviceCredentialCommandService {
+    private static final int SECRET_BYTES = 32;
+
+    private final DeviceCredentialRepository deviceCredentialRepository;
+    private final DeviceKeyRegistry deviceKeyRegistry;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Constructor
+     *
+     * @param deviceCredentialRepository {@link DeviceCredentialRepository} instance
+     * @param deviceKeyRegistry          {@link DeviceKeyRegistry} instance
+     */
+    public DeviceCredentialCommandServiceImpl(DeviceCredentialRepository deviceCredentialRepository,
+            DeviceKeyRegistry deviceKeyRegistry) {
+        this.deviceCredentialRepository = deviceCredentialRepository;
+        this.deviceKeyRegistry = deviceKeyRegistry;
+    }
+
+    // inherited javadoc
+    @Override
+    public DeviceCredential handle(IssueDeviceCredentialCommand command) {
+        var secret = new byte[SECRET_BYTES];
+        random.nextBytes(secret);
+        var credential = deviceCredentialRepository.save(
+                new DeviceCredential(command.vehicleId(), Base64.getEncoder().encodeToString(secret)));
+        deviceKeyRegistry.register(credential.getId(), credential.getVehicleId(), credential.getSecret());
+        return credential;
+    }
+
+    // inherited javadoc
+    @Override
+    public Optional<DeviceCredential> handle(RevokeDeviceCredentialCommand command) {
+        var credential = deviceCredentialRepository.findById(command.deviceId())
+                .filter(found -> found.belongsTo(command.vehicleId()));
+        credential.ifPresent(found -> {
+            found.revoke();
+            deviceCredentialRepository.save(found);
+            deviceKeyRegistry.remove(found.getId());
+        });
+        return credential;
+    }
+}
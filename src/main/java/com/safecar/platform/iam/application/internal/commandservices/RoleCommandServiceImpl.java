@@ -3,40 +3,47 @@ package com.safecar.platform.iam.application.internal.commandservices;
 import org.springframework.stereotype.Service;
 
 import com.safecar.platform.iam.domain.model.commands.SeedRolesCommand;
-import com.safecar.platform.iam.domain.model.entities.Role;
 import com.safecar.platform.iam.domain.model.valueobjects.Roles;
 import com.safecar.platform.iam.domain.services.RoleCommandService;
+import com.safecar.platform.iam.infrastructure.persistence.jdbc.RoleJdbcRepository;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.registries.RoleRegistry;
 import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
 
-import java.util.Arrays;
+import java.util.List;
 
 /**
  * RoleCommandServiceImpl
  * <p>
  * Implementation of RoleCommandService.
- * This class is responsible for handling the SeedRolesCommand and persisting
- * the roles in the database.
+ * This class is responsible for handling the SeedRolesCommand, persisting
+ * the roles in the database and building the {@link RoleRegistry} from them.
  * </p>
  */
 @Service
 public class RoleCommandServiceImpl implements RoleCommandService {
     private final RoleRepository roleRepository;
+    private final RoleJdbcRepository roleJdbcRepository;
+    private final RoleRegistry roleRegistry;
 
     /**
      * Constructor
      * 
-     * @param roleRepository {@link RoleRepository} instance
+     * @param roleRepository     {@link RoleRepository} instance
+     * @param roleJdbcRepository {@link RoleJdbcRepository} instance
+     * @param roleRegistry       {@link RoleRegistry} instance
      */
-    public RoleCommandServiceImpl(RoleRepository roleRepository) {
+    public RoleCommandServiceImpl(RoleRepository roleRepository, RoleJdbcRepository roleJdbcRepository,
+            RoleRegistry roleRegistry) {
         this.roleRepository = roleRepository;
+        this.roleJdbcRepository = roleJdbcRepository;
+        this.roleRegistry = roleRegistry;
     }
 
     // inherited javadoc
     @Override
     public void handle(SeedRolesCommand command) {
-        Arrays.stream(Roles.values()).forEach(role -> {
-            if (!roleRepository.existsByName(role))
-                roleRepository.save(new Role(Roles.valueOf(role.name())));
-        });
+        // One upsert for every role, then one read to build the registry
+        roleJdbcRepository.insertMissing(List.of(Roles.values()));
+        roleRegistry.initialize(roleRepository.findAll());
     }
 }
\ No newline at end of file
@@ -1,36 +1,56 @@
 package com.safecar.platform.iam.application.internal.commandservices;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.safecar.platform.iam.application.internal.outboundservices.hashing.HashingService;
 import com.safecar.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.safecar.platform.iam.domain.exceptions.EmailAlreadyRegisteredException;
 import com.safecar.platform.iam.domain.model.aggregates.User;
+import com.safecar.platform.iam.domain.model.commands.ChangeUserPasswordCommand;
+import com.safecar.platform.iam.domain.model.commands.ChangeUserRolesCommand;
+import com.safecar.platform.iam.domain.model.commands.ProvisionUserCommand;
+import com.safecar.platform.iam.domain.model.commands.ProvisionUsersCommand;
 import com.safecar.platform.iam.domain.model.commands.SignInCommand;
+import com.safecar.platform.iam.domain.model.commands.SignOutCommand;
 import com.safecar.platform.iam.domain.model.commands.SignUpCommand;
+import com.safecar.platform.iam.domain.model.entities.Role;
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
 import com.safecar.platform.iam.domain.model.valueobjects.Email;
+import com.safecar.platform.iam.domain.model.valueobjects.Password;
 import com.safecar.platform.iam.domain.model.valueobjects.Roles;
+import com.safecar.platform.iam.domain.model.valueobjects.UserProvisioningResult;
 import com.safecar.platform.iam.domain.services.UserCommandService;
-import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.registries.RoleRegistry;
 import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * UserCommandServiceImpl
  * <p>
  * Implementation of UserCommandService.
- * This class is responsible for handling the SignUpCommand and SignInCommand
- * and persisting the user in the database.
+ * This class is responsible for handling the SignUpCommand, SignInCommand, SignOutCommand, ProvisionUsersCommand,
+ * ChangeUserPasswordCommand and ChangeUserRolesCommand and persisting the user in the database.
  * </p>
  */
 @Service
 public class UserCommandServiceImpl implements UserCommandService {
+    private static final String EMAIL_ALREADY_REGISTERED = "Email already registered";
     private final UserRepository userRepository;
     private final HashingService hashingService;
     private final TokenService tokenService;
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Constructor
@@ -38,47 +58,189 @@ public class UserCommandServiceImpl implements UserCommandService {
      * @param userRepository {@link UserRepository} instance
      * @param hashingService {@link HashingService} instance
      * @param tokenService   {@link TokenService} instance
-     * @param roleRepository {@link RoleRepository} instance
+     * @param roleRegistry   {@link RoleRegistry} instance
+     * @param transactionTemplate {@link TransactionTemplate} used to insert provisioned users
      */
     public UserCommandServiceImpl(UserRepository userRepository, HashingService hashingService,
-            TokenService tokenService, RoleRepository roleRepository) {
+            TokenService tokenService, RoleRegistry roleRegistry, TransactionTemplate transactionTemplate) {
         this.userRepository = userRepository;
         this.hashingService = hashingService;
         this.tokenService = tokenService;
-        this.roleRepository = roleRepository;
+        this.roleRegistry = roleRegistry;
+        this.transactionTemplate = transactionTemplate;
     }
 
     // inherited javadoc
     @Override
     public Optional<User> handle(SignUpCommand command) {
-        if (userRepository.existsByEmail(new Email(command.email())))
-            throw new RuntimeException("Email already exists");
-    var roles = command.roles().stream()
-        .map(role -> roleRepository.findByName(role.getName())
-            .orElseThrow(() -> new RuntimeException("Role not found")))
-        .collect(Collectors.toSet());
-    // If no roles were provided, assign the persisted default role
-    if (roles.isEmpty()) {
-        var defaultRole = roleRepository.findByName(Roles.ROLE_CLIENT)
-            .orElseThrow(() -> new RuntimeException("Default role not found"));
-        roles.add(defaultRole);
-    }
-    var user = new User(command.email(), hashingService.encode(command.password()), roles);
-    userRepository.save(user);
-    return userRepository.findByEmail(new Email(command.email()));
+        // Roles are resolved from memory; the unique email constraint replaces the existence pre-check
+        var roles = resolveRoles(command.roles());
+        var user = new User(command.email(), hashingService.encode(command.password()), roles);
+        try {
+            return Optional.of(userRepository.save(user));
+        } catch (DataIntegrityViolationException e) {
+            if (!violates(e, User.EMAIL_CONSTRAINT))
+                throw e;
+            throw new EmailAlreadyRegisteredException(command.email(), e);
+        }
     }
 
     // inherited javadoc
     @Override
-    public Optional<ImmutablePair<User, String>> handle(SignInCommand command) {
-    var user = userRepository.findByEmail(new Email(command.email()));
-        if (user.isEmpty())
-            throw new RuntimeException("User not found");
-        var existingUser = user.get();
-        if (!hashingService.matches(command.password(), existingUser.getPassword()))
+    public Optional<ImmutablePair<UserSummary, String>> handle(SignInCommand command) {
+        // Only the credentials are read, in a single statement, instead of the whole aggregate
+        var credentials = userRepository.findCredentialsByEmail(command.email())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (!hashingService.matches(command.password(), credentials.password()))
             throw new RuntimeException("Invalid password");
-    // Generate token using user's UUID as subject so the UserDetailsService can load the user by id (it expects a UUID string)
-    var token = tokenService.generateToken(existingUser.getId().toString());
-        return Optional.of(ImmutablePair.of(existingUser, token));
+        // Transparently upgrade hashes produced with an outdated algorithm or cost
+        if (hashingService.needsRehash(credentials.password()))
+            userRepository.updatePasswordById(credentials.id(), hashingService.encode(command.password()));
+        // Generate token using user's id as subject so the UserDetailsService can load the user by id
+        // and embed the principal claims so authenticated requests can skip that lookup
+        var token = tokenService.generateToken(credentials.id().toString(), credentials.email(),
+                credentials.roleNames(), credentials.securityVersion());
+        var user = new UserSummary(credentials.id(), credentials.email(), credentials.roleNames());
+        return Optional.of(ImmutablePair.of(user, token));
+    }
+
+    // inherited javadoc
+    @Override
+    public boolean handle(SignOutCommand command) {
+        return tokenService.revokeToken(command.token());
+    }
+
+    // inherited javadoc
+    @Override
+    public List<UserProvisioningResult> handle(ProvisionUsersCommand command) {
+        var users = command.users();
+        var results = new UserProvisioningResult[users.size()];
+        var candidates = new ArrayList<ProvisioningCandidate>(users.size());
+        var emails = new HashSet<String>();
+        for (int index = 0; index < users.size(); index++) {
+            var user = users.get(index);
+            try {
+                // The value objects enforce the email and password rules on construction
+                new Email(user.email());
+                new Password(user.password());
+                var roles = resolveRoles(user.roles());
+                if (emails.add(user.email()))
+                    candidates.add(new ProvisioningCandidate(index, user, roles));
+                else
+                    results[index] = UserProvisioningResult.rejected(user.email(), "Duplicate email in request");
+            } catch (IllegalArgumentException e) {
+                results[index] = UserProvisioningResult.rejected(user.email(), e.getMessage());
+            }
+        }
+        if (!candidates.isEmpty()) {
+            // One query for the whole chunk instead of one existence check per user
+            var registeredEmails = new HashSet<>(userRepository.findRegisteredEmailsIn(emails));
+            candidates.removeIf(candidate -> {
+                if (!registeredEmails.contains(candidate.command().email()))
+                    return false;
+                results[candidate.index()] = UserProvisioningResult.rejected(candidate.command().email(),
+                        EMAIL_ALREADY_REGISTERED);
+                return true;
+            });
+        }
+        if (!candidates.isEmpty())
+            provision(candidates, results);
+        return List.of(results);
+    }
+
+    // inherited javadoc
+    @Override
+    public Optional<User> handle(ChangeUserPasswordCommand command) {
+        // Hash before the transaction so no connection is held while hashing
+        var encodedPassword = hashingService.encode(new Password(command.password()).value());
+        return transactionTemplate.execute(status -> userRepository.findByEmail(new Email(command.email()))
+                .map(user -> userRepository.save(user.changePassword(encodedPassword))));
+    }
+
+    // inherited javadoc
+    @Override
+    public Optional<User> handle(ChangeUserRolesCommand command) {
+        var roles = resolveRoles(command.roles());
+        // Saving the aggregate publishes its UserSecurityChangedEvent, delivered once the transaction commits
+        return transactionTemplate.execute(status -> userRepository.findByEmail(new Email(command.email()))
+                .map(user -> userRepository.save(user.changeRoles(roles))));
+    }
+
+    /**
+     * Hashes the passwords of the candidates in parallel and inserts them in a single batched transaction.
+     * If another request registered one of the emails in the meantime, the candidates are inserted one by one
+     * so only the conflicting ones are rejected.
+     */
+    private void provision(List<ProvisioningCandidate> candidates, UserProvisioningResult[] results) {
+        var encodedPasswords = hashingService.encodeAll(candidates.stream()
+                .map(candidate -> candidate.command().password())
+                .toList());
+        var users = new ArrayList<User>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++)
+            users.add(candidates.get(i).toUser(encodedPasswords.get(i)));
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users));
+            for (int i = 0; i < candidates.size(); i++)
+                results[candidates.get(i).index()] = UserProvisioningResult.provisioned(
+                        candidates.get(i).command().email(), users.get(i).getId());
+        } catch (DataIntegrityViolationException e) {
+            for (int i = 0; i < candidates.size(); i++) {
+                var candidate = candidates.get(i);
+                // Fresh aggregate: the one of the failed batch already holds an identifier
+                var user = candidate.toUser(encodedPasswords.get(i));
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userRepository.save(user));
+                    results[candidate.index()] = UserProvisioningResult.provisioned(
+                            candidate.command().email(), user.getId());
+                } catch (DataIntegrityViolationException conflict) {
+                    results[candidate.index()] = UserProvisioningResult.rejected(
+                            candidate.command().email(), EMAIL_ALREADY_REGISTERED);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tells whether a data integrity violation was reported for the given constraint.
+     * Databases qualify the constraint name differently (with the table, an index suffix or another case),
+     * so the name reported by Hibernate only has to contain it.
+     */
+    private static boolean violates(DataIntegrityViolationException exception, String constraintName) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null)
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+        }
+        return false;
+    }
+
+    /**
+     * Resolves the persisted roles from memory, assigning the default role when none is given.
+     * The device role is held by device credentials only, never by users.
+     */
+    private Set<Role> resolveRoles(Set<Role> requestedRoles) {
+        var roles = requestedRoles.stream()
+                .map(role -> {
+                    if (role.getName() == Roles.ROLE_DEVICE)
+                        throw new IllegalArgumentException("Role not assignable to users: " + role.getName());
+                    return roleRegistry.findByName(role.getName())
+                            .orElseThrow(() -> new IllegalArgumentException("Role not found: " + role.getName()));
+                })
+                .collect(Collectors.toSet());
+        // If no roles were provided, assign the persisted default role
+        if (roles.isEmpty()) {
+            var defaultRole = roleRegistry.findByName(Roles.ROLE_CLIENT)
+                    .orElseThrow(() -> new IllegalStateException("Default role not found"));
+            roles.add(defaultRole);
+        }
+        return roles;
+    }
+
+    /**
+     * A valid provisioning row, with its position in the command and its resolved roles.
+     */
+    private record ProvisioningCandidate(int index, ProvisionUserCommand command, Set<Role> roles) {
+        User toUser(String encodedPassword) {
+            return new User(command.email(), encodedPassword, roles);
+        }
     }
 }
\ No newline at end of file
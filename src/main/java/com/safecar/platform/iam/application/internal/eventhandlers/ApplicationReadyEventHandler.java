@@ -15,7 +15,7 @@ import org.slf4j.Logger;
  * Event handler for the ApplicationReadyEvent.
  * <p>
  *  This event is triggered when the application is ready to serve requests.
- *  It is used to seed the roles in the database.
+ *  It is used to seed the roles in the database and build the in-memory role registry.
  * </p>
  */
 @Service
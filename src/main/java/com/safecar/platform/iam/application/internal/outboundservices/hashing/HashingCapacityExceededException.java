@@ -0,0 +1,19 @@
+package com.safecar.platform.iam.application.internal.outboundservices.hashing;
+
+/**
+ * HashingCapacityExceededException
+ * <p>
+ *     Thrown by a {@link HashingService} when it cannot accept more hashing work.
+ *     Callers are expected to reject the request fast instead of waiting for capacity.
+ * </p>
+ */
+public class HashingCapacityExceededException extends RuntimeException {
+    /**
+     * Constructor
+     * @param message the detail message
+     * @param cause the cause of the rejection
+     */
+    public HashingCapacityExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,5 +1,7 @@
 package com.safecar.platform.iam.application.internal.outboundservices.hashing;
 
+import java.util.List;
+
 /**
  * HashingService
  * <p>
@@ -15,6 +17,13 @@ public interface HashingService {
      */
     String encode(CharSequence rawPassword);
 
+    /**
+     * Encode several raw passwords in parallel.
+     * @param rawPasswords the raw passwords to encode
+     * @return the encoded passwords, in the same order as the raw passwords
+     */
+    List<String> encodeAll(List<? extends CharSequence> rawPasswords);
+
     /**
      * Match a raw password with an encoded password.
      * @param rawPassword the raw password to match
@@ -22,4 +31,11 @@ public interface HashingService {
      * @return true if the raw password matches the encoded password, false otherwise
      */
     boolean matches(CharSequence rawPassword, String encodedPassword);
+
+    /**
+     * Check whether an encoded password was produced with an outdated algorithm or cost.
+     * @param encodedPassword the encoded password to check
+     * @return true if the password should be encoded again the next time the raw password is known
+     */
+    boolean needsRehash(String encodedPassword);
 }
\ No newline at end of file
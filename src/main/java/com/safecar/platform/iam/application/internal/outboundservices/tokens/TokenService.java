@@ -1,5 +1,7 @@
 package com.safecar.platform.iam.application.internal.outboundservices.tokens;
 
+import java.util.Collection;
+
 /**
  * TokenService
  * <p>
@@ -14,6 +16,16 @@ public interface TokenService {
      * @return the generated token
      */
     String generateToken(String username);
+    /**
+     * Generate a token for a given user, embedding the claims needed to authenticate
+     * the user without loading it from the database when the token mode allows it.
+     * @param userId the user identifier used as the token subject
+     * @param email the email of the user
+     * @param roleNames the names of the roles granted to the user
+     * @param securityVersion the security version of the user at the time of issue
+     * @return the generated token
+     */
+    String generateToken(String userId, String email, Collection<String> roleNames, long securityVersion);
     /**
      * Extract the username from a token.
      * @param token the token to extract the username from
@@ -26,4 +38,15 @@ public interface TokenService {
      * @return true if the token is valid, false otherwise
      */
     boolean validateToken(String token);
+    /**
+     * Revoke a token until it expires.
+     * @param token the token to revoke
+     * @return true if the token was valid and is now revoked, false otherwise
+     */
+    boolean revokeToken(String token);
+    /**
+     * Get the public keys that verify the issued tokens.
+     * @return the JSON Web Key Set of the verification keys, empty when tokens are signed with a shared secret
+     */
+    String getPublicKeySet();
 }
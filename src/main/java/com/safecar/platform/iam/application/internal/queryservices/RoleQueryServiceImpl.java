@@ -5,7 +5,7 @@ import org.springframework.stereotype.Service;
 import com.safecar.platform.iam.domain.model.entities.Role;
 import com.safecar.platform.iam.domain.model.queries.GetAllRolesQuery;
 import com.safecar.platform.iam.domain.services.RoleQueryService;
-import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.registries.RoleRegistry;
 
 import java.util.List;
 
@@ -13,18 +13,19 @@ import java.util.List;
  * RoleQueryServiceImpl
  * <p>
  *     Implementation of the {@link RoleQueryService} interface.
+ *     Roles are served from the {@link RoleRegistry}, without reaching the database.
  * </p>
  */
 @Service
 public class RoleQueryServiceImpl implements RoleQueryService {
-    private final RoleRepository roleRepository;
+    private final RoleRegistry roleRegistry;
 
     /**
      * Constructor
-     * @param roleRepository the {@link RoleRepository} instance
+     * @param roleRegistry the {@link RoleRegistry} instance
      */
-    public RoleQueryServiceImpl(RoleRepository roleRepository) {
-        this.roleRepository = roleRepository;
+    public RoleQueryServiceImpl(RoleRegistry roleRegistry) {
+        this.roleRegistry = roleRegistry;
     }
 
     /**
@@ -34,6 +35,6 @@ public class RoleQueryServiceImpl implements RoleQueryService {
      */
     @Override
     public List<Role> handle(GetAllRolesQuery query) {
-        return roleRepository.findAll();
+        return roleRegistry.findAll();
     }
 }
\ No newline at end of file
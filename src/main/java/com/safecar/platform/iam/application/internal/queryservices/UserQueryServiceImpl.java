@@ -1,16 +1,19 @@
 package com.safecar.platform.iam.application.internal.queryservices;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import com.safecar.platform.iam.domain.model.aggregates.User;
-import com.safecar.platform.iam.domain.model.valueobjects.Email;
 import com.safecar.platform.iam.domain.model.queries.GetAllUsersQuery;
 import com.safecar.platform.iam.domain.model.queries.GetUserByEmailQuery;
+import com.safecar.platform.iam.domain.model.queries.GetUsersPageQuery;
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
 import com.safecar.platform.iam.domain.services.UserQueryService;
+import com.safecar.platform.iam.infrastructure.persistence.jdbc.UserSummaryJdbcRepository;
 import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * UserQueryServiceImpl
@@ -21,32 +24,45 @@ import java.util.Optional;
 @Service
 public class UserQueryServiceImpl implements UserQueryService {
     private final UserRepository userRepository;
+    private final UserSummaryJdbcRepository userSummaryJdbcRepository;
 
     /**
      * Constructor
      * @param userRepository the {@link UserRepository} instance
+     * @param userSummaryJdbcRepository the {@link UserSummaryJdbcRepository} instance
      */
-    public UserQueryServiceImpl(UserRepository userRepository) {
+    public UserQueryServiceImpl(UserRepository userRepository, UserSummaryJdbcRepository userSummaryJdbcRepository) {
         this.userRepository = userRepository;
+        this.userSummaryJdbcRepository = userSummaryJdbcRepository;
     }
 
     /**
      * Handles the {@link GetAllUsersQuery} query.
      * @param query the {@link GetAllUsersQuery} instance
-     * @return the list of {@link User} instances
+     * @param consumer the consumer receiving each {@link UserSummary} as it is read
      */
     @Override
-    public List<User> handle(GetAllUsersQuery query) {
-        return userRepository.findAll();
+    public void handle(GetAllUsersQuery query, Consumer<UserSummary> consumer) {
+        userSummaryJdbcRepository.streamAll(consumer);
+    }
+
+    /**
+     * Handles the {@link GetUsersPageQuery} query.
+     * @param query the {@link GetUsersPageQuery} instance
+     * @return the list of {@link UserSummary} instances of the page
+     */
+    @Override
+    public List<UserSummary> handle(GetUsersPageQuery query) {
+        return userRepository.findSummaries(query.after(), Limit.of(query.limit()));
     }
 
     /**
      * Handles the {@link GetUserByEmailQuery} query.
      * @param query the {@link GetUserByEmailQuery} instance
-     * @return the {@link User} instance if found
+     * @return the {@link UserSummary} instance if found
      */
     @Override
-    public Optional<User> handle(GetUserByEmailQuery query) {
-    return userRepository.findByEmail(new Email(query.email()));
+    public Optional<UserSummary> handle(GetUserByEmailQuery query) {
+        return userRepository.findSummaryByEmail(query.email());
     }
 }
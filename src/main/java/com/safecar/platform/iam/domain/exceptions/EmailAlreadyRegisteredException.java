@@ -0,0 +1,20 @@
+package com.safecar.platform.iam.domain.exceptions;
+
+/**
+ * Exception thrown when a user tries to sign up with an email that already belongs to another user.
+ *
+ * @since 2026-10-18
+ * @version 1.0.0
+ */
+public class EmailAlreadyRegisteredException extends RuntimeException {
+
+    /**
+     * Constructs the exception for the given email.
+     *
+     * @param email the email that is already registered
+     * @param cause the constraint violation reported by the database
+     */
+    public EmailAlreadyRegisteredException(String email, Throwable cause) {
+        super("Email already exists: " + email, cause);
+    }
+}
@@ -0,0 +1,88 @@
+package com.safecar.platform.iam.domain.model.aggregates;
+
+import java.util.UUID;
+
+import com.safecar.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Device Credential Aggregate
+ * <p>
+ * The key with which a vehicle, or the dongle plugged into it, signs the telemetry it reports.
+ * The id of the credential is the device id sent with each request, and the secret is the HMAC key,
+ * shown once when the credential is issued. A revoked credential stays stored so that the revocation
+ * reaches every instance through the periodic refresh of their key tables.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@Entity
+@EqualsAndHashCode(callSuper = true)
+@Table(indexes = {
+        @Index(name = "ix_device_credentials_updated_at", columnList = "updated_at"),
+        @Index(name = "ix_device_credentials_vehicle_id", columnList = "vehicle_id") })
+public class DeviceCredential extends AuditableAbstractAggregateRoot<DeviceCredential> {
+
+    /**
+     * The vehicle whose telemetry the device reports
+     */
+    @Column(nullable = false)
+    private UUID vehicleId;
+
+    /**
+     * The HMAC key, encoded in Base64
+     */
+    @Column(nullable = false, length = 64)
+    private String secret;
+
+    /**
+     * Whether the credential was revoked
+     */
+    @Column(nullable = false)
+    private boolean revoked;
+
+    /**
+     * Default constructor for JPA.
+     */
+    protected DeviceCredential() {
+    }
+
+    /**
+     * Constructs a credential.
+     *
+     * @param vehicleId the id of the vehicle
+     * @param secret    the HMAC key, encoded in Base64
+     */
+    public DeviceCredential(UUID vehicleId, String secret) {
+        if (vehicleId == null)
+            throw new IllegalArgumentException("Vehicle id cannot be null");
+        if (secret == null || secret.isBlank())
+            throw new IllegalArgumentException("Secret cannot be null or blank");
+        this.vehicleId = vehicleId;
+        this.secret = secret;
+    }
+
+    /**
+     * Revokes the credential.
+     */
+    public void revoke() {
+        this.revoked = true;
+    }
+
+    /**
+     * Checks whether the credential belongs to a vehicle.
+     *
+     * @param vehicleId the id of the vehicle
+     * @return {@code true} if the device reports the telemetry of the vehicle
+     */
+    public boolean belongsTo(UUID vehicleId) {
+        return this.vehicleId.equals(vehicleId);
+    }
+}
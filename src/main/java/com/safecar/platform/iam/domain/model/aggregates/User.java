@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 
 import com.safecar.platform.iam.domain.model.commands.SignUpCommand;
 import com.safecar.platform.iam.domain.model.entities.Role;
+import com.safecar.platform.iam.domain.model.events.UserSecurityChangedEvent;
 import com.safecar.platform.iam.domain.model.valueobjects.Email;
 import com.safecar.platform.iam.domain.model.valueobjects.Password;
 import com.safecar.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
@@ -21,6 +22,8 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.AttributeOverride;
 
 /**
@@ -35,14 +38,20 @@ import jakarta.persistence.AttributeOverride;
  */
 @Data
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email"))
 @EqualsAndHashCode(callSuper = true)
 public class User extends AuditableAbstractAggregateRoot<User>{
 
+    /**
+     * Name of the unique constraint on the email, as created by the schema migrations
+     */
+    public static final String EMAIL_CONSTRAINT = "uk_users_email";
+
     /**
      * User's email address
      */
     @Embedded
-    @AttributeOverride(name = "value", column = @Column(name = "email"))
+    @AttributeOverride(name = "value", column = @Column(name = "email", nullable = false))
     private Email email;
 
     /**
@@ -53,9 +62,10 @@ public class User extends AuditableAbstractAggregateRoot<User>{
     private Password password;
 
     /**
-     * Roles assigned to the user
+     * Roles assigned to the user.
+     * Loaded on demand; read paths that need them use projections that join them explicitly.
      */
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "user_roles",
         joinColumns = @JoinColumn(name = "user_id"),
@@ -63,6 +73,13 @@ public class User extends AuditableAbstractAggregateRoot<User>{
     )
     private Set<Role> roles = new HashSet<>();
 
+    /**
+     * Version of the user's credentials and roles.
+     * It is incremented every time they change, so tokens issued before the change can be detected as stale.
+     */
+    @Column(nullable = false)
+    private Long securityVersion = 0L;
+
     /**
      * Default constructor initializing the user with a default role.
      */
@@ -138,6 +155,40 @@ public class User extends AuditableAbstractAggregateRoot<User>{
         return this;
     }
 
+    /**
+     * Replace the user's password and invalidate the principals issued for the previous one.
+     *
+     * @param encodedPassword the new encoded password.
+     * @return the user.
+     */
+    public User changePassword(String encodedPassword) {
+        this.password = new Password(encodedPassword);
+        return this.incrementSecurityVersion();
+    }
+
+    /**
+     * Replace the roles assigned to the user and invalidate the principals issued for the previous ones.
+     *
+     * @param roles the new roles.
+     * @return the user.
+     */
+    public User changeRoles(Set<Role> roles) {
+        this.roles.clear();
+        this.addRoles(roles);
+        return this.incrementSecurityVersion();
+    }
+
+    /**
+     * Increment the security version and register a {@link UserSecurityChangedEvent}.
+     *
+     * @return the user.
+     */
+    private User incrementSecurityVersion() {
+        this.securityVersion = this.securityVersion + 1;
+        this.registerEvent(new UserSecurityChangedEvent(this.getId(), this.securityVersion));
+        return this;
+    }
+
     /**
      * Factory method to create a User from a SignUpCommand and a Role.
      * @param command SignUpCommand containing user details
@@ -0,0 +1,21 @@
+package com.safecar.platform.iam.domain.model.commands;
+
+/**
+ * Command to replace the password of a user.
+ * <p>
+ * Tokens issued before the change are stale and their principal is loaded again from the database.
+ *
+ * @param email    the email of the user
+ * @param password the new raw password of the user
+ *
+ * @since 2026-10-18
+ * @version 1.0.0
+ */
+public record ChangeUserPasswordCommand(String email, String password) {
+    public ChangeUserPasswordCommand {
+        if (email == null || email.isBlank())
+            throw new IllegalArgumentException("Email cannot be null or blank");
+        if (password == null || password.isBlank())
+            throw new IllegalArgumentException("Password cannot be null or blank");
+    }
+}
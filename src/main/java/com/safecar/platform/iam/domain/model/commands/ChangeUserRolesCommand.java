@@ -0,0 +1,24 @@
+package com.safecar.platform.iam.domain.model.commands;
+
+import java.util.Set;
+
+import com.safecar.platform.iam.domain.model.entities.Role;
+
+/**
+ * Command to replace the roles of a user.
+ * <p>
+ * Tokens issued before the change are stale and their principal is loaded again from the database.
+ *
+ * @param email the email of the user
+ * @param roles the new roles of the user; the default role is assigned when empty
+ *
+ * @since 2026-10-18
+ * @version 1.0.0
+ */
+public record ChangeUserRolesCommand(String email, Set<Role> roles) {
+    public ChangeUserRolesCommand {
+        if (email == null || email.isBlank())
+            throw new IllegalArgumentException("Email cannot be null or blank");
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+}
@@ -0,0 +1,21 @@
+package com.safecar.platform.iam.domain.model.commands;
+
+import java.util.UUID;
+
+/**
+ * IssueDeviceCredentialCommand
+ * <p>
+ * Command record to issue a credential to a device reporting the telemetry of a vehicle.
+ * </p>
+ *
+ * @param vehicleId the id of the vehicle
+ *
+ * @since 2026-10-18
+ */
+public record IssueDeviceCredentialCommand(UUID vehicleId) {
+    public IssueDeviceCredentialCommand {
+        if (vehicleId == null) {
+            throw new IllegalArgumentException("Vehicle id cannot be null");
+        }
+    }
+}
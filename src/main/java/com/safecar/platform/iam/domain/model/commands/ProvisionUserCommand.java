@@ -0,0 +1,28 @@
+package com.safecar.platform.iam.domain.model.commands;
+
+import java.util.Set;
+
+import com.safecar.platform.iam.domain.model.entities.Role;
+
+/**
+ * Command to create one user account as part of a bulk provisioning request.
+ * <p>
+ * Email and password rules are checked while the command is handled, so a row that breaks them
+ * is reported on its own instead of failing the whole request.
+ *
+ * @param email    the email of the user
+ * @param password the raw password of the user
+ * @param roles    the roles of the user; the default role is assigned when empty
+ *
+ * @since 2026-10-18
+ * @version 1.0.0
+ */
+public record ProvisionUserCommand(String email, String password, Set<Role> roles) {
+    public ProvisionUserCommand {
+        if (email == null || email.isBlank())
+            throw new IllegalArgumentException("Email cannot be null or blank");
+        if (password == null || password.isBlank())
+            throw new IllegalArgumentException("Password cannot be null or blank");
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+}
@@ -0,0 +1,19 @@
+package com.safecar.platform.iam.domain.model.commands;
+
+import java.util.List;
+
+/**
+ * Command to create a chunk of user accounts in a single round of hashing and batched inserts.
+ *
+ * @param users the users to create
+ *
+ * @since 2026-10-18
+ * @version 1.0.0
+ */
+public record ProvisionUsersCommand(List<ProvisionUserCommand> users) {
+    public ProvisionUsersCommand {
+        if (users == null || users.isEmpty())
+            throw new IllegalArgumentException("Users cannot be null or empty");
+        users = List.copyOf(users);
+    }
+}
@@ -0,0 +1,22 @@
+package com.safecar.platform.iam.domain.model.commands;
+
+import java.util.UUID;
+
+/**
+ * RevokeDeviceCredentialCommand
+ * <p>
+ * Command record to revoke the credential of a device of a vehicle.
+ * </p>
+ *
+ * @param vehicleId the id of the vehicle
+ * @param deviceId  the id of the credential
+ *
+ * @since 2026-10-18
+ */
+public record RevokeDeviceCredentialCommand(UUID vehicleId, UUID deviceId) {
+    public RevokeDeviceCredentialCommand {
+        if (vehicleId == null || deviceId == null) {
+            throw new IllegalArgumentException("Vehicle id and device id cannot be null");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.safecar.platform.iam.domain.model.commands;
+
+/**
+ * SignOutCommand
+ * <p>
+ * Command record for user sign-out containing the token to revoke.
+ * </p>
+ */
+public record SignOutCommand(String token) {
+    public SignOutCommand {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Token cannot be null or empty");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.safecar.platform.iam.domain.model.events;
+
+import java.util.UUID;
+
+/**
+ * Domain event representing a change in the credentials or roles of a user.
+ * <p>
+ * Principals issued with an older security version must no longer be trusted.
+ *
+ * @param userId          the unique identifier of the user
+ * @param securityVersion the security version of the user after the change
+ * 
+ * @since 2026-10-18
+ * @version 1.0.0
+ */
+public record UserSecurityChangedEvent(
+        UUID userId,
+        Long securityVersion
+) {
+}
@@ -0,0 +1,19 @@
+package com.safecar.platform.iam.domain.model.projections;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only view of the data needed to authenticate a user, loaded without the {@code User} aggregate.
+ *
+ * @param id              the unique identifier of the user
+ * @param email           the email of the user
+ * @param password        the encoded password of the user
+ * @param securityVersion the version of the user's credentials and roles
+ * @param roleNames       the names of the roles assigned to the user
+ *
+ * @since 2026-10-18
+ * @version 1.0.0
+ */
+public record UserCredentials(UUID id, String email, String password, Long securityVersion, List<String> roleNames) {
+}
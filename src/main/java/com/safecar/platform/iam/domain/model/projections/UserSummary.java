@@ -0,0 +1,17 @@
+package com.safecar.platform.iam.domain.model.projections;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only summary of a user, used to list users without loading the {@code User} aggregate.
+ *
+ * @param id        the unique identifier of the user
+ * @param email     the email of the user
+ * @param roleNames the names of the roles assigned to the user
+ *
+ * @since 2026-10-18
+ * @version 1.0.0
+ */
+public record UserSummary(UUID id, String email, List<String> roleNames) {
+}
@@ -3,7 +3,7 @@ package com.safecar.platform.iam.domain.model.queries;
 /**
  * Query to retrieve all users from the system.
  * <p>
- * Used to request a list of all registered users in the application.
+ * Used to request all registered users in the application, one at a time.
  *
  * @author GonzaloQu3dena
  * @since 2025-10-06
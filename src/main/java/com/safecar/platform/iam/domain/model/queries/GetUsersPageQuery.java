@@ -0,0 +1,22 @@
+package com.safecar.platform.iam.domain.model.queries;
+
+import java.util.UUID;
+
+/**
+ * Query to retrieve one page of users, ordered by id, using keyset pagination.
+ * <p>
+ * The page starts right after the given user id, so each page costs the same
+ * regardless of how deep into the list it is.
+ *
+ * @param after the id of the last user of the previous page, or null for the first page
+ * @param limit the maximum number of users in the page
+ *
+ * @since 2026-10-18
+ * @version 1.0.0
+ */
+public record GetUsersPageQuery(UUID after, int limit) {
+    public GetUsersPageQuery {
+        if (limit < 1)
+            throw new IllegalArgumentException("Limit must be greater than zero");
+    }
+}
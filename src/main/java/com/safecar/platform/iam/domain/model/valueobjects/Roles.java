@@ -10,6 +10,7 @@ package com.safecar.platform.iam.domain.model.valueobjects;
  *  <li>{@link #ROLE_ADMIN} - Administrative user with full access.</li>
  *  <li>{@link #ROLE_DRIVER} - User with permissions related to driving functionalities.</li>
  *  <li>{@link #ROLE_MECHANIC} - User with permissions related to vehicle maintenance and repairs.</li>
+ *  <li>{@link #ROLE_DEVICE} - Vehicle or on-board dongle reporting telemetry with a device credential.</li>
  * </ul>
  * 
  * @author GonzaloQu3dena
@@ -21,4 +22,5 @@ public enum Roles {
     ROLE_CLIENT,
     ROLE_DRIVER,
     ROLE_MECHANIC,
+    ROLE_DEVICE,
 }
@@ -0,0 +1,47 @@
+package com.safecar.platform.iam.domain.model.valueobjects;
+
+import java.util.UUID;
+
+/**
+ * Outcome of the provisioning of one user account.
+ *
+ * @param email  the email of the user
+ * @param userId the id of the created user, or {@code null} when it was rejected
+ * @param error  the reason why the user was rejected, or {@code null} when it was created
+ *
+ * @since 2026-10-18
+ * @version 1.0.0
+ */
+public record UserProvisioningResult(String email, UUID userId, String error) {
+
+    /**
+     * Creates the result of a user that was created.
+     *
+     * @param email  the email of the user
+     * @param userId the id of the created user
+     * @return the result
+     */
+    public static UserProvisioningResult provisioned(String email, UUID userId) {
+        return new UserProvisioningResult(email, userId, null);
+    }
+
+    /**
+     * Creates the result of a user that was rejected.
+     *
+     * @param email the email of the user
+     * @param error the reason why the user was rejected
+     * @return the result
+     */
+    public static UserProvisioningResult rejected(String email, String error) {
+        return new UserProvisioningResult(email, null, error);
+    }
+
+    /**
+     * Checks whether the user was created.
+     *
+     * @return {@code true} if the user was created, {@code false} otherwise
+     */
+    public boolean isProvisioned() {
+        return userId != null;
+    }
+}
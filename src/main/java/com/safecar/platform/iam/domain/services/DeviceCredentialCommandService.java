@@ -0,0 +1,31 @@
+package com.safecar.platform.iam.domain.services;
+
+import java.util.Optional;
+
+import com.safecar.platform.iam.domain.model.aggregates.DeviceCredential;
+import com.safecar.platform.iam.domain.model.commands.IssueDeviceCredentialCommand;
+import com.safecar.platform.iam.domain.model.commands.RevokeDeviceCredentialCommand;
+
+/**
+ * Service interface for handling device credential commands.
+ *
+ * @since 2026-10-18
+ */
+public interface DeviceCredentialCommandService {
+
+    /**
+     * Handles the command to issue a device credential, with a new random secret.
+     *
+     * @param command the command containing the vehicle of the device
+     * @return the issued {@link DeviceCredential}
+     */
+    DeviceCredential handle(IssueDeviceCredentialCommand command);
+
+    /**
+     * Handles the command to revoke a device credential.
+     *
+     * @param command the command containing the vehicle and the id of the credential
+     * @return the revoked {@link DeviceCredential}, or empty if the vehicle has no such credential
+     */
+    Optional<DeviceCredential> handle(RevokeDeviceCredentialCommand command);
+}
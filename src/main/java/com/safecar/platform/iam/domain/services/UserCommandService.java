@@ -1,12 +1,19 @@
 package com.safecar.platform.iam.domain.services;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import com.safecar.platform.iam.domain.model.aggregates.User;
+import com.safecar.platform.iam.domain.model.commands.ChangeUserPasswordCommand;
+import com.safecar.platform.iam.domain.model.commands.ChangeUserRolesCommand;
+import com.safecar.platform.iam.domain.model.commands.ProvisionUsersCommand;
 import com.safecar.platform.iam.domain.model.commands.SignInCommand;
+import com.safecar.platform.iam.domain.model.commands.SignOutCommand;
 import com.safecar.platform.iam.domain.model.commands.SignUpCommand;
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
+import com.safecar.platform.iam.domain.model.valueobjects.UserProvisioningResult;
 
 /**
  * Service interface for handling user-related commands such as sign-up and sign-in.
@@ -24,6 +31,7 @@ public interface UserCommandService {
      *
      * @param command the sign-up command containing user registration details
      * @return an {@link Optional} containing the created {@link UserAggregate} if successful, or empty if not
+     * @throws com.safecar.platform.iam.domain.exceptions.EmailAlreadyRegisteredException if the email is taken
      */
     Optional<User> handle(SignUpCommand command);
 
@@ -31,8 +39,48 @@ public interface UserCommandService {
      * Handles the user sign-in command.
      *
      * @param command the sign-in command containing user authentication details
-     * @return an {@link Optional} containing an {@link ImmutablePair} of the authenticated {@link UserAggregate}
+     * @return an {@link Optional} containing an {@link ImmutablePair} of the authenticated user's {@link UserSummary}
      * and a generated authentication token if successful, or empty if authentication fails
      */
-    Optional<ImmutablePair<User, String>> handle(SignInCommand command);
-}
\ No newline at end of file
+    Optional<ImmutablePair<UserSummary, String>> handle(SignInCommand command);
+
+    /**
+     * Handles the user sign-out command.
+     *
+     * @param command the sign-out command containing the token to revoke
+     * @return true if the token was valid and is now revoked, false otherwise
+     */
+    boolean handle(SignOutCommand command);
+
+    /**
+     * Handles the command to create a chunk of users.
+     * <p>
+     * Each user is validated, hashed and inserted independently of the outcome of the others.
+     *
+     * @param command the provisioning command containing the users to create
+     * @return the outcome of each user, in the same order as the users of the command
+     */
+    List<UserProvisioningResult> handle(ProvisionUsersCommand command);
+
+    /**
+     * Handles the command to replace the password of a user.
+     * <p>
+     * The security version of the user is incremented, so tokens issued before the change are stale.
+     *
+     * @param command the command containing the email of the user and the new password
+     * @return an {@link Optional} containing the updated {@link User}, or empty if no user has the email
+     * @throws IllegalArgumentException if the new password does not meet the password rules
+     */
+    Optional<User> handle(ChangeUserPasswordCommand command);
+
+    /**
+     * Handles the command to replace the roles of a user.
+     * <p>
+     * The security version of the user is incremented, so tokens issued before the change are stale.
+     *
+     * @param command the command containing the email of the user and the new roles
+     * @return an {@link Optional} containing the updated {@link User}, or empty if no user has the email
+     * @throws IllegalArgumentException if a role does not exist or cannot be assigned to users
+     */
+    Optional<User> handle(ChangeUserRolesCommand command);
+}
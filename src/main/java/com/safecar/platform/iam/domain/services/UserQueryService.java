@@ -2,10 +2,12 @@ package com.safecar.platform.iam.domain.services;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-import com.safecar.platform.iam.domain.model.aggregates.User;
 import com.safecar.platform.iam.domain.model.queries.GetAllUsersQuery;
 import com.safecar.platform.iam.domain.model.queries.GetUserByEmailQuery;
+import com.safecar.platform.iam.domain.model.queries.GetUsersPageQuery;
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
 
 /**
  * Service interface for handling user-related query operations.
@@ -20,17 +22,27 @@ public interface UserQueryService {
 
     /**
      * Handles the query to retrieve all users.
+     * <p>
+     * Users are handed to the consumer as they are read, so they are never held in memory all at once.
      *
-     * @param query the query object for retrieving all users
-     * @return a list of all {@link UserAggregate} instances
+     * @param query    the query object for retrieving all users
+     * @param consumer the consumer receiving each {@link UserSummary}
      */
-    List<User> handle(GetAllUsersQuery query);
+    void handle(GetAllUsersQuery query, Consumer<UserSummary> consumer);
+
+    /**
+     * Handles the query to retrieve one page of users.
+     *
+     * @param query the query object containing the keyset cursor and the page size
+     * @return the summaries of the users of the page, ordered by id
+     */
+    List<UserSummary> handle(GetUsersPageQuery query);
 
     /**
      * Handles the query to retrieve a user by their email.
      *
      * @param query the query object containing the email
-     * @return an {@link Optional} containing the found {@link User}, or empty if not found
+     * @return an {@link Optional} containing the found {@link UserSummary}, or empty if not found
      */
-    Optional<User> handle(GetUserByEmailQuery query);
+    Optional<UserSummary> handle(GetUserByEmailQuery query);
 }
\ No newline at end of file
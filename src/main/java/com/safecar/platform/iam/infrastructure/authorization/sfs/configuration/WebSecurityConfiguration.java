@@ -1,8 +1,11 @@
 package com.safecar.platform.iam.infrastructure.authorization.sfs.configuration;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -14,12 +17,24 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.cors.CorsConfiguration;
 
+import com.safecar.platform.iam.infrastructure.authorization.sfs.pipeline.AuthenticationRateLimitingFilter;
 import com.safecar.platform.iam.infrastructure.authorization.sfs.pipeline.BearerAuthorizationRequestFilter;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.pipeline.DeviceSignatureAuthorizationFilter;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.services.AuthenticationRateLimiter;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.services.DeviceKeyRegistry;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.services.SecurityVersionRegistry;
 import com.safecar.platform.iam.infrastructure.hashing.bcrypt.BCryptHashingService;
 import com.safecar.platform.iam.infrastructure.tokens.jwt.BearerTokenService;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.DispatcherType;
+
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -32,23 +47,37 @@ import java.util.List;
 @Configuration
 @EnableMethodSecurity
 public class WebSecurityConfiguration {
+    // Telemetry ingestion, the only requests devices sign
+    private static final String DEVICE_PATH = "/api/v1/vehicles/*/readings";
 
     private final BearerTokenService tokenService;
     private final BCryptHashingService hashingService;
     private final UserDetailsService userDetailsService;
     private final AuthenticationEntryPoint unauthorizedRequestHandlerEntryPoint;
+    private final SecurityVersionRegistry securityVersionRegistry;
+    private final AuthenticationRateLimiter authenticationRateLimiter;
+    private final DeviceKeyRegistry deviceKeyRegistry;
+    private final MeterRegistry meterRegistry;
 
     public WebSecurityConfiguration(
             @Qualifier("defaultUserDetailsService")
             UserDetailsService userDetailsService,
             BearerTokenService tokenService,
             BCryptHashingService hashingService,
-            AuthenticationEntryPoint unauthorizedRequestHandlerEntryPoint) {
+            AuthenticationEntryPoint unauthorizedRequestHandlerEntryPoint,
+            SecurityVersionRegistry securityVersionRegistry,
+            AuthenticationRateLimiter authenticationRateLimiter,
+            DeviceKeyRegistry deviceKeyRegistry,
+            ObjectProvider<MeterRegistry> meterRegistry) {
 
         this.userDetailsService = userDetailsService;
         this.tokenService = tokenService;
         this.hashingService = hashingService;
         this.unauthorizedRequestHandlerEntryPoint = unauthorizedRequestHandlerEntryPoint;
+        this.securityVersionRegistry = securityVersionRegistry;
+        this.authenticationRateLimiter = authenticationRateLimiter;
+        this.deviceKeyRegistry = deviceKeyRegistry;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
     }
 
     /**
@@ -61,7 +90,33 @@ public class WebSecurityConfiguration {
             BearerTokenService tokenService,
             @Qualifier("defaultUserDetailsService") UserDetailsService uds
     ) {
-        return new BearerAuthorizationRequestFilter(tokenService, uds);
+        return new BearerAuthorizationRequestFilter(tokenService, uds, securityVersionRegistry, meterRegistry);
+    }
+
+    /**
+     * Creates the AuthenticationRateLimitingFilter bean.
+     *
+     * @return AuthenticationRateLimitingFilter limiting the attempts on the authentication endpoints.
+     */
+    @Bean
+    public AuthenticationRateLimitingFilter authenticationRateLimitingFilter() {
+        return new AuthenticationRateLimitingFilter(authenticationRateLimiter);
+    }
+
+    /**
+     * Creates the DeviceSignatureAuthorizationFilter bean.
+     *
+     * @param clockSkew the largest accepted difference between the signed timestamp and the current time.
+     * @param maximumBodySize the largest accepted body of a signed request.
+     * @return DeviceSignatureAuthorizationFilter authenticating the signed requests of devices on the ingestion paths.
+     */
+    @Bean
+    public DeviceSignatureAuthorizationFilter deviceSignatureAuthorizationFilter(
+            @Value("${authorization.device.signature.clock-skew:5m}") Duration clockSkew,
+            @Value("${authorization.device.signature.maximum-body-size:1MB}") DataSize maximumBodySize) {
+        var devicePaths = PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, DEVICE_PATH);
+        return new DeviceSignatureAuthorizationFilter(deviceKeyRegistry, devicePaths,
+                clockSkew, Math.toIntExact(maximumBodySize.toBytes()), meterRegistry);
     }
 
     /**
@@ -104,17 +159,24 @@ public class WebSecurityConfiguration {
      * Configures the security filter chain.
      * <p>
      * Sets up CORS, disables CSRF, configures exception handling, stateless session management,
-     * allows unauthenticated access to specific endpoints, and adds the JWT Bearer filter.
+     * allows unauthenticated access to specific endpoints, restricts the other actuator endpoints
+     * to administrators, and adds the JWT Bearer filter
+     * preceded by the authentication rate limiting filter and, on the ingestion paths only,
+     * the device signature filter.
      *
      * @param http HttpSecurity object for configuration.
+     * @param deviceSignatureAuthorizationFilter the filter authenticating the signed requests of devices.
      * @return Configured SecurityFilterChain.
      * @throws Exception if configuration fails.
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+            DeviceSignatureAuthorizationFilter deviceSignatureAuthorizationFilter) throws Exception {
         // URLs we leave unsecured (including Swagger/OpenAPI)
         String[] publicMatchers = {
                 "/api/v1/authentication/**",
+                "/.well-known/jwks.json",
+                "/actuator/health",
                 "/v3/api-docs/**",
                 "/swagger-ui.html",
                 "/swagger-ui/**",
@@ -139,7 +201,12 @@ public class WebSecurityConfiguration {
                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // Authorization rules
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches resume a request already authorized (alert streams, streamed listings);
+                        // the stateless security context is not carried over to them
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(publicMatchers).permitAll()
+                        // Metrics and startup steps reveal traffic, authentication failures and limiter state
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 // Set the authentication provider by calling the bean method.
@@ -148,6 +215,16 @@ public class WebSecurityConfiguration {
                 .addFilterBefore(
                         authorizationRequestFilter(tokenService, userDetailsService),
                         UsernamePasswordAuthenticationFilter.class
+                )
+                // Reject throttled authentication attempts before any token or password work.
+                .addFilterBefore(
+                        authenticationRateLimitingFilter(),
+                        BearerAuthorizationRequestFilter.class
+                )
+                // Authenticate signed device requests from the in-memory key table, skipping token parsing.
+                .addFilterBefore(
+                        deviceSignatureAuthorizationFilter,
+                        BearerAuthorizationRequestFilter.class
                 );
 
         return http.build();
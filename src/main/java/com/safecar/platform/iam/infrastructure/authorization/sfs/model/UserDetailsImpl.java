@@ -2,6 +2,7 @@ package com.safecar.platform.iam.infrastructure.authorization.sfs.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.safecar.platform.iam.domain.model.aggregates.User;
+import com.safecar.platform.iam.domain.model.projections.UserCredentials;
 
 import lombok.Getter;
 import lombok.EqualsAndHashCode;
@@ -10,12 +11,14 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Implementation of {@link UserDetails} for Spring Security.
  * <p>
  * Encapsulates user information such as username, password, authorities, and account status flags.
  * Used by Spring Security for authentication and authorization.
+ * Instances are immutable, so they can be cached and shared between requests.
  * </p>
  */
 @Getter
@@ -70,7 +73,7 @@ public class UserDetailsImpl implements UserDetails {
     public UserDetailsImpl(String username, String password, Collection<? extends GrantedAuthority> authorities) {
         this.username = username;
         this.password = password;
-        this.authorities = authorities;
+        this.authorities = List.copyOf(authorities);
         this.accountNonExpired = true;
         this.accountNonLocked = true;
         this.credentialsNonExpired = true;
@@ -99,4 +102,37 @@ public class UserDetailsImpl implements UserDetails {
                 authorities
         );
     }
+
+    /**
+     * Builds a {@code UserDetailsImpl} instance from the supplied {@code UserCredentials} projection.
+     *
+     * @param credentials the credentials of the user
+     * @return a new {@code UserDetailsImpl} instance
+     */
+    public static UserDetailsImpl build(UserCredentials credentials) {
+        var authorities = credentials.roleNames().stream()
+            .map(SimpleGrantedAuthority::new)
+            .toList();
+
+        return new UserDetailsImpl(credentials.email(), credentials.password(), authorities);
+    }
+
+    /**
+     * Builds a {@code UserDetailsImpl} instance from the claims of a self-contained token.
+     *
+     * <p>
+     * The password is not part of the token, so the resulting principal carries no credentials.
+     * </p>
+     *
+     * @param email     the email of the user
+     * @param roleNames the names of the roles granted to the user
+     * @return a new {@code UserDetailsImpl} instance
+     */
+    public static UserDetailsImpl build(String email, Collection<String> roleNames) {
+        var authorities = roleNames.stream()
+            .map(SimpleGrantedAuthority::new)
+            .toList();
+
+        return new UserDetailsImpl(email, null, authorities);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.safecar.platform.iam.infrastructure.authorization.sfs.pipeline;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.services.AuthenticationRateLimiter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Authentication Rate Limiting Filter
+ * <p>
+ *     Admits authentication attempts through the {@link AuthenticationRateLimiter} before they reach
+ *     the controller, so rejected attempts never cost a password hash. Attempts are limited per client address
+ *     and per the {@code email} field of the JSON body, which is buffered and replayed to the controller.
+ *     Rejected attempts receive a 429 response with a {@code Retry-After} header, in seconds.
+ * </p>
+ */
+public class AuthenticationRateLimitingFilter extends OncePerRequestFilter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuthenticationRateLimitingFilter.class);
+    private static final String AUTHENTICATION_PATH = "/api/v1/authentication/";
+    private static final String EMAIL_FIELD = "email";
+    private static final int MAXIMUM_BODY_BYTES = 16 * 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final AuthenticationRateLimiter rateLimiter;
+
+    /**
+     * Constructor
+     * @param rateLimiter {@link AuthenticationRateLimiter} Authentication rate limiter
+     */
+    public AuthenticationRateLimitingFilter(AuthenticationRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !request.getRequestURI().startsWith(request.getContextPath() + AUTHENTICATION_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        var addressWait = rateLimiter.tryAcquireForAddress(request.getRemoteAddr());
+        if (!addressWait.isZero()) {
+            reject(response, addressWait);
+            return;
+        }
+        var body = request.getInputStream().readNBytes(MAXIMUM_BODY_BYTES + 1);
+        if (body.length <= MAXIMUM_BODY_BYTES) {
+            var email = emailOf(body);
+            var emailWait = email != null ? rateLimiter.tryAcquireForEmail(email) : Duration.ZERO;
+            if (!emailWait.isZero()) {
+                reject(response, emailWait);
+                return;
+            }
+        }
+        filterChain.doFilter(new BufferedBodyRequest(request, body), response);
+    }
+
+    private void reject(HttpServletResponse response, Duration wait) {
+        var seconds = Math.max(1, (wait.toMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+    }
+
+    /**
+     * Reads the top-level {@code email} field of a JSON body without binding the whole document.
+     * @param body the request body
+     * @return the email, or null if the body is not JSON or has no email
+     */
+    private String emailOf(byte[] body) {
+        try (var parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+                return null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var field = parser.currentName();
+                var value = parser.nextToken();
+                if (EMAIL_FIELD.equals(field))
+                    return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Cannot read the email of an authentication request: {}", e.getMessage());
+        }
+        return null;
+    }
+}
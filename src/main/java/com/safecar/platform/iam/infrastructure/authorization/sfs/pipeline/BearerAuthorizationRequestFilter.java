@@ -16,10 +16,17 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 
 import com.safecar.platform.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.safecar.platform.iam.infrastructure.tokens.jwt.PrincipalClaims;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.services.SecurityVersionRegistry;
 import com.safecar.platform.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
 import com.safecar.platform.iam.infrastructure.authorization.sfs.model.UsernamePasswordAuthenticationTokenBuilder;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Filter to authenticate requests with Bearer token
@@ -28,31 +35,51 @@ import java.io.IOException;
  *     It will extract the token from the request and validate it.
  *     If the token is valid, it will set the user authentication in the security context.
  *     The user authentication will be set with the user details from the token.
+ *     Self-contained tokens are trusted as they are unless the user's security version changed
+ *     after they were issued, in which case the user details are loaded from the database.
+ *     Revoked tokens are rejected in constant time, without a database lookup.
+ *     The time spent authenticating each request is recorded under {@code iam.authorization.filter.duration},
+ *     tagged with the outcome: {@code anonymous}, {@code rejected}, {@code claims}, {@code database} or {@code error}.
  * </p>
  */
 public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BearerAuthorizationRequestFilter.class);
+    private static final String TIMER_NAME = "iam.authorization.filter.duration";
+    private static final String OUTCOME_ANONYMOUS = "anonymous";
+    private static final String OUTCOME_REJECTED = "rejected";
+    private static final String OUTCOME_CLAIMS = "claims";
+    private static final String OUTCOME_DATABASE = "database";
+    private static final String OUTCOME_ERROR = "error";
     private final BearerTokenService tokenService;
 
     @Qualifier("defaultUserDetailsService")
     private final UserDetailsService userDetailsService;
 
+    private final SecurityVersionRegistry securityVersionRegistry;
+
+    private final MeterRegistry meterRegistry;
+
     /**
      * Constructor
      * @param tokenService {@link BearerTokenService} Bearer token service
      * @param userDetailsService {@link UserDetailsService} User details service
+     * @param securityVersionRegistry {@link SecurityVersionRegistry} Security version registry
+     * @param meterRegistry {@link MeterRegistry} Registry receiving the authentication timings
      */
-    public BearerAuthorizationRequestFilter(BearerTokenService tokenService, UserDetailsService userDetailsService) {
+    public BearerAuthorizationRequestFilter(BearerTokenService tokenService, UserDetailsService userDetailsService,
+            SecurityVersionRegistry securityVersionRegistry, MeterRegistry meterRegistry) {
         this.tokenService = tokenService;
         this.userDetailsService = userDetailsService;
+        this.securityVersionRegistry = securityVersionRegistry;
+        this.meterRegistry = meterRegistry;
     }
 
     /**
      * Filter requests
      * <p>
      *     This method will filter the requests.
-     *     It will extract the Bearer token from the request.
+     *     It will extract the Bearer token from the request and verify it once.
      *     If the token is valid, it will set the user authentication in the security context.
      *     The user authentication will be set with the user details from the token.
      *     If the token is not valid, it will log a warning.
@@ -66,14 +93,24 @@ public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
+        var sample = Timer.start(meterRegistry);
+        var outcome = OUTCOME_ANONYMOUS;
         try {
             // ──── 1) Extraer el header y el token ────────────────
             String bearerToken = tokenService.getBearerTokenFrom(request);
-            if (bearerToken != null && tokenService.validateToken(bearerToken)) {
-                // ──── 2) Obtener el username y cargar UserDetails ───
-                String username = tokenService.getUsernameFromToken(bearerToken);
-                UserDetailsImpl user = (UserDetailsImpl)
-                        userDetailsService.loadUserByUsername(username);
+            var claims = bearerToken != null
+                    ? tokenService.getVerifiedClaimsFrom(bearerToken).filter(verifiedClaims -> !tokenService.isRevoked(verifiedClaims))
+                    : Optional.<Claims>empty();
+            if (bearerToken != null && claims.isEmpty())
+                outcome = OUTCOME_REJECTED;
+            if (claims.isPresent()) {
+                // ──── 2) Obtener el username y construir UserDetails ───
+                String username = claims.get().getSubject();
+                var trusted = isTrustedPrincipal(claims.get());
+                outcome = trusted ? OUTCOME_CLAIMS : OUTCOME_DATABASE;
+                UserDetailsImpl user = trusted
+                        ? UserDetailsImpl.build(PrincipalClaims.emailOf(claims.get()), PrincipalClaims.roleNamesOf(claims.get()))
+                        : (UserDetailsImpl) userDetailsService.loadUserByUsername(username);
 
                 // ──── 3) Construir el Authentication y setear en contexto ───
                 UsernamePasswordAuthenticationToken auth = 
@@ -83,10 +120,26 @@ public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
             }
             // si bearerToken es null o inválido, no autenticamos y dejamos pasar
         } catch (Exception ex) {
+            outcome = OUTCOME_ERROR;
             LOGGER.error("Cannot set user authentication: {}", ex.getMessage());
         }
+        sample.stop(meterRegistry.timer(TIMER_NAME, "outcome", outcome));
 
         // ──── 4) Continuar la cadena de filtros ─────────────
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Checks whether the principal can be built from the claims alone.
+     * <p>
+     *     That is the case when the token is self-contained and no change to the user's
+     *     credentials or roles happened after it was issued.
+     * </p>
+     * @param claims the verified claims
+     * @return true if the database lookup can be skipped
+     */
+    private boolean isTrustedPrincipal(Claims claims) {
+        return PrincipalClaims.isSelfContained(claims)
+                && !securityVersionRegistry.isStale(claims.getSubject(), PrincipalClaims.securityVersionOf(claims));
+    }
 }
\ No newline at end of file
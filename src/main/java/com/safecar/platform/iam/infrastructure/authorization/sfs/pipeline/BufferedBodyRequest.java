@@ -0,0 +1,59 @@
+package com.safecar.platform.iam.infrastructure.authorization.sfs.pipeline;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+/**
+ * Replays the body read by a filter to the rest of the chain.
+ * <p>
+ *     The buffered bytes are served first, followed by whatever the filter left unread.
+ * </p>
+ */
+final class BufferedBodyRequest extends HttpServletRequestWrapper {
+    private final byte[] body;
+    private final ServletInputStream remainder;
+
+    BufferedBodyRequest(HttpServletRequest request, byte[] body) throws IOException {
+        super(request);
+        this.body = body;
+        this.remainder = request.getInputStream();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        var buffered = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public int read() throws IOException {
+                var next = buffered.read();
+                return next != -1 ? next : remainder.read();
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                var count = buffered.read(bytes, offset, length);
+                return count != -1 ? count : remainder.read(bytes, offset, length);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return buffered.available() == 0 && remainder.isFinished();
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                throw new UnsupportedOperationException("Asynchronous reads are not supported");
+            }
+        };
+    }
+}
@@ -0,0 +1,158 @@
+package com.safecar.platform.iam.infrastructure.authorization.sfs.pipeline;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.safecar.platform.iam.domain.model.valueobjects.Roles;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.model.UsernamePasswordAuthenticationTokenBuilder;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.services.DeviceKeyRegistry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter to authenticate devices with signed requests
+ * <p>
+ *     Devices send their credential id in {@code X-Device-Id}, the current time in epoch seconds in
+ *     {@code X-Device-Timestamp}, and in {@code X-Device-Signature} the Base64 HMAC-SHA256, keyed with
+ *     their decoded secret, of the method, the request URI, the timestamp and the body, the first three
+ *     each followed by a line feed. The key is read from the in-memory {@link DeviceKeyRegistry} and the
+ *     signature is compared in constant time, so no token is parsed and no database is read.
+ * </p>
+ * <p>
+ *     Only the requests matching the given paths and carrying a device id are filtered; others are left
+ *     to the Bearer token filter. A valid request is authenticated as a principal named after the vehicle
+ *     of the device, with the device role only. An invalid one, or one whose timestamp is off by more than
+ *     the allowed clock skew, receives a 401 response; a body larger than the maximum receives a 413.
+ *     Signed requests may be replayed within the skew, which is harmless for idempotent ingestion.
+ *     The time spent is recorded under {@code iam.authorization.device.filter.duration}, tagged with
+ *     the outcome: {@code authenticated} or {@code rejected}.
+ * </p>
+ */
+public class DeviceSignatureAuthorizationFilter extends OncePerRequestFilter {
+    public static final String DEVICE_ID_HEADER = "X-Device-Id";
+    public static final String TIMESTAMP_HEADER = "X-Device-Timestamp";
+    public static final String SIGNATURE_HEADER = "X-Device-Signature";
+    private static final String TIMER_NAME = "iam.authorization.device.filter.duration";
+    private static final String OUTCOME_AUTHENTICATED = "authenticated";
+    private static final String OUTCOME_REJECTED = "rejected";
+    private static final byte LINE_FEED = '\n';
+    private static final ThreadLocal<Mac> MACS = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance(DeviceKeyRegistry.HMAC_ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final DeviceKeyRegistry deviceKeyRegistry;
+    private final RequestMatcher devicePaths;
+    private final Duration clockSkew;
+    private final int maximumBodyBytes;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructor
+     * @param deviceKeyRegistry {@link DeviceKeyRegistry} Device key registry
+     * @param devicePaths {@link RequestMatcher} Requests devices may sign
+     * @param clockSkew the largest accepted difference between the timestamp and the current time
+     * @param maximumBodyBytes the largest accepted body, which is buffered to be verified
+     * @param meterRegistry {@link MeterRegistry} Registry receiving the authentication timings
+     */
+    public DeviceSignatureAuthorizationFilter(DeviceKeyRegistry deviceKeyRegistry, RequestMatcher devicePaths,
+            Duration clockSkew, int maximumBodyBytes, MeterRegistry meterRegistry) {
+        this.deviceKeyRegistry = deviceKeyRegistry;
+        this.devicePaths = devicePaths;
+        this.clockSkew = clockSkew;
+        this.maximumBodyBytes = maximumBodyBytes;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getHeader(DEVICE_ID_HEADER) == null || !devicePaths.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        var body = request.getInputStream().readNBytes(maximumBodyBytes + 1);
+        if (body.length > maximumBodyBytes) {
+            response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+            return;
+        }
+        var sample = Timer.start(meterRegistry);
+        var authentication = authenticate(request, body);
+        sample.stop(meterRegistry.timer(TIMER_NAME, "outcome",
+                authentication != null ? OUTCOME_AUTHENTICATED : OUTCOME_REJECTED));
+        if (authentication == null) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return;
+        }
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        filterChain.doFilter(new BufferedBodyRequest(request, body), response);
+    }
+
+    /**
+     * Verifies the signature of a device request.
+     * @param request the request
+     * @param body the buffered body of the request
+     * @return the authentication of the device, or null if the request is not validly signed
+     */
+    private UsernamePasswordAuthenticationToken authenticate(HttpServletRequest request, byte[] body) {
+        var timestamp = request.getHeader(TIMESTAMP_HEADER);
+        var signatureHeader = request.getHeader(SIGNATURE_HEADER);
+        if (timestamp == null || signatureHeader == null)
+            return null;
+        try {
+            var deviceId = UUID.fromString(request.getHeader(DEVICE_ID_HEADER));
+            var signature = Base64.getDecoder().decode(signatureHeader);
+            var signedAt = Long.parseLong(timestamp);
+            var now = Instant.now().getEpochSecond();
+            if (signedAt < now - clockSkew.toSeconds() || signedAt > now + clockSkew.toSeconds())
+                return null;
+            var deviceKey = deviceKeyRegistry.find(deviceId).orElse(null);
+            if (deviceKey == null)
+                return null;
+
+            var mac = MACS.get();
+            mac.init(deviceKey.key());
+            mac.update(request.getMethod().getBytes(StandardCharsets.US_ASCII));
+            mac.update(LINE_FEED);
+            mac.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            mac.update(LINE_FEED);
+            mac.update(timestamp.getBytes(StandardCharsets.US_ASCII));
+            mac.update(LINE_FEED);
+            if (!MessageDigest.isEqual(mac.doFinal(body), signature))
+                return null;
+
+            var device = UserDetailsImpl.build(deviceKey.vehicleId().toString(), List.of(Roles.ROLE_DEVICE.name()));
+            return UsernamePasswordAuthenticationTokenBuilder.build(device, request);
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            // Malformed headers
+            return null;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.safecar.platform.iam.infrastructure.authorization.sfs.services;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Authentication Rate Limiter
+ * <p>
+ *     In-memory token buckets limiting authentication attempts per client address and per target email.
+ *     Each bucket is a single {@link AtomicLong} holding its theoretical arrival time (GCRA), updated with
+ *     compare-and-set, so admitting a request never takes a lock. Buckets live in size-bounded caches striped
+ *     by key hash, and are evicted once idle for as long as a bucket takes to refill, when they carry no state.
+ *     Rejections are counted under {@code iam.authentication.rate.limited}, tagged with the limited key.
+ * </p>
+ */
+@Component
+public class AuthenticationRateLimiter {
+    private final Buckets addressBuckets;
+    private final Buckets emailBuckets;
+
+    /**
+     * Constructor
+     * @param addressCapacity the attempts a client address may burst
+     * @param addressRefillPeriod the time in which a client address bucket refills completely
+     * @param emailCapacity the attempts an email may burst
+     * @param emailRefillPeriod the time in which an email bucket refills completely
+     * @param maximumKeys the maximum number of buckets kept per key kind
+     * @param meterRegistry the {@link MeterRegistry} used to count the rejections, if any
+     */
+    @Autowired
+    public AuthenticationRateLimiter(
+            @Value("${authorization.rate-limit.address.capacity:20}") int addressCapacity,
+            @Value("${authorization.rate-limit.address.refill-period:1m}") Duration addressRefillPeriod,
+            @Value("${authorization.rate-limit.email.capacity:5}") int emailCapacity,
+            @Value("${authorization.rate-limit.email.refill-period:1m}") Duration emailRefillPeriod,
+            @Value("${authorization.rate-limit.maximum-keys:100000}") long maximumKeys,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(addressCapacity, addressRefillPeriod, emailCapacity, emailRefillPeriod, maximumKeys,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), Ticker.systemTicker());
+    }
+
+    AuthenticationRateLimiter(int addressCapacity, Duration addressRefillPeriod, int emailCapacity,
+            Duration emailRefillPeriod, long maximumKeys, MeterRegistry registry, Ticker ticker) {
+        this.addressBuckets = new Buckets(addressCapacity, addressRefillPeriod, maximumKeys,
+                rejections(registry, "address"), ticker);
+        this.emailBuckets = new Buckets(emailCapacity, emailRefillPeriod, maximumKeys,
+                rejections(registry, "email"), ticker);
+    }
+
+    /**
+     * Takes a token from the bucket of a client address.
+     * @param address the client address
+     * @return zero if the attempt is admitted, otherwise the time to wait before retrying
+     */
+    public Duration tryAcquireForAddress(String address) {
+        return addressBuckets.tryAcquire(address);
+    }
+
+    /**
+     * Takes a token from the bucket of a target email; emails are compared case-insensitively.
+     * @param email the email the attempt targets
+     * @return zero if the attempt is admitted, otherwise the time to wait before retrying
+     */
+    public Duration tryAcquireForEmail(String email) {
+        return emailBuckets.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private static Counter rejections(MeterRegistry registry, String key) {
+        return Counter.builder("iam.authentication.rate.limited")
+                .description("Authentication attempts rejected by the rate limiter")
+                .tag("key", key)
+                .register(registry);
+    }
+
+    /**
+     * Token buckets of one key kind, as theoretical arrival times in {@link Ticker} nanoseconds.
+     */
+    private static final class Buckets {
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final Cache<String, AtomicLong> arrivalTimes;
+        private final Counter rejections;
+        private final Ticker ticker;
+
+        private Buckets(int capacity, Duration refillPeriod, long maximumKeys, Counter rejections, Ticker ticker) {
+            if (capacity < 1)
+                throw new IllegalArgumentException("Rate limit capacity must be positive");
+            this.emissionIntervalNanos = refillPeriod.toNanos() / capacity;
+            this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+            this.arrivalTimes = Caffeine.newBuilder()
+                    .maximumSize(maximumKeys)
+                    .expireAfterAccess(refillPeriod)
+                    .ticker(ticker)
+                    .build();
+            this.rejections = rejections;
+            this.ticker = ticker;
+        }
+
+        private Duration tryAcquire(String key) {
+            var now = ticker.read();
+            var arrivalTime = arrivalTimes.get(key, ignored -> new AtomicLong(now));
+            while (true) {
+                var current = arrivalTime.get();
+                var theoretical = current - now > 0 ? current : now;
+                var wait = theoretical - now - burstToleranceNanos;
+                if (wait > 0) {
+                    rejections.increment();
+                    return Duration.ofNanos(wait);
+                }
+                if (arrivalTime.compareAndSet(current, theoretical + emissionIntervalNanos))
+                    return Duration.ZERO;
+            }
+        }
+    }
+}
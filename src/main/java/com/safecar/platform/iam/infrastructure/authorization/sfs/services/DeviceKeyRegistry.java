@@ -0,0 +1,121 @@
+package com.safecar.platform.iam.infrastructure.authorization.sfs.services;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.DeviceCredentialRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Device Key Registry
+ * <p>
+ *     In-memory table of the active device keys, so that signed device requests are verified
+ *     without a database lookup. The first refresh loads every credential; later refreshes read
+ *     only the credentials changed since the previous one, through the index on their change time,
+ *     and drop the revoked ones. Credentials issued or revoked by this instance are applied at once;
+ *     those changed by other instances are applied within one refresh period.
+ *     The number of keys held is published under {@code iam.device.keys}.
+ * </p>
+ */
+@Component
+public class DeviceKeyRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeviceKeyRegistry.class);
+    public static final String HMAC_ALGORITHM = "HmacSHA256";
+    // Changes committed after a later change was read are caught by reading this far back
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final DeviceCredentialRepository deviceCredentialRepository;
+    private final Map<UUID, DeviceKey> keys = new ConcurrentHashMap<>();
+    private volatile Date lastChange;
+
+    /**
+     * The key of a device and the vehicle it reports for.
+     * @param vehicleId the id of the vehicle
+     * @param key the HMAC key
+     */
+    public record DeviceKey(UUID vehicleId, SecretKey key) {
+    }
+
+    /**
+     * Constructor
+     * @param deviceCredentialRepository the repository of the device credentials
+     * @param meterRegistry the registry receiving the number of keys held
+     */
+    public DeviceKeyRegistry(DeviceCredentialRepository deviceCredentialRepository,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.deviceCredentialRepository = deviceCredentialRepository;
+        Gauge.builder("iam.device.keys", keys, Map::size)
+                .description("Active device keys held in memory")
+                .register(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * @param deviceId the id of the device credential
+     * @return the key of the device, or empty if it is unknown or revoked
+     */
+    public Optional<DeviceKey> find(UUID deviceId) {
+        return Optional.ofNullable(keys.get(deviceId));
+    }
+
+    /**
+     * Adds the key of a credential issued by this instance.
+     * @param deviceId the id of the device credential
+     * @param vehicleId the id of the vehicle
+     * @param secret the HMAC key, encoded in Base64
+     */
+    public void register(UUID deviceId, UUID vehicleId, String secret) {
+        keys.put(deviceId, new DeviceKey(vehicleId, keyOf(secret)));
+    }
+
+    /**
+     * Drops the key of a credential revoked by this instance.
+     * @param deviceId the id of the device credential
+     */
+    public void remove(UUID deviceId) {
+        keys.remove(deviceId);
+    }
+
+    /**
+     * Applies the credentials changed since the previous refresh.
+     */
+    @Scheduled(fixedDelayString = "${authorization.device.keys.refresh-period:30s}")
+    public void refresh() {
+        var previous = lastChange;
+        var since = previous != null ? new Date(previous.getTime() - REFRESH_OVERLAP.toMillis()) : new Date(0);
+        var latest = previous;
+        try {
+            for (var row : deviceCredentialRepository.findKeysChangedAfter(since)) {
+                if (row.revoked())
+                    keys.remove(row.id());
+                else
+                    keys.put(row.id(), new DeviceKey(row.vehicleId(), keyOf(row.secret())));
+                if (latest == null || row.updatedAt().after(latest))
+                    latest = row.updatedAt();
+            }
+            lastChange = latest != null ? latest : new Date(0);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Cannot refresh the device keys: {}", e.getMessage());
+        }
+    }
+
+    private static SecretKey keyOf(String secret) {
+        return new SecretKeySpec(Base64.getDecoder().decode(secret), HMAC_ALGORITHM);
+    }
+}
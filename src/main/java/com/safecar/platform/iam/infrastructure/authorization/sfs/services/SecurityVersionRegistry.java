@@ -0,0 +1,93 @@
+package com.safecar.platform.iam.infrastructure.authorization.sfs.services;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.safecar.platform.iam.domain.model.events.UserSecurityChangedEvent;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+
+/**
+ * Security Version Registry
+ * <p>
+ *     Keeps the current security version of the users that recently presented a token.
+ *     A self-contained token carrying an older version is stale,
+ *     and its principal must be loaded from the database instead of being trusted.
+ * </p>
+ * <p>
+ *     Versions are read from the database on the first token of a user and kept for the time-to-live only,
+ *     so a change committed on another instance, or before a restart, is observed within the time-to-live
+ *     instead of the lifetime of the token. Changes committed on this instance are observed immediately.
+ *     Versions are loaded by the requesting thread outside of any cache lock; concurrent misses for the same
+ *     user may each read the database once, and the highest version read wins.
+ * </p>
+ */
+@Component
+public class SecurityVersionRegistry {
+    // Version of the users that no longer exist: any token they carry is stale
+    private static final long UNKNOWN_USER = Long.MAX_VALUE;
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> currentVersions;
+
+    /**
+     * Constructor
+     * @param userRepository the repository the current versions are read from
+     * @param timeToLive how long a version read from the database is trusted
+     * @param maximumSize the maximum number of users tracked
+     */
+    @Autowired
+    public SecurityVersionRegistry(UserRepository userRepository,
+            @Value("${authorization.jwt.principal.security-version.time-to-live:30s}") Duration timeToLive,
+            @Value("${authorization.jwt.principal.registry.maximum-size:100000}") long maximumSize) {
+        this(userRepository, timeToLive, maximumSize, Ticker.systemTicker());
+    }
+
+    SecurityVersionRegistry(UserRepository userRepository, Duration timeToLive, long maximumSize, Ticker ticker) {
+        this.userRepository = userRepository;
+        this.currentVersions = Caffeine.newBuilder()
+                .expireAfterWrite(timeToLive)
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Checks whether a token issued with the given security version is stale.
+     * @param userId the user identifier carried as the token subject
+     * @param securityVersion the security version carried by the token
+     * @return true if the user changed its credentials or roles after the token was issued, or no longer exists
+     */
+    public boolean isStale(String userId, long securityVersion) {
+        var currentVersion = currentVersions.getIfPresent(userId);
+        if (currentVersion == null)
+            currentVersion = currentVersions.asMap().merge(userId, loadVersion(userId), Math::max);
+        return securityVersion < currentVersion;
+    }
+
+    private long loadVersion(String userId) {
+        UUID id;
+        try {
+            id = UUID.fromString(userId);
+        } catch (IllegalArgumentException e) {
+            return UNKNOWN_USER;
+        }
+        return userRepository.findSecurityVersionById(id).orElse(UNKNOWN_USER);
+    }
+
+    /**
+     * Records the new security version of a user once the change is committed.
+     * @param event the {@link UserSecurityChangedEvent} event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(UserSecurityChangedEvent event) {
+        currentVersions.asMap().merge(event.userId().toString(), event.securityVersion(), Math::max);
+    }
+}
@@ -0,0 +1,104 @@
+package com.safecar.platform.iam.infrastructure.authorization.sfs.services;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.safecar.platform.iam.domain.model.events.UserSecurityChangedEvent;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * User Details Cache
+ * <p>
+ *     Size- and TTL-bounded cache of {@link UserDetailsImpl} snapshots indexed by user id.
+ *     It never holds managed {@code User} entities, only the immutable principals built from them.
+ *     Entries are invalidated as soon as a {@link UserSecurityChangedEvent} is committed on this instance,
+ *     so changes to credentials or roles take effect on its next request. The event is not broadcast: other
+ *     instances keep serving the previous principal until its time-to-live expires, which bounds how long
+ *     a change takes to reach every instance and is therefore kept short.
+ *     Hit, miss and eviction counts are published under the {@code cache} meters with {@code cache=userDetails}.
+ * </p>
+ * <p>
+ *     Principals are loaded by the requesting thread outside of any cache lock, and concurrent requests for
+ *     the same user wait on the pending load, so a virtual thread blocked on the database never holds a monitor.
+ * </p>
+ */
+@Component
+public class UserDetailsCache {
+    private static final String CACHE_NAME = "userDetails";
+
+    private final AsyncCache<String, UserDetailsImpl> userDetails;
+
+    /**
+     * Constructor
+     * @param maximumSize the maximum number of principals kept in memory
+     * @param timeToLive how long a principal is kept after being loaded
+     * @param meterRegistry the {@link MeterRegistry} used to publish the cache statistics, if any
+     */
+    public UserDetailsCache(
+            @Value("${authorization.user-details.cache.maximum-size:10000}") long maximumSize,
+            @Value("${authorization.user-details.cache.time-to-live:30s}") Duration timeToLive,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.userDetails = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), userDetails, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached principal of a user, loading it on a miss.
+     * @param userId the user identifier
+     * @param loader the function that loads the principal from the database
+     * @return the principal of the user
+     */
+    public UserDetailsImpl get(String userId, Function<String, UserDetailsImpl> loader) {
+        var cached = userDetails.getIfPresent(userId);
+        if (cached != null)
+            return join(cached);
+        var pending = new CompletableFuture<UserDetailsImpl>();
+        var existing = userDetails.asMap().putIfAbsent(userId, pending);
+        if (existing != null)
+            return join(existing);
+        try {
+            var principal = loader.apply(userId);
+            pending.complete(principal);
+            return principal;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private UserDetailsImpl join(CompletableFuture<UserDetailsImpl> principal) {
+        try {
+            return principal.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Drops the cached principal of a user once a change to its credentials or roles is committed.
+     * @param event the {@link UserSecurityChangedEvent} event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(UserSecurityChangedEvent event) {
+        userDetails.synchronous().invalidate(event.userId().toString());
+    }
+}
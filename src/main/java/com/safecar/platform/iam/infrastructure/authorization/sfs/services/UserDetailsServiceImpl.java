@@ -3,27 +3,61 @@ package com.safecar.platform.iam.infrastructure.authorization.sfs.services;
 import com.safecar.platform.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
 import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 import java.util.UUID;
 
 @Service(value = "defaultUserDetailsService")
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final MeterRegistry meterRegistry;
  
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, UserDetailsCache userDetailsCache,
+            ObjectProvider<MeterRegistry> meterRegistry) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
     }
 
+    /**
+     * Loads the principal of a user, from the cache when possible.
+     * The time spent is recorded under {@code iam.user.details.lookup.duration}, tagged with {@code found} or {@code missing}.
+     */
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
-        var user = userRepository.findById(UUID.fromString(userId))
+        var sample = Timer.start(meterRegistry);
+        var result = "missing";
+        try {
+            var userDetails = userDetailsCache.get(userId, this::loadUserById);
+            result = "found";
+            return userDetails;
+        } finally {
+            sample.stop(meterRegistry.timer("iam.user.details.lookup.duration", "result", result));
+        }
+    }
+
+    private UserDetailsImpl loadUserById(String userId) {
+        var credentials = userRepository.findCredentialsById(toUuid(userId))
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with userId: " + userId));
 
-        return UserDetailsImpl.build(user);
+        return UserDetailsImpl.build(credentials);
+    }
+
+    private UUID toUuid(String userId) {
+        try {
+            return UUID.fromString(userId);
+        } catch (IllegalArgumentException e) {
+            throw new UsernameNotFoundException("Invalid userId: " + userId, e);
+        }
     }
-}
\ No newline at end of file
+}
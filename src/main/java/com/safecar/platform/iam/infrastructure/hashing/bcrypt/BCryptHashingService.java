@@ -6,7 +6,8 @@ import com.safecar.platform.iam.application.internal.outboundservices.hashing.Ha
 /**
  * BCrypt hashing service.
  * <p>
- *     This service is responsible for hashing and verifying passwords using BCrypt algorithm.
+ *     This service is responsible for hashing and verifying passwords using BCrypt algorithm,
+ *     or PBKDF2 and Argon2 when configured to.
  *     It extends {@link HashingService} and {@link PasswordEncoder}.
  * </p>
  */
@@ -0,0 +1,175 @@
+package com.safecar.platform.iam.infrastructure.hashing.bcrypt.services;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm;
+import org.springframework.stereotype.Component;
+
+/**
+ * Calibrated Password Encoder Factory
+ * <p>
+ *     Builds the {@link DelegatingPasswordEncoder} used by the hashing service. It supports
+ *     {@code bcrypt}, {@code pbkdf2} and {@code argon2}, and encodes new hashes with the configured algorithm.
+ *     Stored hashes without an algorithm prefix are verified as BCrypt.
+ * </p>
+ * <p>
+ *     When calibration is enabled, the BCrypt strength and the Argon2 iterations are tuned at startup
+ *     by timing sample hashes, so one hash costs about the target latency on this node. The configured
+ *     costs are kept as a floor. Both algorithms store their cost in the hash, so hashes produced
+ *     on nodes with different calibrations remain verifiable everywhere.
+ *     PBKDF2 hashes do not carry their iteration count, so it is part of the id instead, as in
+ *     {@code {pbkdf2@310000}}. Hashes written with previous iteration counts stay verifiable as long as those
+ *     counts are listed as previous iterations, and are reported as needing a rehash. Hashes with the bare
+ *     {@code {pbkdf2}} id, written before the id carried the iterations, are verified with 310000 iterations.
+ * </p>
+ */
+@Component
+public class CalibratedPasswordEncoderFactory {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CalibratedPasswordEncoderFactory.class);
+    private static final String BCRYPT = "bcrypt";
+    private static final String PBKDF2 = "pbkdf2";
+    private static final int UNVERSIONED_PBKDF2_ITERATIONS = 310_000;
+    private static final String ARGON2 = "argon2";
+    private static final int MAXIMUM_BCRYPT_STRENGTH = 16;
+    private static final int MAXIMUM_ARGON2_ITERATIONS = 32;
+    private static final int CALIBRATION_SAMPLES = 3;
+    private static final String CALIBRATION_PASSWORD = "calibration-password!";
+
+    private final String algorithm;
+    private final boolean calibrationEnabled;
+    private final Duration targetLatency;
+    private final int bcryptStrength;
+    private final int pbkdf2Iterations;
+    private final int[] previousPbkdf2Iterations;
+    private final int argon2MemoryKib;
+    private final int argon2Iterations;
+
+    /**
+     * Constructor
+     * @param algorithm the id of the algorithm used to encode new hashes
+     * @param calibrationEnabled whether the costs are tuned against the target latency at startup
+     * @param targetLatency the time a single hash should take on this node
+     * @param bcryptStrength the minimum BCrypt strength
+     * @param pbkdf2Iterations the PBKDF2 iterations
+     * @param previousPbkdf2Iterations the PBKDF2 iterations used before, whose hashes are only verified
+     * @param argon2MemoryKib the Argon2 memory cost, in KiB
+     * @param argon2Iterations the minimum Argon2 iterations
+     */
+    public CalibratedPasswordEncoderFactory(
+            @Value("${authorization.hashing.algorithm:bcrypt}") String algorithm,
+            @Value("${authorization.hashing.calibration.enabled:true}") boolean calibrationEnabled,
+            @Value("${authorization.hashing.calibration.target-latency:50ms}") Duration targetLatency,
+            @Value("${authorization.hashing.bcrypt.strength:10}") int bcryptStrength,
+            @Value("${authorization.hashing.pbkdf2.iterations:310000}") int pbkdf2Iterations,
+            @Value("${authorization.hashing.pbkdf2.previous-iterations:}") int[] previousPbkdf2Iterations,
+            @Value("${authorization.hashing.argon2.memory-kib:16384}") int argon2MemoryKib,
+            @Value("${authorization.hashing.argon2.iterations:2}") int argon2Iterations) {
+        if (!Arrays.asList(BCRYPT, PBKDF2, ARGON2).contains(algorithm))
+            throw new IllegalArgumentException("Unsupported hashing algorithm: " + algorithm);
+        this.algorithm = algorithm;
+        this.calibrationEnabled = calibrationEnabled;
+        this.targetLatency = targetLatency;
+        this.bcryptStrength = bcryptStrength;
+        this.pbkdf2Iterations = pbkdf2Iterations;
+        this.previousPbkdf2Iterations = previousPbkdf2Iterations.clone();
+        this.argon2MemoryKib = argon2MemoryKib;
+        this.argon2Iterations = argon2Iterations;
+    }
+
+    /**
+     * Creates the delegating password encoder.
+     * @return the encoder that encodes with the configured algorithm and matches any supported one
+     */
+    public DelegatingPasswordEncoder create() {
+        var bcrypt = new BCryptPasswordEncoder(BCRYPT.equals(algorithm) ? calibratedBCryptStrength() : bcryptStrength);
+        var encoders = new HashMap<String, PasswordEncoder>(Map.of(BCRYPT, bcrypt,
+                ARGON2, argon2Encoder(ARGON2.equals(algorithm) ? calibratedArgon2Iterations() : argon2Iterations),
+                PBKDF2, pbkdf2Encoder(UNVERSIONED_PBKDF2_ITERATIONS)));
+        // Matching only: new hashes are written with the current iterations
+        for (var iterations : previousPbkdf2Iterations)
+            encoders.put(pbkdf2Id(iterations), pbkdf2Encoder(iterations));
+        encoders.put(pbkdf2Id(pbkdf2Iterations), pbkdf2Encoder(pbkdf2Iterations));
+        var encoder = new DelegatingPasswordEncoder(PBKDF2.equals(algorithm) ? pbkdf2Id(pbkdf2Iterations) : algorithm,
+                encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    /**
+     * Finds the highest BCrypt strength whose cost fits the target latency.
+     * Each additional strength unit doubles the cost.
+     * @return the calibrated strength, never lower than the configured one
+     */
+    private int calibratedBCryptStrength() {
+        if (!calibrationEnabled)
+            return bcryptStrength;
+        var sample = medianNanos(new BCryptPasswordEncoder(bcryptStrength));
+        var strength = bcryptStrength;
+        while (strength < MAXIMUM_BCRYPT_STRENGTH && sample * 2 <= targetLatency.toNanos()) {
+            sample *= 2;
+            strength++;
+        }
+        LOGGER.info("BCrypt strength calibrated to {} (~{} ms per hash, target {} ms)",
+                strength, sample / 1_000_000, targetLatency.toMillis());
+        return strength;
+    }
+
+    /**
+     * Finds the highest Argon2 iteration count whose cost fits the target latency.
+     * The cost grows linearly with the iterations.
+     * @return the calibrated iterations, never lower than the configured ones
+     */
+    private int calibratedArgon2Iterations() {
+        if (!calibrationEnabled)
+            return argon2Iterations;
+        var perIteration = medianNanos(argon2Encoder(argon2Iterations)) / argon2Iterations;
+        var iterations = (int) Math.min(MAXIMUM_ARGON2_ITERATIONS,
+                Math.max(argon2Iterations, targetLatency.toNanos() / Math.max(1, perIteration)));
+        LOGGER.info("Argon2 iterations calibrated to {} (~{} ms per hash, target {} ms)",
+                iterations, perIteration * iterations / 1_000_000, targetLatency.toMillis());
+        return iterations;
+    }
+
+    private static String pbkdf2Id(int iterations) {
+        return PBKDF2 + "@" + iterations;
+    }
+
+    private static Pbkdf2PasswordEncoder pbkdf2Encoder(int iterations) {
+        return new Pbkdf2PasswordEncoder("", 16, iterations, SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+    }
+
+    private Argon2PasswordEncoder argon2Encoder(int iterations) {
+        return new Argon2PasswordEncoder(16, 32, 1, argon2MemoryKib, iterations);
+    }
+
+    /**
+     * Times a few sample hashes, after a warm-up one.
+     * @param encoder the encoder to time
+     * @return the median time of a hash, in nanoseconds
+     */
+    private long medianNanos(PasswordEncoder encoder) {
+        Function<PasswordEncoder, Long> timeOne = candidate -> {
+            var start = System.nanoTime();
+            candidate.encode(CALIBRATION_PASSWORD);
+            return System.nanoTime() - start;
+        };
+        timeOne.apply(encoder);
+        var samples = new long[CALIBRATION_SAMPLES];
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++)
+            samples[i] = timeOne.apply(encoder);
+        Arrays.sort(samples);
+        return samples[CALIBRATION_SAMPLES / 2];
+    }
+}
@@ -1,35 +1,69 @@
 package com.safecar.platform.iam.infrastructure.hashing.bcrypt.services;
 
+import java.util.List;
+import java.util.function.Supplier;
+
 import org.springframework.stereotype.Service;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import com.safecar.platform.iam.infrastructure.hashing.bcrypt.BCryptHashingService;
 
 /**
  * Implementation of the BCrypt hashing service.
+ * <p>
+ *  Passwords are encoded with the algorithm selected by {@link CalibratedPasswordEncoderFactory}
+ *  and matched against any supported algorithm, including legacy BCrypt hashes without a prefix.
+ *  Hashing runs on the {@link PasswordHashingExecutor}, never on the calling request thread.
+ * </p>
  */
 @Service
 public class HashingServiceImpl implements BCryptHashingService {
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final DelegatingPasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor hashingExecutor;
 
     /**
      * Default constructor.
      * <p>
      *  It initializes the password encoder.
      * </p>
+     *
+     * @param passwordEncoderFactory the {@link CalibratedPasswordEncoderFactory} that builds the password encoder
+     * @param hashingExecutor the {@link PasswordHashingExecutor} that runs the hashing work
      */
-    public HashingServiceImpl() {
-        this.passwordEncoder = new BCryptPasswordEncoder();
+    public HashingServiceImpl(CalibratedPasswordEncoderFactory passwordEncoderFactory,
+            PasswordHashingExecutor hashingExecutor) {
+        this.passwordEncoder = passwordEncoderFactory.create();
+        this.hashingExecutor = hashingExecutor;
     }
 
     // inherited javadoc
     @Override
     public String encode(CharSequence rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return hashingExecutor.execute("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    // inherited javadoc
+    @Override
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        return hashingExecutor.executeAll("encode", rawPasswords.stream()
+                .<Supplier<String>>map(rawPassword -> () -> passwordEncoder.encode(rawPassword))
+                .toList());
     }
 
     // inherited javadoc
     @Override
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return hashingExecutor.execute("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // inherited javadoc
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    // inherited javadoc
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return needsRehash(encodedPassword);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,171 @@
+package com.safecar.platform.iam.infrastructure.hashing.bcrypt.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.safecar.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Password Hashing Executor
+ * <p>
+ *     Runs password hashing on a dedicated pool sized to the available processors, behind a bounded queue,
+ *     so hashing storms cannot exhaust the request threads. When the queue is full the work is rejected
+ *     right away with a {@link HashingCapacityExceededException}.
+ *     Pool and queue metrics are published with {@code name=passwordHashing}, hash latency
+ *     under {@code iam.hashing.duration} tagged by operation, and the time spent waiting for a thread
+ *     under {@code iam.hashing.queue.duration}.
+ * </p>
+ */
+@Component
+public class PasswordHashingExecutor {
+    private static final String EXECUTOR_NAME = "passwordHashing";
+
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejections;
+    private final Timer queueTimer;
+
+    /**
+     * Constructor
+     * @param poolSize the number of hashing threads, or 0 to use the number of available processors
+     * @param queueCapacity the maximum number of hashing tasks waiting for a thread
+     * @param meterRegistry the {@link MeterRegistry} used to publish the executor metrics, if any
+     */
+    public PasswordHashingExecutor(
+            @Value("${authorization.hashing.executor.pool-size:0}") int poolSize,
+            @Value("${authorization.hashing.executor.queue-capacity:64}") int queueCapacity,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        var threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        var threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    var thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.rejections = Counter.builder("iam.hashing.rejections")
+                .description("Hashing tasks rejected because the queue was full")
+                .register(this.meterRegistry);
+        this.queueTimer = Timer.builder("iam.hashing.queue.duration")
+                .description("Time hashing tasks wait in the queue for a thread")
+                .register(this.meterRegistry);
+        ExecutorServiceMetrics.monitor(this.meterRegistry, executor, EXECUTOR_NAME);
+    }
+
+    /**
+     * Runs a hashing operation on the hashing pool and waits for its result.
+     * @param operation the name of the operation, used to tag the latency timer
+     * @param task the hashing operation
+     * @param <T> the type of the result
+     * @return the result of the operation
+     * @throws HashingCapacityExceededException if the queue is full
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        var timer = timerFor(operation);
+        var queueSample = Timer.start(meterRegistry);
+        try {
+            return executor.submit(() -> {
+                queueSample.stop(queueTimer);
+                return timer.record(task);
+            }).get();
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new HashingCapacityExceededException("Password hashing capacity exceeded", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Runs several hashing operations in parallel on the hashing pool and waits for all their results.
+     * <p>
+     *     Each call keeps at most one task per hashing thread submitted at a time and waits for one of them
+     *     to finish before submitting the next. While the threads are busy with other work those tasks wait
+     *     in the queue, so a call takes up to pool-size queue slots, and concurrent calls pool-size slots each;
+     *     the queue capacity must leave room for interactive requests beyond that.
+     * </p>
+     * @param operation the name of the operations, used to tag the latency timer
+     * @param tasks the hashing operations
+     * @param <T> the type of the results
+     * @return the results of the operations, in the same order as the tasks
+     * @throws HashingCapacityExceededException if the queue is full
+     */
+    public <T> List<T> executeAll(String operation, List<? extends Supplier<T>> tasks) {
+        var timer = timerFor(operation);
+        var permits = new Semaphore(executor.getMaximumPoolSize());
+        var futures = new ArrayList<Future<T>>(tasks.size());
+        try {
+            for (var task : tasks) {
+                permits.acquire();
+                var queueSample = Timer.start(meterRegistry);
+                futures.add(executor.submit(() -> {
+                    queueSample.stop(queueTimer);
+                    try {
+                        return timer.record(task);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            var results = new ArrayList<T>(futures.size());
+            for (var future : futures)
+                results.add(future.get());
+            return results;
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new HashingCapacityExceededException("Password hashing capacity exceeded", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private Timer timerFor(String operation) {
+        return Timer.builder("iam.hashing.duration")
+                .description("Time spent computing password hashes")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stops the hashing threads when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
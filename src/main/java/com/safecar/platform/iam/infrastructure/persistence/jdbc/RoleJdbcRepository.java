@@ -0,0 +1,50 @@
+package com.safecar.platform.iam.infrastructure.persistence.jdbc;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.safecar.platform.iam.domain.model.valueobjects.Roles;
+
+import javax.sql.DataSource;
+
+/**
+ * Repository that writes {@link Roles} rows with set-based statements.
+ * <p>
+ * Seeding the roles takes a single multi-row upsert, whatever the number of roles and
+ * however many of them already exist, instead of one existence check and insert per role.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public class RoleJdbcRepository {
+    private static final String INSERT_ROLES = "INSERT INTO roles (name) VALUES ";
+    private static final String ON_EXISTING_ROLE = " ON DUPLICATE KEY UPDATE name = name";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor
+     *
+     * @param dataSource the application {@link DataSource}
+     */
+    public RoleJdbcRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Inserts the roles that do not exist yet, leaving the existing ones untouched.
+     *
+     * @param roles the roles to insert
+     * @return the number of rows affected
+     */
+    public int insertMissing(Collection<Roles> roles) {
+        if (roles.isEmpty())
+            return 0;
+        var sql = INSERT_ROLES + String.join(", ", Collections.nCopies(roles.size(), "(?)")) + ON_EXISTING_ROLE;
+        return jdbcTemplate.update(sql, roles.stream().map(Roles::name).toArray());
+    }
+}
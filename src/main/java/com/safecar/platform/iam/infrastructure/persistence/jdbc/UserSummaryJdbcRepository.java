@@ -0,0 +1,116 @@
+package com.safecar.platform.iam.infrastructure.persistence.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
+import com.safecar.platform.shared.infrastructure.persistence.jdbc.UuidColumns;
+
+import javax.sql.DataSource;
+
+/**
+ * Repository that reads {@link UserSummary} projections straight from a JDBC cursor.
+ * <p>
+ * Rows are handed to the consumer as they arrive, without an entity manager or a persistence context,
+ * so memory use does not grow with the number of users. With MySQL Connector/J a fetch size of
+ * {@link Integer#MIN_VALUE} streams the result set row by row instead of buffering it.
+ * </p>
+ * <p>
+ * A stream holds its connection until the last row is consumed, however slowly the consumer writes them,
+ * so it is bounded by a timeout: the query is given that timeout, and the stream is aborted with a
+ * {@link QueryTimeoutException} once it has lasted longer, checked between rows.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public class UserSummaryJdbcRepository {
+    private static final String SELECT_ALL_USER_SUMMARIES = """
+            SELECT u.id, u.email, r.name
+            FROM users u
+            LEFT JOIN user_roles ur ON ur.user_id = u.id
+            LEFT JOIN roles r ON r.id = ur.role_id
+            ORDER BY u.id""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration timeout;
+
+    /**
+     * Constructor
+     *
+     * @param dataSource the application {@link DataSource}
+     * @param fetchSize  the JDBC fetch size used while streaming
+     * @param timeout    the longest a stream may hold its connection
+     */
+    public UserSummaryJdbcRepository(DataSource dataSource,
+            @Value("${persistence.users.streaming.fetch-size:-2147483648}") int fetchSize,
+            @Value("${persistence.users.streaming.timeout:2m}") Duration timeout) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.jdbcTemplate.setQueryTimeout((int) Math.max(1, timeout.toSeconds()));
+        this.timeout = timeout;
+    }
+
+    /**
+     * Streams every user, ordered by id, to the consumer.
+     *
+     * @param consumer the consumer receiving each {@link UserSummary}
+     * @throws QueryTimeoutException if the stream lasts longer than the timeout
+     */
+    public void streamAll(Consumer<UserSummary> consumer) {
+        var handler = new UserSummaryRowCallbackHandler(consumer, System.nanoTime() + timeout.toNanos(), timeout);
+        jdbcTemplate.query(SELECT_ALL_USER_SUMMARIES, handler);
+        handler.flush();
+    }
+
+    /**
+     * Folds the consecutive role rows of each user into a single {@link UserSummary}.
+     */
+    private static final class UserSummaryRowCallbackHandler implements RowCallbackHandler {
+        private final Consumer<UserSummary> consumer;
+        private final long deadline;
+        private final Duration timeout;
+        private UUID currentId;
+        private String currentEmail;
+        private List<String> currentRoleNames = new ArrayList<>();
+
+        UserSummaryRowCallbackHandler(Consumer<UserSummary> consumer, long deadline, Duration timeout) {
+            this.consumer = consumer;
+            this.deadline = deadline;
+            this.timeout = timeout;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            var id = UuidColumns.getUuid(resultSet, 1);
+            if (!id.equals(currentId)) {
+                flush();
+                if (System.nanoTime() - deadline > 0)
+                    throw new QueryTimeoutException("User stream exceeded its timeout of " + timeout);
+                currentId = id;
+                currentEmail = resultSet.getString(2);
+            }
+            var roleName = resultSet.getString(3);
+            if (roleName != null)
+                currentRoleNames.add(roleName);
+        }
+
+        void flush() {
+            if (currentId != null)
+                consumer.accept(new UserSummary(currentId, currentEmail, List.copyOf(currentRoleNames)));
+            currentId = null;
+            currentRoleNames = new ArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.safecar.platform.iam.infrastructure.persistence.jpa.projections;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Row returned by the key table query of the device credential repository.
+ *
+ * @param id        the id of the credential, sent by the device with each request
+ * @param vehicleId the id of the vehicle whose telemetry the device reports
+ * @param secret    the HMAC key, encoded in Base64
+ * @param revoked   whether the credential was revoked
+ * @param updatedAt the time of the last change of the credential
+ *
+ * @since 2026-10-18
+ */
+public record DeviceKeyRow(UUID id, UUID vehicleId, String secret, boolean revoked, Date updatedAt) {
+}
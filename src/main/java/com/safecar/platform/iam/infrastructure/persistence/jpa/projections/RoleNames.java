@@ -0,0 +1,25 @@
+package com.safecar.platform.iam.infrastructure.persistence.jpa.projections;
+
+import java.util.List;
+
+/**
+ * Splits the role names aggregated by the database into a single column.
+ *
+ * @since 2026-10-18
+ */
+final class RoleNames {
+    static final String SEPARATOR = ",";
+
+    private RoleNames() {
+    }
+
+    /**
+     * Splits aggregated role names.
+     *
+     * @param roleNames the comma-separated role names, or {@code null} when there are none
+     * @return the role names
+     */
+    static List<String> split(String roleNames) {
+        return roleNames == null || roleNames.isEmpty() ? List.of() : List.of(roleNames.split(SEPARATOR));
+    }
+}
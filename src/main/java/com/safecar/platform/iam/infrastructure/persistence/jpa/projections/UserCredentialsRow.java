@@ -0,0 +1,32 @@
+package com.safecar.platform.iam.infrastructure.persistence.jpa.projections;
+
+import java.util.UUID;
+
+import com.safecar.platform.iam.domain.model.projections.UserCredentials;
+
+/**
+ * Row returned by the credential queries of the user repository.
+ * <p>
+ * Role names are aggregated by the database into a single comma-separated column,
+ * so a user and all of its roles are read in one row.
+ * </p>
+ *
+ * @param id              the unique identifier of the user
+ * @param email           the email of the user
+ * @param password        the encoded password of the user
+ * @param securityVersion the version of the user's credentials and roles
+ * @param roleNames       the comma-separated role names, or {@code null} when the user has none
+ *
+ * @since 2026-10-18
+ */
+public record UserCredentialsRow(UUID id, String email, String password, Long securityVersion, String roleNames) {
+
+    /**
+     * Converts the row into a {@link UserCredentials} projection.
+     *
+     * @return the corresponding {@link UserCredentials}
+     */
+    public UserCredentials toCredentials() {
+        return new UserCredentials(id, email, password, securityVersion, RoleNames.split(roleNames));
+    }
+}
@@ -0,0 +1,30 @@
+package com.safecar.platform.iam.infrastructure.persistence.jpa.projections;
+
+import java.util.UUID;
+
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
+
+/**
+ * Row returned by the summary queries of the user repository.
+ * <p>
+ * Role names are aggregated by the database into a single comma-separated column,
+ * so row limits apply to users rather than to user-role pairs.
+ * </p>
+ *
+ * @param id        the unique identifier of the user
+ * @param email     the email of the user
+ * @param roleNames the comma-separated role names, or {@code null} when the user has none
+ *
+ * @since 2026-10-18
+ */
+public record UserSummaryRow(UUID id, String email, String roleNames) {
+
+    /**
+     * Converts the row into a {@link UserSummary} projection.
+     *
+     * @return the corresponding {@link UserSummary}
+     */
+    public UserSummary toSummary() {
+        return new UserSummary(id, email, RoleNames.split(roleNames));
+    }
+}
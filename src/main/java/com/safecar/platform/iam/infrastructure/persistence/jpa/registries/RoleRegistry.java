@@ -0,0 +1,64 @@
+package com.safecar.platform.iam.infrastructure.persistence.jpa.registries;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.safecar.platform.iam.domain.model.entities.Role;
+import com.safecar.platform.iam.domain.model.valueobjects.Roles;
+
+/**
+ * In-memory registry of the persisted {@link Role} entities.
+ * <p>
+ * Roles are a fixed set defined by {@link Roles}. The registry is built once, right after
+ * the roles are seeded at startup, and is immutable afterwards, so resolving a role never
+ * reaches the database.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class RoleRegistry {
+    private volatile Map<Roles, Role> roles;
+
+    /**
+     * Builds the registry from the persisted roles.
+     *
+     * @param persistedRoles the roles read from the database after seeding
+     */
+    public void initialize(List<Role> persistedRoles) {
+        var index = new EnumMap<Roles, Role>(Roles.class);
+        persistedRoles.forEach(role -> index.put(role.getName(), role));
+        this.roles = Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * Finds a persisted role by its name.
+     *
+     * @param name the {@link Roles} value object representing the role name
+     * @return an {@link Optional} containing the persisted {@link Role}, or empty if it does not exist
+     */
+    public Optional<Role> findByName(Roles name) {
+        return Optional.ofNullable(roles().get(name));
+    }
+
+    /**
+     * Returns every persisted role, in the order declared by {@link Roles}.
+     *
+     * @return an immutable list of the persisted roles
+     */
+    public List<Role> findAll() {
+        return List.copyOf(roles().values());
+    }
+
+    private Map<Roles, Role> roles() {
+        var current = roles;
+        if (current == null)
+            throw new IllegalStateException("Role registry is not initialized yet");
+        return current;
+    }
+}
@@ -0,0 +1,35 @@
+package com.safecar.platform.iam.infrastructure.persistence.jpa.repositories;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.safecar.platform.iam.domain.model.aggregates.DeviceCredential;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.projections.DeviceKeyRow;
+
+/**
+ * Repository interface for managing {@link DeviceCredential} aggregates.
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public interface DeviceCredentialRepository extends JpaRepository<DeviceCredential, UUID> {
+
+    /**
+     * Finds the credentials changed after a given time, as rows of the in-memory key table.
+     * <p>
+     * Served by the index on {@code updated_at}; no entity is loaded into the persistence context.
+     * </p>
+     *
+     * @param since the exclusive lower bound of the change time
+     * @return the changed credentials, revoked ones included
+     */
+    @Query("select new com.safecar.platform.iam.infrastructure.persistence.jpa.projections.DeviceKeyRow("
+            + "d.id, d.vehicleId, d.secret, d.revoked, d.updatedAt) from DeviceCredential d where d.updatedAt > :since")
+    List<DeviceKeyRow> findKeysChangedAfter(@Param("since") Date since);
+}
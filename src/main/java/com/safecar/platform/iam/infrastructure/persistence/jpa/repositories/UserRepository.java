@@ -1,18 +1,32 @@
 package com.safecar.platform.iam.infrastructure.persistence.jpa.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.safecar.platform.iam.domain.model.aggregates.User;
+import com.safecar.platform.iam.domain.model.projections.UserCredentials;
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
 import com.safecar.platform.iam.domain.model.valueobjects.Email;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.projections.UserCredentialsRow;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.projections.UserSummaryRow;
+import com.safecar.platform.shared.infrastructure.persistence.jpa.annotations.ExpectedStatementCount;
 
 /**
  * Repository interface for managing {@link UserAggregate} entities.
  * <p>
  * Provides methods to perform CRUD operations and custom queries for users in the database.
+ * Roles are loaded lazily on the aggregate, so read paths use projections that join the roles
+ * explicitly; each of them declares its statement count with {@link ExpectedStatementCount}.
  * </p>
  *
  * @author GonzaloQu3dena
@@ -21,6 +35,20 @@ import com.safecar.platform.iam.domain.model.valueobjects.Email;
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+    String CREDENTIALS = """
+            select new com.safecar.platform.iam.infrastructure.persistence.jpa.projections.UserCredentialsRow(
+                u.id, u.email.value, u.password.value, u.securityVersion, listagg(cast(r.name as String), ','))
+            from User u left join u.roles r""";
+
+    String CREDENTIALS_GROUPING = " group by u.id, u.email.value, u.password.value, u.securityVersion";
+
+    String SUMMARIES = """
+            select new com.safecar.platform.iam.infrastructure.persistence.jpa.projections.UserSummaryRow(
+                u.id, u.email.value, listagg(cast(r.name as String), ','))
+            from User u left join u.roles r""";
+
+    String SUMMARIES_GROUPING = " group by u.id, u.email.value";
+
     /**
      * Finds a user by their email.
      *
@@ -36,4 +64,137 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return {@code true} if a user with the given email exists, {@code false} otherwise
      */
     boolean existsByEmail(Email email);
-}
\ No newline at end of file
+
+    /**
+     * Finds which of the given emails are already registered.
+     *
+     * @param emails the emails to check
+     * @return the registered emails
+     */
+    @ExpectedStatementCount(1)
+    @Query("select u.email.value from User u where u.email.value in :emails")
+    List<String> findRegisteredEmailsIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Finds the credentials of a user by their email.
+     *
+     * @param email the email of the user
+     * @return the credentials row, or empty if not found
+     */
+    @ExpectedStatementCount(1)
+    @Query(CREDENTIALS + " where u.email.value = :email" + CREDENTIALS_GROUPING)
+    Optional<UserCredentialsRow> findCredentialsRowByEmail(@Param("email") String email);
+
+    /**
+     * Finds the credentials of a user by their id.
+     *
+     * @param id the id of the user
+     * @return the credentials row, or empty if not found
+     */
+    @ExpectedStatementCount(1)
+    @Query(CREDENTIALS + " where u.id = :id" + CREDENTIALS_GROUPING)
+    Optional<UserCredentialsRow> findCredentialsRowById(@Param("id") UUID id);
+
+    /**
+     * Finds the security version of a user by their id.
+     *
+     * @param id the id of the user
+     * @return the security version, or empty if not found
+     */
+    @ExpectedStatementCount(1)
+    @Query("select u.securityVersion from User u where u.id = :id")
+    Optional<Long> findSecurityVersionById(@Param("id") UUID id);
+
+    /**
+     * Finds the summary of a user by their email.
+     *
+     * @param email the email of the user
+     * @return the summary row, or empty if not found
+     */
+    @ExpectedStatementCount(1)
+    @Query(SUMMARIES + " where u.email.value = :email" + SUMMARIES_GROUPING)
+    Optional<UserSummaryRow> findSummaryRowByEmail(@Param("email") String email);
+
+    /**
+     * Finds the summaries of the first users ordered by id.
+     *
+     * @param limit the maximum number of users to return
+     * @return the summary rows, ordered by id
+     */
+    @ExpectedStatementCount(1)
+    @Query(SUMMARIES + SUMMARIES_GROUPING + " order by u.id")
+    List<UserSummaryRow> findSummaryRows(Limit limit);
+
+    /**
+     * Finds the summaries of the users whose id follows the given one, ordered by id.
+     * <p>
+     * Used for keyset pagination: the index on the primary key locates the start of the page directly.
+     * Identifiers are time-ordered, so pages follow the order in which users were created.
+     * </p>
+     *
+     * @param id    the id of the last user of the previous page
+     * @param limit the maximum number of users to return
+     * @return the summary rows, ordered by id
+     */
+    @ExpectedStatementCount(1)
+    @Query(SUMMARIES + " where u.id > :id" + SUMMARIES_GROUPING + " order by u.id")
+    List<UserSummaryRow> findSummaryRowsAfter(@Param("id") UUID id, Limit limit);
+
+    /**
+     * Replaces the stored hash of a user's password without loading the aggregate.
+     * <p>
+     * The security version is left untouched: the password itself does not change.
+     * </p>
+     *
+     * @param id       the id of the user
+     * @param password the password encoded with the up-to-date algorithm
+     * @return the number of updated users
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @ExpectedStatementCount(1)
+    @Query("update User u set u.password.value = :password, u.updatedAt = current_timestamp where u.id = :id")
+    int updatePasswordById(@Param("id") UUID id, @Param("password") String password);
+
+    /**
+     * Finds the credentials of a user by their email.
+     *
+     * @param email the email of the user
+     * @return an {@link Optional} containing the found {@link UserCredentials}, or empty if not found
+     */
+    default Optional<UserCredentials> findCredentialsByEmail(String email) {
+        return findCredentialsRowByEmail(email).map(UserCredentialsRow::toCredentials);
+    }
+
+    /**
+     * Finds the credentials of a user by their id.
+     *
+     * @param id the id of the user
+     * @return an {@link Optional} containing the found {@link UserCredentials}, or empty if not found
+     */
+    default Optional<UserCredentials> findCredentialsById(UUID id) {
+        return findCredentialsRowById(id).map(UserCredentialsRow::toCredentials);
+    }
+
+    /**
+     * Finds the summary of a user by their email.
+     *
+     * @param email the email of the user
+     * @return an {@link Optional} containing the found {@link UserSummary}, or empty if not found
+     */
+    default Optional<UserSummary> findSummaryByEmail(String email) {
+        return findSummaryRowByEmail(email).map(UserSummaryRow::toSummary);
+    }
+
+    /**
+     * Finds one keyset page of user summaries, ordered by id.
+     *
+     * @param after the id of the last user of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of users to return
+     * @return the user summaries of the page
+     */
+    default List<UserSummary> findSummaries(UUID after, Limit limit) {
+        var rows = after == null ? findSummaryRows(limit) : findSummaryRowsAfter(after, limit);
+        return rows.stream().map(UserSummaryRow::toSummary).toList();
+    }
+}
@@ -3,8 +3,11 @@ package com.safecar.platform.iam.infrastructure.tokens.jwt;
 import org.springframework.security.core.Authentication;
 import com.safecar.platform.iam.application.internal.outboundservices.tokens.TokenService;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.util.Optional;
+
 /**
  * BearerTokenService
  * <p>
@@ -26,4 +29,22 @@ public interface BearerTokenService extends TokenService {
      * @return String containing the Bearer Token.
      */
     String generateToken(Authentication authentication);
-}
\ No newline at end of file
+
+    /**
+     * Method to validate a Bearer Token and return its claims in a single step.
+     * <p>
+     *     The signature is verified at most once per token; subsequent calls with the same token
+     *     are served from a bounded cache until the token expires.
+     * </p>
+     * @param token The Bearer Token to verify.
+     * @return an {@link Optional} with the verified {@link Claims}, or empty if the token is not valid.
+     */
+    Optional<Claims> getVerifiedClaimsFrom(String token);
+
+    /**
+     * Method to check, in constant time and without a database lookup, whether a verified token was revoked.
+     * @param claims The verified claims of the token.
+     * @return true if the token was revoked.
+     */
+    boolean isRevoked(Claims claims);
+}
@@ -0,0 +1,75 @@
+package com.safecar.platform.iam.infrastructure.tokens.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PrincipalClaims
+ * <p>
+ *     Names and accessors of the claims that make a token self-contained:
+ *     the email, the role names and the security version of the user.
+ *     A token carrying all of them can be turned into a principal without a database lookup.
+ * </p>
+ */
+public final class PrincipalClaims {
+    public static final String EMAIL = "email";
+    public static final String ROLES = "roles";
+    public static final String SECURITY_VERSION = "sv";
+
+    private PrincipalClaims() {
+    }
+
+    /**
+     * Builds the principal claims of a user.
+     * @param email the email of the user
+     * @param roleNames the names of the roles granted to the user
+     * @param securityVersion the security version of the user
+     * @return the claims to embed in the token
+     */
+    public static Map<String, Object> of(String email, Collection<String> roleNames, long securityVersion) {
+        return Map.of(
+                EMAIL, email,
+                ROLES, List.copyOf(roleNames),
+                SECURITY_VERSION, securityVersion);
+    }
+
+    /**
+     * Checks whether the claims carry a complete principal.
+     * @param claims the verified claims
+     * @return true if the email, roles and security version claims are present
+     */
+    public static boolean isSelfContained(Claims claims) {
+        return claims.get(EMAIL) instanceof String
+                && claims.get(ROLES) instanceof Collection<?>
+                && claims.get(SECURITY_VERSION) instanceof Number;
+    }
+
+    /**
+     * @param claims the verified claims
+     * @return the email of the user
+     */
+    public static String emailOf(Claims claims) {
+        return claims.get(EMAIL, String.class);
+    }
+
+    /**
+     * @param claims the verified claims
+     * @return the names of the roles granted to the user
+     */
+    public static List<String> roleNamesOf(Claims claims) {
+        return ((Collection<?>) claims.get(ROLES)).stream()
+                .map(String::valueOf)
+                .toList();
+    }
+
+    /**
+     * @param claims the verified claims
+     * @return the security version of the user when the token was issued
+     */
+    public static long securityVersionOf(Claims claims) {
+        return ((Number) claims.get(SECURITY_VERSION)).longValue();
+    }
+}
@@ -0,0 +1,83 @@
+package com.safecar.platform.iam.infrastructure.tokens.jwt.services;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Revocation Bloom Filter
+ * <p>
+ *     Fixed-size Bloom filter of revoked token identifiers, sized for an expected number of insertions
+ *     and a target false positive probability. Bits are set with compare-and-set, so lookups and insertions
+ *     never lock; the probe positions are derived from two 64-bit hashes of the identifier.
+ * </p>
+ */
+final class RevocationBloomFilter {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long SECOND_HASH_SEED = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Constructor
+     * @param expectedInsertions the number of identifiers the filter is sized for
+     * @param falsePositiveProbability the false positive probability once the expected insertions are reached
+     */
+    RevocationBloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions < 1 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1)
+            throw new IllegalArgumentException("Invalid revocation filter sizing");
+        var bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        var wordCount = (int) Math.min(Integer.MAX_VALUE, (bits + Long.SIZE - 1) / Long.SIZE);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Adds an identifier to the filter.
+     * @param tokenId the identifier of the revoked token
+     */
+    void add(String tokenId) {
+        var first = firstHashOf(tokenId);
+        var second = secondHashOf(first);
+        for (int i = 0; i < hashCount; i++) {
+            var bit = Math.floorMod(first + i * second, bitCount);
+            var mask = 1L << bit;
+            words.accumulateAndGet((int) (bit >>> 6), mask, (word, setBit) -> word | setBit);
+        }
+    }
+
+    /**
+     * Checks whether an identifier may have been added.
+     * @param tokenId the token identifier
+     * @return false if the identifier was never added, true if it probably was
+     */
+    boolean mightContain(String tokenId) {
+        var first = firstHashOf(tokenId);
+        var second = secondHashOf(first);
+        for (int i = 0; i < hashCount; i++) {
+            var bit = Math.floorMod(first + i * second, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    private static long firstHashOf(String tokenId) {
+        var hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < tokenId.length(); i++)
+            hash = (hash ^ tokenId.charAt(i)) * FNV_PRIME;
+        return mix(hash);
+    }
+
+    private static long secondHashOf(long firstHash) {
+        return mix(firstHash ^ SECOND_HASH_SEED) | 1;
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,228 @@
+package com.safecar.platform.iam.infrastructure.tokens.jwt.services;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Token Revocation Registry
+ * <p>
+ *     Keeps the identifiers ({@code jti}) of revoked tokens until the tokens expire, so that checking a token
+ *     takes constant time and no database access. Every revocation is added to a Bloom filter sized for the
+ *     revocations expected within a token lifetime; two filter generations are kept, and the older one is dropped
+ *     once every token it may reject has expired. The most recent revocations are also kept in an exact,
+ *     size-bounded set, which tells the Bloom filter false positives apart. Once the set overflows, every match
+ *     of the Bloom filter is treated as revoked until the latest token evicted from the set expires.
+ * </p>
+ * <p>
+ *     Revocations are appended to a local file, one {@code <jti> <expiration epoch second>} line each,
+ *     which is replayed and compacted on startup so revocations survive a restart.
+ * </p>
+ * <p>
+ *     Revocations are local to the instance: neither the registry nor the file is shared, so a token signed out
+ *     on one instance is still accepted by the others until it expires, up to the token lifetime. Deployments
+ *     with several instances must route the requests of a token to the instance it was signed out on, or treat
+ *     sign-out as a client-side logout. Role changes do reach every instance, through the security version,
+ *     but only change what a token grants: none of them rejects the token.
+ * </p>
+ */
+@Component
+public class TokenRevocationRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+    private final long expectedRevocations;
+    private final double falsePositiveProbability;
+    private final Duration generationLength;
+    private final Cache<String, Instant> recentRevocations;
+    // Until when the exact set may miss a revocation evicted for lack of space, in epoch milliseconds
+    private final AtomicLong recentRevocationsOverflowedUntil = new AtomicLong(Long.MIN_VALUE);
+    private final Clock clock;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final FileChannel revocationFile;
+
+    private volatile RevocationBloomFilter currentGeneration;
+    private volatile RevocationBloomFilter previousGeneration;
+    private volatile long currentGenerationEndMillis;
+
+    /**
+     * Constructor
+     * @param expirationDays the lifetime of the issued tokens, in days
+     * @param recentMaximumSize the maximum number of revocations kept in the exact set
+     * @param expectedRevocations the revocations expected within a token lifetime, used to size the Bloom filter
+     * @param falsePositiveProbability the target false positive probability of the Bloom filter
+     * @param file the append-only file the revocations are persisted to
+     */
+    @Autowired
+    public TokenRevocationRegistry(
+            @Value("${authorization.jwt.expiration.days}") int expirationDays,
+            @Value("${authorization.jwt.revocation.recent.maximum-size:10000}") long recentMaximumSize,
+            @Value("${authorization.jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+            @Value("${authorization.jwt.revocation.false-positive-probability:0.000001}") double falsePositiveProbability,
+            @Value("${authorization.jwt.revocation.file:data/revoked-tokens.log}") Path file) {
+        this(expirationDays, recentMaximumSize, expectedRevocations, falsePositiveProbability, file, Clock.systemUTC());
+    }
+
+    TokenRevocationRegistry(int expirationDays, long recentMaximumSize, long expectedRevocations,
+            double falsePositiveProbability, Path file, Clock clock) {
+        this.clock = clock;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.generationLength = Duration.ofDays(expirationDays);
+        this.recentRevocations = Caffeine.newBuilder()
+                .maximumSize(recentMaximumSize)
+                .expireAfter(new UntilTokenExpiration(clock))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                // Evictions run on the revoking thread, so the overflow is recorded before revoke returns
+                .executor(Runnable::run)
+                .evictionListener((String tokenId, Instant expiration, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE)
+                        recentRevocationsOverflowedUntil.accumulateAndGet(expiration.toEpochMilli(), Math::max);
+                })
+                .build();
+        this.currentGeneration = new RevocationBloomFilter(expectedRevocations, falsePositiveProbability);
+        this.previousGeneration = new RevocationBloomFilter(expectedRevocations, falsePositiveProbability);
+        this.currentGenerationEndMillis = clock.millis() + generationLength.toMillis();
+        this.revocationFile = replay(file);
+    }
+
+    /**
+     * Checks whether a token was revoked.
+     * @param tokenId the {@code jti} claim of the token
+     * @return true if the token was revoked, or may have been and the exact set cannot rule it out
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null)
+            return false;
+        if (!currentGeneration.mightContain(tokenId) && !previousGeneration.mightContain(tokenId))
+            return false;
+        return recentRevocations.getIfPresent(tokenId) != null
+                || clock.millis() < recentRevocationsOverflowedUntil.get();
+    }
+
+    /**
+     * Revokes a token until it expires, and appends the revocation to the revocation file.
+     * @param tokenId the {@code jti} claim of the token
+     * @param expiration the expiration of the token
+     */
+    public void revoke(String tokenId, Instant expiration) {
+        if (!expiration.isAfter(clock.instant()))
+            return;
+        writeLock.lock();
+        try {
+            register(tokenId, expiration);
+            revocationFile.write(ByteBuffer.wrap(lineOf(tokenId, expiration).getBytes(StandardCharsets.UTF_8)));
+            revocationFile.force(false);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot persist the token revocation", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        revocationFile.close();
+    }
+
+    /**
+     * Adds a revocation to the exact set and to the current Bloom filter generation,
+     * starting a new generation first when the current one has covered a whole token lifetime.
+     */
+    private void register(String tokenId, Instant expiration) {
+        var now = clock.millis();
+        if (now >= currentGenerationEndMillis) {
+            previousGeneration = currentGeneration;
+            currentGeneration = new RevocationBloomFilter(expectedRevocations, falsePositiveProbability);
+            currentGenerationEndMillis = now + generationLength.toMillis();
+        }
+        currentGeneration.add(tokenId);
+        recentRevocations.put(tokenId, expiration);
+    }
+
+    /**
+     * Loads the unexpired revocations of the file, rewrites the file with them only, and opens it for appending.
+     */
+    private FileChannel replay(Path file) {
+        try {
+            var lines = new ArrayList<String>();
+            if (Files.exists(file)) {
+                var now = clock.instant();
+                for (var line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    var fields = line.split(" ");
+                    if (fields.length != 2)
+                        continue;
+                    var expiration = Instant.ofEpochSecond(Long.parseLong(fields[1]));
+                    if (expiration.isAfter(now)) {
+                        register(fields[0], expiration);
+                        lines.add(lineOf(fields[0], expiration));
+                    }
+                }
+            }
+            var parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            var compacted = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.writeString(compacted, String.join("", lines), StandardCharsets.UTF_8);
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.info("Loaded {} token revocations from {}", lines.size(), file);
+            return FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("Cannot read the token revocation file " + file, e);
+        }
+    }
+
+    private static String lineOf(String tokenId, Instant expiration) {
+        return tokenId + " " + expiration.getEpochSecond() + "\n";
+    }
+
+    /**
+     * Expiry policy that keeps a revocation in the exact set only until its token expires.
+     */
+    private static final class UntilTokenExpiration implements Expiry<String, Instant> {
+        private final Clock clock;
+
+        private UntilTokenExpiration(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String tokenId, Instant expiration, long currentTime) {
+            var remainingMillis = expiration.toEpochMilli() - clock.millis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenId, Instant expiration, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String tokenId, Instant expiration, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -3,22 +3,45 @@ package com.safecar.platform.iam.infrastructure.tokens.jwt.services;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.apache.commons.lang3.time.DateUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import com.safecar.platform.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.safecar.platform.iam.infrastructure.tokens.jwt.PrincipalClaims;
+import com.safecar.platform.shared.infrastructure.persistence.jpa.identifiers.TimeOrderedUuidGenerator;
 
 
 @Service
@@ -27,6 +50,15 @@ public class TokenServiceImpl implements BearerTokenService {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_TOKEN_PREFIX = "Bearer ";
     private static final int TOKEN_START_INDEX = 7;
+    private static final String VERIFIED_CLAIMS_CACHE_NAME = "verifiedClaims";
+    private static final String VALIDATION_TIMER_NAME = "iam.token.validation.duration";
+    private static final String RESULT_VALID = "valid";
+    private static final String RESULT_EXPIRED = "expired";
+    private static final String RESULT_SIGNATURE = "signature";
+    private static final String RESULT_MALFORMED = "malformed";
+    private static final String RESULT_UNSUPPORTED = "unsupported";
+    private static final String RESULT_EMPTY = "empty";
+    private static final String RESULT_OTHER = "other";
 
     @Value("${authorization.jwt.secret}")
     private String secret;
@@ -34,15 +66,120 @@ public class TokenServiceImpl implements BearerTokenService {
     @Value("${authorization.jwt.expiration.days}")
     private int expirationDays;
 
+    @Value("${authorization.jwt.principal.self-contained:true}")
+    private boolean selfContainedPrincipal;
+
+    @Value("${authorization.jwt.cache.maximum-size:10000}")
+    private long verifiedClaimsCacheMaximumSize;
+
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    private TokenRevocationRegistry revocationRegistry;
+
+    private SigningKeyRing signingKeyRing;
+
+    private Clock clock = Clock.systemUTC();
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    /**
+     * Verified claims indexed by the SHA-256 digest of the token.
+     * Each entry expires no later than the {@code exp} claim of its token.
+     */
+    private Cache<String, Claims> verifiedClaimsCache;
+
+    /**
+     * Signature verification timings, tagged by result; recorded on verified claims cache misses only.
+     */
+    private Map<String, Timer> validationTimers;
+
+    /**
+     * Sets the registry receiving the validation timings and the verified claims cache metrics.
+     * Defaults to the global registry when the service is created outside a Spring context.
+     * @param meterRegistry the meter registry
+     */
+    @Autowired(required = false)
+    void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Sets the key ring holding the asymmetric signing keys.
+     * Tokens are signed with the shared secret when no key ring is set or it holds no keys.
+     * @param signingKeyRing the signing key ring
+     */
+    @Autowired(required = false)
+    void setSigningKeyRing(SigningKeyRing signingKeyRing) {
+        this.signingKeyRing = signingKeyRing;
+    }
+
+    /**
+     * Sets the registry of revoked token identifiers.
+     * @param revocationRegistry the token revocation registry
+     */
+    @Autowired
+    void setRevocationRegistry(TokenRevocationRegistry revocationRegistry) {
+        this.revocationRegistry = revocationRegistry;
+    }
+
+    /**
+     * Sets the clock tokens are issued, verified and cached against.
+     * Defaults to the system clock; tests move it to expire tokens.
+     * @param clock the clock
+     */
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Builds the signing key, the parser, the verified claims cache and its meters once,
+     * after the configuration properties have been injected.
+     * With asymmetric signing, the parser looks the verification key up by the {@code kid} header.
+     */
+    @PostConstruct
+    void initialize() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        var parserBuilder = Jwts.parser().clock(() -> Date.from(clock.instant()));
+        this.parser = isAsymmetric()
+                ? parserBuilder.keyLocator(new VerificationKeyLocator(signingKeyRing)).build()
+                : parserBuilder.verifyWith(signingKey).build();
+        this.verifiedClaimsCache = Caffeine.newBuilder()
+                .maximumSize(verifiedClaimsCacheMaximumSize)
+                .expireAfter(new UntilTokenExpiration(clock))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaimsCache, VERIFIED_CLAIMS_CACHE_NAME);
+        this.validationTimers = Stream.of(RESULT_VALID, RESULT_EXPIRED, RESULT_SIGNATURE, RESULT_MALFORMED,
+                        RESULT_UNSUPPORTED, RESULT_EMPTY, RESULT_OTHER)
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), result -> Timer.builder(VALIDATION_TIMER_NAME)
+                        .description("Time spent parsing and verifying bearer tokens")
+                        .tag("result", result)
+                        .register(meterRegistry)));
+    }
+
     // Private methods
 
     private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
+    }
+
+    private boolean isAsymmetric() {
+        return signingKeyRing != null && signingKeyRing.isAsymmetric();
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private String digestOf(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
     private <T> T extractClaim(String token, Function<Claims, T> claimsResolvers) {
@@ -63,14 +200,30 @@ public class TokenServiceImpl implements BearerTokenService {
     }
 
     private String buildTokenWithDefaultParameters(String userId) {
-        var issuedAt = new Date();
+        return buildTokenWithDefaultParameters(userId, Map.of());
+    }
+
+    /**
+     * Builds a signed token for the given subject with additional claims.
+     * Each token carries a unique, time-ordered {@code jti} claim so it can be revoked.
+     * @param userId the subject of the token
+     * @param additionalClaims the claims to embed besides the registered ones
+     * @return the signed token
+     */
+    private String buildTokenWithDefaultParameters(String userId, Map<String, ?> additionalClaims) {
+        var issuedAt = Date.from(clock.instant());
         var expiration = DateUtils.addDays(issuedAt, expirationDays);
-        var key = getSigningKey();
-        return Jwts.builder()
+        var builder = Jwts.builder()
+                .id(TimeOrderedUuidGenerator.nextUuid().toString())
                 .subject(userId)
+                .claims(additionalClaims)
                 .issuedAt(issuedAt)
-                .expiration(expiration)
-                .signWith(key)
+                .expiration(expiration);
+        if (!isAsymmetric())
+            return builder.signWith(getSigningKey()).compact();
+        var key = signingKeyRing.current();
+        return builder.header().keyId(key.kid()).and()
+                .signWith(key.keyPair().getPrivate(), signingKeyRing.algorithm())
                 .compact();
     }
 
@@ -97,28 +250,144 @@ public class TokenServiceImpl implements BearerTokenService {
         return buildTokenWithDefaultParameters(username);
     }
 
+    @Override
+    public String generateToken(String userId, String email, Collection<String> roleNames, long securityVersion) {
+        if (!selfContainedPrincipal)
+            return buildTokenWithDefaultParameters(userId);
+        return buildTokenWithDefaultParameters(userId, PrincipalClaims.of(email, roleNames, securityVersion));
+    }
+
     @Override
     public String getUsernameFromToken(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return getVerifiedClaimsFrom(token)
+                .map(Claims::getSubject)
+                .orElseGet(() -> extractClaim(token, Claims::getSubject));
     }
 
     @Override
     public boolean validateToken(String token) {
+        return getVerifiedClaimsFrom(token).isPresent();
+    }
+
+    @Override
+    public boolean revokeToken(String token) {
+        var claims = getVerifiedClaimsFrom(token);
+        if (claims.isEmpty() || claims.get().getId() == null || claims.get().getExpiration() == null)
+            return false;
+        revocationRegistry.revoke(claims.get().getId(), claims.get().getExpiration().toInstant());
+        // The revocation is checked on every request anyway; dropping the entry keeps the cache to usable tokens
+        verifiedClaimsCache.invalidate(digestOf(token));
+        return true;
+    }
+
+    @Override
+    public String getPublicKeySet() {
+        return signingKeyRing != null ? signingKeyRing.publicKeySet() : "{\"keys\":[]}";
+    }
+
+    @Override
+    public boolean isRevoked(Claims claims) {
+        return revocationRegistry.isRevoked(claims.getId());
+    }
+
+    @Override
+    public Optional<Claims> getVerifiedClaimsFrom(String token) {
+        if (token == null || token.isBlank())
+            return Optional.empty();
+        var key = digestOf(token);
+        var cachedClaims = verifiedClaimsCache.getIfPresent(key);
+        if (cachedClaims != null)
+            return Optional.of(cachedClaims);
+        var claims = verify(token);
+        claims.ifPresent(verifiedClaims -> verifiedClaimsCache.put(key, verifiedClaims));
+        return claims;
+    }
+
+    /**
+     * Parses the token and verifies its signature.
+     * The time spent is recorded under {@code iam.token.validation.duration}, tagged with the result.
+     * @param token the token to verify
+     * @return the verified claims, or empty if the token is not valid
+     */
+    private Optional<Claims> verify(String token) {
+        var startTime = System.nanoTime();
+        // Anything not caught below, valid or not, is recorded as another result
+        var result = RESULT_OTHER;
         try {
-            Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token);
-            LOGGER.info("Token is valid");
-            return true;
+            var claims = extractAllClaims(token);
+            result = RESULT_VALID;
+            LOGGER.debug("Token is valid");
+            return Optional.of(claims);
         } catch (SignatureException e) {
+            result = RESULT_SIGNATURE;
             LOGGER.error("Invalid token signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
+            result = RESULT_MALFORMED;
             LOGGER.error("Invalid token format: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
+            result = RESULT_EXPIRED;
             LOGGER.error("Token has expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
+            result = RESULT_UNSUPPORTED;
             LOGGER.error("Unsupported token: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
+            result = RESULT_EMPTY;
             LOGGER.error("Token is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            LOGGER.error("Invalid token: {}", e.getMessage());
+        } finally {
+            validationTimers.get(result).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Locates the public key verifying a token from its {@code kid} header.
+     * Unknown or retired keys fail the verification like a wrong signature.
+     */
+    private static final class VerificationKeyLocator extends LocatorAdapter<Key> {
+        private final SigningKeyRing signingKeyRing;
+
+        private VerificationKeyLocator(SigningKeyRing signingKeyRing) {
+            this.signingKeyRing = signingKeyRing;
+        }
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            var key = signingKeyRing.verificationKeyFor(header.getKeyId());
+            if (key == null)
+                throw new SignatureException("Unknown signing key: " + header.getKeyId());
+            return key;
+        }
+    }
+
+    /**
+     * Expiry policy that keeps a verified token in the cache only until its {@code exp} claim.
+     */
+    private static final class UntilTokenExpiration implements Expiry<String, Claims> {
+        private final Clock clock;
+
+        private UntilTokenExpiration(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            var expiration = claims.getExpiration();
+            if (expiration == null)
+                return 0;
+            var remainingMillis = expiration.getTime() - clock.millis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
         }
-        return false;
     }
 }
\ No newline at end of file
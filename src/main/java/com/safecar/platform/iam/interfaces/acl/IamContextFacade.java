@@ -0,0 +1,33 @@
+package com.safecar.platform.iam.interfaces.acl;
+
+import java.util.UUID;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+
+/**
+ * IAM Context Facade
+ * <p>
+ * The operations of the identity and access management context offered to the other bounded contexts.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+public interface IamContextFacade {
+
+    /**
+     * Issues a credential to a device reporting the telemetry of a vehicle.
+     *
+     * @param vehicleId the id of the vehicle
+     * @return the id of the credential and its secret, encoded in Base64
+     */
+    ImmutablePair<UUID, String> issueDeviceCredential(UUID vehicleId);
+
+    /**
+     * Revokes the credential of a device of a vehicle.
+     *
+     * @param vehicleId the id of the vehicle
+     * @param deviceId  the id of the credential
+     * @return {@code true} if the vehicle had such a credential
+     */
+    boolean revokeDeviceCredential(UUID vehicleId, UUID deviceId);
+}
@@ -4,14 +4,20 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.safecar.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
+import com.safecar.platform.iam.domain.exceptions.EmailAlreadyRegisteredException;
+import com.safecar.platform.iam.domain.model.commands.SignOutCommand;
 import com.safecar.platform.iam.domain.services.UserCommandService;
 import com.safecar.platform.iam.interfaces.rest.resources.AuthenticatedUserResource;
 import com.safecar.platform.iam.interfaces.rest.resources.SignInResource;
@@ -26,6 +32,8 @@ import com.safecar.platform.iam.interfaces.rest.transform.UserResourceFromEntity
 @RequestMapping(value = "/api/v1/authentication", produces = MediaType.APPLICATION_JSON_VALUE)
 @Tag(name = "Authentication", description = "Available Authentication Endpoints")
 public class AuthenticationController {
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final String BEARER_TOKEN_PREFIX = "Bearer ";
     private final UserCommandService userCommandService;
 
     public AuthenticationController(UserCommandService userCommandService) {
@@ -36,7 +44,9 @@ public class AuthenticationController {
     @Operation(summary = "Sign up a new user", description = "Sign up a new user with the provided username, password, and roles.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "User created successfully."),
-            @ApiResponse(responseCode = "400", description = "Bad request.")
+            @ApiResponse(responseCode = "400", description = "Bad request."),
+            @ApiResponse(responseCode = "409", description = "Email already registered."),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent authentication requests.")
     })
     public ResponseEntity<UserResource> signUp(@RequestBody SignUpResource resource) {
         var signUpCommand = SignUpCommandFromResourceAssembler.toCommandFromResource(resource);
@@ -52,7 +62,8 @@ public class AuthenticationController {
     @Operation(summary = "Sign in a user", description = "Sign in a user with the provided username and password.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User signed in successfully."),
-            @ApiResponse(responseCode = "404", description = "User not found.")
+            @ApiResponse(responseCode = "404", description = "User not found."),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent authentication requests.")
     })
     public ResponseEntity<AuthenticatedUserResource> signIn(@RequestBody SignInResource resource) {
         var signInCommand = SignInCommandFromResourceAssembler.toCommandFromResource(resource);
@@ -61,7 +72,47 @@ public class AuthenticationController {
             return ResponseEntity.notFound().build();
         var authenticatedUser = authenticatedUserResult.get();
         var authenticatedUserResource = AuthenticatedUserResourceFromEntityAssembler
-                .toResourceFromEntity(authenticatedUser.left, authenticatedUser.right);
+                .toResourceFromSummary(authenticatedUser.left, authenticatedUser.right);
         return ResponseEntity.ok(authenticatedUserResource);
     }
+
+    @PostMapping("/sign-out")
+    @Operation(summary = "Sign out a user", description = "Revoke the bearer token of the request until it expires. "
+            + "The revocation only applies to the instance that handled the request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Token revoked successfully."),
+            @ApiResponse(responseCode = "400", description = "Missing or invalid bearer token.")
+    })
+    public ResponseEntity<Void> signOut(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        if (!authorization.startsWith(BEARER_TOKEN_PREFIX))
+            return ResponseEntity.badRequest().build();
+        var signOutCommand = new SignOutCommand(authorization.substring(BEARER_TOKEN_PREFIX.length()));
+        if (!userCommandService.handle(signOutCommand))
+            return ResponseEntity.badRequest().build();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Reports a sign-up attempt with an email that is already registered.
+     *
+     * @param exception the {@link EmailAlreadyRegisteredException} exception
+     * @return a 409 response
+     */
+    @ExceptionHandler(EmailAlreadyRegisteredException.class)
+    public ResponseEntity<Void> handleEmailAlreadyRegistered(EmailAlreadyRegisteredException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    /**
+     * Rejects the request fast when the password hashing capacity is exhausted.
+     *
+     * @param exception the {@link HashingCapacityExceededException} exception
+     * @return a 503 response asking the client to retry shortly
+     */
+    @ExceptionHandler(HashingCapacityExceededException.class)
+    public ResponseEntity<Void> handleHashingCapacityExceeded(HashingCapacityExceededException exception) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.safecar.platform.iam.interfaces.rest;
+
+import java.time.Duration;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.safecar.platform.iam.application.internal.outboundservices.tokens.TokenService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * JsonWebKeySetController
+ * <p>
+ * Publishes the public keys that verify the issued bearer tokens, so other services can verify them
+ * locally by their {@code kid} header instead of sharing a secret or calling this service.
+ * The key set is serialized once per key rotation, and clients may cache it for a few minutes.
+ * </p>
+ */
+@RestController
+@Tag(name = "Authentication", description = "Available Authentication Endpoints")
+public class JsonWebKeySetController {
+    private static final CacheControl KEY_SET_CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic();
+    private final TokenService tokenService;
+
+    public JsonWebKeySetController(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the token verification keys", description = "Get the JSON Web Key Set of the public keys that verify the bearer tokens.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Key set retrieved successfully; empty when tokens are signed with a shared secret.")
+    })
+    public ResponseEntity<String> getKeySet() {
+        return ResponseEntity.ok()
+                .cacheControl(KEY_SET_CACHE_CONTROL)
+                .body(tokenService.getPublicKeySet());
+    }
+}
@@ -1,18 +1,25 @@
 package com.safecar.platform.iam.interfaces.rest;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
-import java.util.List;
+import java.time.Duration;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.safecar.platform.iam.domain.model.queries.GetAllRolesQuery;
 import com.safecar.platform.iam.domain.services.RoleQueryService;
 import com.safecar.platform.iam.interfaces.rest.resources.RoleResource;
@@ -22,36 +29,79 @@ import com.safecar.platform.iam.interfaces.rest.transform.RoleResourceFromEntity
  * Controller to handle role endpoints.
  * <p>
  * This class is used to handle role endpoints.
+ * Roles do not change while the application runs, so the response body is serialized once
+ * and served with a strong ETag; clients revalidating with {@code If-None-Match} get a 304.
  * </p>
  */
 @RestController
 @RequestMapping(value = "/api/v1/roles", produces = MediaType.APPLICATION_JSON_VALUE)
 @Tag(name = "Roles", description = "Available Role Endpoints")
 public class RolesController {
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
+
     private final RoleQueryService roleQueryService;
+    private final ObjectMapper objectMapper;
+    private volatile SerializedRoles serializedRoles;
 
     /**
      * Constructor.
      *
      * @param roleQueryService The role query service.
+     * @param objectMapper     The object mapper used to serialize the roles once.
      */
-    public RolesController(RoleQueryService roleQueryService) {
+    public RolesController(RoleQueryService roleQueryService, ObjectMapper objectMapper) {
         this.roleQueryService = roleQueryService;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * Get all roles.
      *
-     * @return The list of roles.
+     * @param request The current request, used to evaluate {@code If-None-Match}.
+     * @return The list of roles, or an empty 304 response if the client copy is up to date.
      */
     @GetMapping
     @Operation(summary = "Get all roles", description = "Get all roles.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Roles retrieved successfully.") })
-    public ResponseEntity<List<RoleResource>> getAllRoles() {
-        var getAllRolesQuery = new GetAllRolesQuery();
-        var roles = roleQueryService.handle(getAllRolesQuery);
-        var roleResources = roles.stream().map(RoleResourceFromEntityAssembler::toResourceFromEntity).toList();
-        return ResponseEntity.ok(roleResources);
+            @ApiResponse(responseCode = "200", description = "Roles retrieved successfully.",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = RoleResource.class)))),
+            @ApiResponse(responseCode = "304", description = "Roles not modified.") })
+    public ResponseEntity<byte[]> getAllRoles(WebRequest request) {
+        var roles = serializedRoles();
+        if (request.checkNotModified(roles.eTag()))
+            return null;
+        return ResponseEntity.ok()
+                .eTag(roles.eTag())
+                .cacheControl(CACHE_CONTROL)
+                .body(roles.body());
+    }
+
+    private SerializedRoles serializedRoles() {
+        var current = serializedRoles;
+        if (current == null) {
+            var getAllRolesQuery = new GetAllRolesQuery();
+            var roles = roleQueryService.handle(getAllRolesQuery);
+            var roleResources = roles.stream().map(RoleResourceFromEntityAssembler::toResourceFromEntity).toList();
+            current = SerializedRoles.of(serialize(roleResources));
+            serializedRoles = current;
+        }
+        return current;
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Roles cannot be serialized", e);
+        }
+    }
+
+    /**
+     * Serialized roles body with its strong ETag.
+     */
+    private record SerializedRoles(byte[] body, String eTag) {
+        static SerializedRoles of(byte[] body) {
+            return new SerializedRoles(body, StrongETags.of(body));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.safecar.platform.iam.interfaces.rest;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Strong ETags of serialized response bodies, derived from the SHA-256 digest of the bytes sent,
+ * so the ETag changes exactly when the representation does.
+ */
+final class StrongETags {
+
+    private StrongETags() {
+    }
+
+    /**
+     * Computes the strong ETag of a response body.
+     *
+     * @param body the serialized body
+     * @return the quoted ETag
+     */
+    static String of(byte[] body) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
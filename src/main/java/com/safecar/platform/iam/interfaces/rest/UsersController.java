@@ -1,23 +1,68 @@
 package com.safecar.platform.iam.interfaces.rest;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import com.safecar.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
+import com.safecar.platform.iam.domain.model.commands.ProvisionUserCommand;
+import com.safecar.platform.iam.domain.model.commands.ProvisionUsersCommand;
 import com.safecar.platform.iam.domain.model.queries.GetAllUsersQuery;
 import com.safecar.platform.iam.domain.model.queries.GetUserByEmailQuery;
+import com.safecar.platform.iam.domain.model.queries.GetUsersPageQuery;
+import com.safecar.platform.iam.domain.model.valueobjects.UserProvisioningResult;
+import com.safecar.platform.iam.domain.services.UserCommandService;
 import com.safecar.platform.iam.domain.services.UserQueryService;
+import com.safecar.platform.iam.interfaces.rest.resources.ChangeUserPasswordResource;
+import com.safecar.platform.iam.interfaces.rest.resources.ChangeUserRolesResource;
+import com.safecar.platform.iam.interfaces.rest.resources.ProvisionUserResource;
 import com.safecar.platform.iam.interfaces.rest.resources.UserResource;
-import com.safecar.platform.iam.interfaces.rest.transform.UserResourceFromEntityAssembler;
+import com.safecar.platform.iam.interfaces.rest.transform.ChangeUserPasswordCommandFromResourceAssembler;
+import com.safecar.platform.iam.interfaces.rest.transform.ChangeUserRolesCommandFromResourceAssembler;
+import com.safecar.platform.iam.interfaces.rest.transform.ProvisionUserCommandFromResourceAssembler;
+import com.safecar.platform.iam.interfaces.rest.transform.UserProvisioningResultResourceFromResultAssembler;
+import com.safecar.platform.iam.interfaces.rest.transform.UserResourceFromSummaryAssembler;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
 
 /**
  * Controller to handle user endpoints.
@@ -29,53 +74,335 @@ import java.util.List;
 @RequestMapping(value = "/api/v1/users", produces = MediaType.APPLICATION_JSON_VALUE)
 @Tag(name = "Users", description = "Available User Endpoints")
 public class UsersController {
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAXIMUM_PAGE_SIZE = 1000;
+    private static final String CSV_MEDIA_TYPE = "text/csv";
+    private static final String STREAM_RETRY_AFTER_SECONDS = "5";
+    // Users change at runtime: clients keep their copy but revalidate it on every use
+    private static final CacheControl USER_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final UserQueryService userQueryService;
+    private final UserCommandService userCommandService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader ndjsonRowReader;
+    private final ObjectReader csvRowReader;
+    private final int provisioningChunkSize;
+    private final int provisioningMaximumAttempts;
+    private final Duration provisioningInitialBackoff;
+    private final Semaphore streams;
 
     /**
      * Constructor.
      *
-     * @param userQueryService The user query service.
+     * @param userQueryService      The user query service.
+     * @param userCommandService    The user command service.
+     * @param objectMapper          The object mapper used to read and write streamed users.
+     * @param provisioningChunkSize The number of rows provisioned together in bulk requests.
+     * @param provisioningMaximumAttempts The number of times a chunk is tried while password hashing is saturated.
+     * @param provisioningInitialBackoff The wait before the first retry of a chunk, doubled on every retry.
+     * @param maximumConcurrentStreams The maximum number of user streams served at once, each holding a connection.
      */
-    public UsersController(UserQueryService userQueryService) {
+    public UsersController(UserQueryService userQueryService, UserCommandService userCommandService,
+            ObjectMapper objectMapper,
+            @Value("${persistence.users.provisioning.chunk-size:500}") int provisioningChunkSize,
+            @Value("${persistence.users.provisioning.retry.maximum-attempts:6}") int provisioningMaximumAttempts,
+            @Value("${persistence.users.provisioning.retry.initial-backoff:100ms}") Duration provisioningInitialBackoff,
+            @Value("${persistence.users.streaming.maximum-concurrent-streams:2}") int maximumConcurrentStreams) {
         this.userQueryService = userQueryService;
+        this.userCommandService = userCommandService;
+        this.objectMapper = objectMapper;
+        this.ndjsonRowReader = objectMapper.readerFor(ProvisionUserResource.class);
+        var csvSchema = CsvSchema.builder()
+                .addColumn("email")
+                .addColumn("password")
+                .addArrayColumn("roles", ";")
+                .build();
+        this.csvRowReader = new CsvMapper().readerFor(ProvisionUserResource.class).with(csvSchema);
+        this.provisioningChunkSize = provisioningChunkSize;
+        this.provisioningMaximumAttempts = provisioningMaximumAttempts;
+        this.provisioningInitialBackoff = provisioningInitialBackoff;
+        this.streams = new Semaphore(maximumConcurrentStreams);
     }
 
     /**
-     * Get all users.
+     * Get one page of users.
+     * <p>
+     * Pages are delimited with a keyset cursor: {@code after} is the id of the last user of the previous page.
+     * When more users may follow, the response carries a {@code Link} header with {@code rel="next"}.
+     * </p>
      *
-     * @return The list of users.
+     * @param after The id of the last user of the previous page, if any.
+     * @param limit The maximum number of users in the page.
+     * @return The list of users of the page.
      */
     @GetMapping
-    @Operation(summary = "Get all users", description = "Get all the users available in the system.")
+    @Operation(summary = "Get users", description = "Get one page of the users available in the system, ordered by id.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Users retrieved successfully."),
             @ApiResponse(responseCode = "401", description = "Unauthorized.") })
-    public ResponseEntity<List<UserResource>> getAllUsers() {
-        var getAllUsersQuery = new GetAllUsersQuery();
-        var users = userQueryService.handle(getAllUsersQuery);
-        var userResources = users.stream().map(UserResourceFromEntityAssembler::toResourceFromEntity).toList();
-        return ResponseEntity.ok(userResources);
+    public ResponseEntity<List<UserResource>> getAllUsers(
+            @RequestParam(required = false) UUID after,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        var pageSize = Math.clamp(limit, 1, MAXIMUM_PAGE_SIZE);
+        var getUsersPageQuery = new GetUsersPageQuery(after, pageSize);
+        var users = userQueryService.handle(getUsersPageQuery);
+        var userResources = users.stream().map(UserResourceFromSummaryAssembler::toResourceFromSummary).toList();
+        var response = ResponseEntity.ok();
+        if (userResources.size() == pageSize) {
+            var next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", userResources.getLast().id())
+                    .replaceQueryParam("limit", pageSize)
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(userResources);
+    }
+
+    /**
+     * Stream all users.
+     * <p>
+     * Users are written as newline-delimited JSON while they are read from the database,
+     * so the response size does not affect the memory used by the server.
+     * Each stream holds a database connection until it ends, so only a few are served at once;
+     * beyond them the request is refused with a 503 response and a {@code Retry-After} header.
+     * </p>
+     *
+     * @return The streamed users.
+     */
+    @GetMapping(value = "/stream", produces = NDJSON_MEDIA_TYPE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Stream all users", description = "Stream all the users available in the system as newline-delimited JSON.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users streamed successfully."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "403", description = "Forbidden."),
+            @ApiResponse(responseCode = "503", description = "Too many streams in progress.") })
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        if (!streams.tryAcquire())
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, STREAM_RETRY_AFTER_SECONDS)
+                    .build();
+        StreamingResponseBody body = outputStream -> {
+            try (var writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+                userQueryService.handle(new GetAllUsersQuery(), summary -> {
+                    try {
+                        writer.write(UserResourceFromSummaryAssembler.toResourceFromSummary(summary));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } finally {
+                streams.release();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE)).body(body);
+    }
+
+    /**
+     * Create users in bulk.
+     * <p>
+     * The body is read line by line, either as newline-delimited JSON objects with {@code email}, {@code password}
+     * and {@code roles}, or as CSV with an {@code email,password,roles} header and roles separated by {@code ;}.
+     * Rows are provisioned in chunks and the outcome of each row is streamed back as newline-delimited JSON,
+     * so neither the request nor the report is ever held in memory. A chunk rejected because password hashing
+     * is saturated by interactive sign-ins is retried with an exponential backoff before its rows are rejected.
+     * </p>
+     *
+     * @param request The request whose body contains the users.
+     * @return The streamed outcome of each row.
+     * @throws IOException If the body cannot be read.
+     */
+    @PostMapping(value = "/bulk", consumes = {NDJSON_MEDIA_TYPE, CSV_MEDIA_TYPE}, produces = NDJSON_MEDIA_TYPE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create users in bulk", description = "Create the users of a newline-delimited JSON or CSV body and stream the outcome of each row.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rows processed; the report tells which users were created."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "403", description = "Forbidden.") })
+    public ResponseEntity<StreamingResponseBody> provisionUsers(HttpServletRequest request) throws IOException {
+        var csv = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType(CSV_MEDIA_TYPE));
+        var rowReader = csv ? csvRowReader : ndjsonRowReader;
+        var inputStream = request.getInputStream();
+        StreamingResponseBody body = outputStream -> {
+            try (var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+                 var writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+                var lines = new ArrayList<Long>(provisioningChunkSize);
+                var commands = new ArrayList<ProvisionUserCommand>(provisioningChunkSize);
+                long line = 0;
+                if (csv && reader.readLine() != null)
+                    line++;
+                for (var row = reader.readLine(); row != null; row = reader.readLine()) {
+                    line++;
+                    if (row.isBlank())
+                        continue;
+                    ProvisionUserResource resource = null;
+                    try {
+                        resource = rowReader.readValue(row);
+                        commands.add(ProvisionUserCommandFromResourceAssembler.toCommandFromResource(resource));
+                        lines.add(line);
+                    } catch (JsonProcessingException e) {
+                        writer.write(UserProvisioningResultResourceFromResultAssembler
+                                .toRejectedResource(line, null, e.getOriginalMessage()));
+                    } catch (IllegalArgumentException e) {
+                        writer.write(UserProvisioningResultResourceFromResultAssembler
+                                .toRejectedResource(line, resource != null ? resource.email() : null, e.getMessage()));
+                    }
+                    if (commands.size() == provisioningChunkSize)
+                        provisionChunk(lines, commands, writer);
+                }
+                if (!commands.isEmpty())
+                    provisionChunk(lines, commands, writer);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE)).body(body);
     }
 
     /**
-     * Get user by id.
+     * Get user by email.
+     * <p>
+     * The user is served with a strong ETag of its representation, so it changes with the email or the roles;
+     * clients revalidating with {@code If-None-Match} get a 304 without a body.
+     * </p>
      *
-     * @param userId The id of the user to retrieve.
-     * @return The user.
+     * @param email The email of the user to retrieve.
+     * @param request The current request, used to evaluate {@code If-None-Match}.
+     * @return The user, or an empty 304 response if the client copy is up to date.
      */
     @GetMapping(value = "/{email}")
     @Operation(summary = "Get user by email", description = "Get the user with the given email.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "User retrieved successfully."),
+            @ApiResponse(responseCode = "200", description = "User retrieved successfully.",
+                    content = @Content(schema = @Schema(implementation = UserResource.class))),
+            @ApiResponse(responseCode = "304", description = "User not modified."),
             @ApiResponse(responseCode = "404", description = "User not found."),
             @ApiResponse(responseCode = "401", description = "Unauthorized.") })
-    public ResponseEntity<UserResource> getUserById(@PathVariable String email) {
+    public ResponseEntity<byte[]> getUserById(@PathVariable String email, WebRequest request) {
         var getUserByIdQuery = new GetUserByEmailQuery(email);
         var user = userQueryService.handle(getUserByIdQuery);
         if (user.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        var userResource = UserResourceFromEntityAssembler.toResourceFromEntity(user.get());
-        return ResponseEntity.ok(userResource);
+        var userResource = UserResourceFromSummaryAssembler.toResourceFromSummary(user.get());
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(userResource);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("User cannot be serialized", e);
+        }
+        var eTag = StrongETags.of(body);
+        if (request.checkNotModified(eTag))
+            return null;
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(USER_CACHE_CONTROL)
+                .body(body);
+    }
+
+    /**
+     * Replace the password of a user.
+     * <p>
+     * Tokens issued to the user before the change are stale: their principal is loaded again from the database.
+     * </p>
+     *
+     * @param email The email of the user.
+     * @param resource The new password.
+     * @return An empty response, or a 404 response if no user has the email.
+     */
+    @PutMapping(value = "/{email}/password")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Change user password", description = "Replace the password of the user with the given email.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Password changed successfully."),
+            @ApiResponse(responseCode = "400", description = "Password does not meet the password rules."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "403", description = "Forbidden."),
+            @ApiResponse(responseCode = "404", description = "User not found.") })
+    public ResponseEntity<Void> changeUserPassword(@PathVariable String email,
+            @RequestBody ChangeUserPasswordResource resource) {
+        var changeUserPasswordCommand = ChangeUserPasswordCommandFromResourceAssembler.toCommandFromResource(email, resource);
+        var user = userCommandService.handle(changeUserPasswordCommand);
+        if (user.isEmpty())
+            return ResponseEntity.notFound().build();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Replace the roles of a user.
+     * <p>
+     * Tokens issued to the user before the change are stale: their principal is loaded again from the database.
+     * </p>
+     *
+     * @param email The email of the user.
+     * @param resource The names of the new roles.
+     * @return An empty response, or a 404 response if no user has the email.
+     */
+    @PutMapping(value = "/{email}/roles")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Change user roles", description = "Replace the roles of the user with the given email.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Roles changed successfully."),
+            @ApiResponse(responseCode = "400", description = "Role not found or not assignable to users."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "403", description = "Forbidden."),
+            @ApiResponse(responseCode = "404", description = "User not found.") })
+    public ResponseEntity<Void> changeUserRoles(@PathVariable String email,
+            @RequestBody ChangeUserRolesResource resource) {
+        var changeUserRolesCommand = ChangeUserRolesCommandFromResourceAssembler.toCommandFromResource(email, resource);
+        var user = userCommandService.handle(changeUserRolesCommand);
+        if (user.isEmpty())
+            return ResponseEntity.notFound().build();
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Reports a request with a password that breaks the password rules or an unknown role.
+     *
+     * @param exception the {@link IllegalArgumentException} exception
+     * @return a 400 response
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleIllegalArgument(IllegalArgumentException exception) {
+        return ResponseEntity.badRequest().build();
+    }
+
+    private void provisionChunk(List<Long> lines, List<ProvisionUserCommand> commands, SequenceWriter writer)
+            throws IOException {
+        try {
+            var results = provisionWithBackoff(new ProvisionUsersCommand(commands));
+            for (int i = 0; i < results.size(); i++)
+                writer.write(UserProvisioningResultResourceFromResultAssembler.toResourceFromResult(lines.get(i), results.get(i)));
+        } catch (HashingCapacityExceededException e) {
+            for (int i = 0; i < commands.size(); i++)
+                writer.write(UserProvisioningResultResourceFromResultAssembler
+                        .toRejectedResource(lines.get(i), commands.get(i).email(), e.getMessage()));
+        }
+        // Report each chunk as soon as it is done
+        writer.flush();
+        lines.clear();
+        commands.clear();
+    }
+
+    /**
+     * Provisions a chunk, retrying it while password hashing is saturated.
+     * Passwords are hashed before anything is inserted, so a rejected chunk can be tried again as a whole.
+     */
+    private List<UserProvisioningResult> provisionWithBackoff(ProvisionUsersCommand command) {
+        var backoff = provisioningInitialBackoff;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return userCommandService.handle(command);
+            } catch (HashingCapacityExceededException e) {
+                if (attempt >= provisioningMaximumAttempts)
+                    throw e;
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                backoff = backoff.multipliedBy(2);
+            }
+        }
     }
-}
\ No newline at end of file
+}
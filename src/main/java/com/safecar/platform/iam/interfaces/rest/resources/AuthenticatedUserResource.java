@@ -1,5 +1,7 @@
 package com.safecar.platform.iam.interfaces.rest.resources;
 
+import java.util.UUID;
+
 /**
  * Resource representing an authenticated user with their ID, username, and authentication token.
  * <p>
@@ -12,5 +14,5 @@ package com.safecar.platform.iam.interfaces.rest.resources;
  * @author GonzaloQu3dena
  * @since 1.0.0
  */
-public record AuthenticatedUserResource(Long id, String username, String token) {
+public record AuthenticatedUserResource(UUID id, String username, String token) {
 }
\ No newline at end of file
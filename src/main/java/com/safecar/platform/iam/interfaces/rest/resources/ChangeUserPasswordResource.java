@@ -0,0 +1,10 @@
+package com.safecar.platform.iam.interfaces.rest.resources;
+
+/**
+ * Resource representing the new password of a user.
+ *
+ * @param password the new raw password of the user
+ * @since 2026-10-18
+ */
+public record ChangeUserPasswordResource(String password) {
+}
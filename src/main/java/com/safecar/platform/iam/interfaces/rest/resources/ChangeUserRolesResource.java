@@ -0,0 +1,12 @@
+package com.safecar.platform.iam.interfaces.rest.resources;
+
+import java.util.Set;
+
+/**
+ * Resource representing the new roles of a user.
+ *
+ * @param roles the names of the new roles of the user; the default role is assigned when empty
+ * @since 2026-10-18
+ */
+public record ChangeUserRolesResource(Set<String> roles) {
+}
@@ -0,0 +1,14 @@
+package com.safecar.platform.iam.interfaces.rest.resources;
+
+import java.util.Set;
+
+/**
+ * Resource representing one row of a bulk user provisioning request.
+ *
+ * @param email    the email of the user
+ * @param password the raw password of the user
+ * @param roles    the names of the roles of the user; the default role is assigned when empty
+ * @since 2026-10-18
+ */
+public record ProvisionUserResource(String email, String password, Set<String> roles) {
+}
@@ -0,0 +1,16 @@
+package com.safecar.platform.iam.interfaces.rest.resources;
+
+import java.util.UUID;
+
+/**
+ * Resource reporting the outcome of one row of a bulk user provisioning request.
+ *
+ * @param line   the line of the row in the request body
+ * @param email  the email of the row, if it could be read
+ * @param status {@code CREATED} or {@code REJECTED}
+ * @param id     the id of the created user, if any
+ * @param error  the reason why the row was rejected, if any
+ * @since 2026-10-18
+ */
+public record UserProvisioningResultResource(long line, String email, String status, UUID id, String error) {
+}
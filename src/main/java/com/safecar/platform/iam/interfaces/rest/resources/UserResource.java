@@ -1,6 +1,7 @@
 package com.safecar.platform.iam.interfaces.rest.resources;
 
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Resource representing a user with their ID, username, and role.
@@ -14,5 +15,5 @@ import java.util.List;
  * @since 1.0.0
  * @author GonzaloQu3dena
  */
-public record UserResource(Long id, String email, List<String> roles) {
+public record UserResource(UUID id, String email, List<String> roles) {
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.safecar.platform.iam.interfaces.rest.transform;
 
 import com.safecar.platform.iam.domain.model.aggregates.User;
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
 import com.safecar.platform.iam.interfaces.rest.resources.AuthenticatedUserResource;
 
 /**
@@ -30,4 +31,19 @@ public class AuthenticatedUserResourceFromEntityAssembler {
                 token
         );
     }
+
+    /**
+     * Converts a {@link UserSummary} projection and a JWT token into an {@link AuthenticatedUserResource}.
+     *
+     * @param summary the user summary to convert
+     * @param token   the JWT authentication token
+     * @return the corresponding {@link AuthenticatedUserResource}
+     */
+    public static AuthenticatedUserResource toResourceFromSummary(UserSummary summary, String token) {
+        return new AuthenticatedUserResource(
+                summary.id(),
+                summary.email(),
+                token
+        );
+    }
 }
\ No newline at end of file
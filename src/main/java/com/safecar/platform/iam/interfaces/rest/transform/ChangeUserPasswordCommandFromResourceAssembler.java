@@ -0,0 +1,23 @@
+package com.safecar.platform.iam.interfaces.rest.transform;
+
+import com.safecar.platform.iam.domain.model.commands.ChangeUserPasswordCommand;
+import com.safecar.platform.iam.interfaces.rest.resources.ChangeUserPasswordResource;
+
+/**
+ * Assembler class for converting {@link ChangeUserPasswordResource} objects into {@link ChangeUserPasswordCommand} commands.
+ *
+ * @since 2026-10-18
+ */
+public class ChangeUserPasswordCommandFromResourceAssembler {
+
+    /**
+     * Converts a {@link ChangeUserPasswordResource} into a {@link ChangeUserPasswordCommand}.
+     *
+     * @param email    the email of the user
+     * @param resource the new password
+     * @return a new {@link ChangeUserPasswordCommand} constructed from the provided resource
+     */
+    public static ChangeUserPasswordCommand toCommandFromResource(String email, ChangeUserPasswordResource resource) {
+        return new ChangeUserPasswordCommand(email, resource.password());
+    }
+}
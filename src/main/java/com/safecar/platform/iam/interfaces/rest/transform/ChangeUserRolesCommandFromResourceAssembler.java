@@ -0,0 +1,25 @@
+package com.safecar.platform.iam.interfaces.rest.transform;
+
+import com.safecar.platform.iam.domain.model.commands.ChangeUserRolesCommand;
+import com.safecar.platform.iam.interfaces.rest.resources.ChangeUserRolesResource;
+
+/**
+ * Assembler class for converting {@link ChangeUserRolesResource} objects into {@link ChangeUserRolesCommand} commands.
+ *
+ * @since 2026-10-18
+ */
+public class ChangeUserRolesCommandFromResourceAssembler {
+
+    /**
+     * Converts a {@link ChangeUserRolesResource} into a {@link ChangeUserRolesCommand}.
+     *
+     * @param email    the email of the user
+     * @param resource the names of the new roles
+     * @return a new {@link ChangeUserRolesCommand} constructed from the provided resource
+     * @throws IllegalArgumentException if a role does not exist
+     */
+    public static ChangeUserRolesCommand toCommandFromResource(String email, ChangeUserRolesResource resource) {
+        var roles = RoleListFromStringAssembler.toRoleListFromStringList(resource.roles());
+        return new ChangeUserRolesCommand(email, roles);
+    }
+}
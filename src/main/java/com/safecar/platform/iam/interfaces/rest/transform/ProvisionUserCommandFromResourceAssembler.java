@@ -0,0 +1,39 @@
+package com.safecar.platform.iam.interfaces.rest.transform;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.safecar.platform.iam.domain.model.commands.ProvisionUserCommand;
+import com.safecar.platform.iam.domain.model.entities.Role;
+import com.safecar.platform.iam.interfaces.rest.resources.ProvisionUserResource;
+
+/**
+ * Assembler class for converting {@link ProvisionUserResource} objects into {@link ProvisionUserCommand} commands.
+ *
+ * @since 2026-10-18
+ */
+public class ProvisionUserCommandFromResourceAssembler {
+
+    /**
+     * Converts a {@link ProvisionUserResource} into a {@link ProvisionUserCommand}.
+     * Blank role names, as produced by an empty CSV column, are ignored.
+     *
+     * @param resource the provisioning row
+     * @return a new {@link ProvisionUserCommand} constructed from the provided resource
+     * @throws IllegalArgumentException if the row or a role name is null, a field is missing or a role does not exist
+     */
+    public static ProvisionUserCommand toCommandFromResource(ProvisionUserResource resource) {
+        if (Objects.isNull(resource))
+            throw new IllegalArgumentException("Row cannot be null");
+        var roles = Objects.nonNull(resource.roles()) ? resource.roles().stream()
+                .map(name -> {
+                    if (Objects.isNull(name))
+                        throw new IllegalArgumentException("Role name cannot be null");
+                    return name;
+                })
+                .filter(name -> !name.isBlank())
+                .map(Role::toRoleFromName)
+                .collect(Collectors.toSet()) : null;
+        return new ProvisionUserCommand(resource.email(), resource.password(), roles);
+    }
+}
@@ -0,0 +1,43 @@
+package com.safecar.platform.iam.interfaces.rest.transform;
+
+import com.safecar.platform.iam.domain.model.valueobjects.UserProvisioningResult;
+import com.safecar.platform.iam.interfaces.rest.resources.UserProvisioningResultResource;
+
+/**
+ * Assembler class for converting {@link UserProvisioningResult} values into {@link UserProvisioningResultResource} objects.
+ *
+ * @since 2026-10-18
+ */
+public class UserProvisioningResultResourceFromResultAssembler {
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    /**
+     * Converts a {@link UserProvisioningResult} into a {@link UserProvisioningResultResource}.
+     *
+     * @param line   the line of the row in the request body
+     * @param result the outcome of the row
+     * @return the corresponding {@link UserProvisioningResultResource}
+     */
+    public static UserProvisioningResultResource toResourceFromResult(long line, UserProvisioningResult result) {
+        return new UserProvisioningResultResource(
+                line,
+                result.email(),
+                result.isProvisioned() ? CREATED : REJECTED,
+                result.userId(),
+                result.error()
+        );
+    }
+
+    /**
+     * Creates the resource of a row that was rejected before reaching the command service.
+     *
+     * @param line  the line of the row in the request body
+     * @param email the email of the row, or {@code null} if the row could not be read
+     * @param error the reason why the row was rejected
+     * @return the corresponding {@link UserProvisioningResultResource}
+     */
+    public static UserProvisioningResultResource toRejectedResource(long line, String email, String error) {
+        return new UserProvisioningResultResource(line, email, REJECTED, null, error);
+    }
+}
@@ -0,0 +1,29 @@
+package com.safecar.platform.iam.interfaces.rest.transform;
+
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
+import com.safecar.platform.iam.interfaces.rest.resources.UserResource;
+
+/**
+ * Assembler class for converting {@link UserSummary} projections into {@link UserResource} objects.
+ * <p>
+ * Used to transform read-only user summaries into resources suitable for API responses.
+ * </p>
+ *
+ * @since 1.0.0
+ */
+public class UserResourceFromSummaryAssembler {
+
+    /**
+     * Converts a {@link UserSummary} projection into a {@link UserResource}.
+     *
+     * @param summary the user summary to convert
+     * @return the corresponding {@link UserResource}
+     */
+    public static UserResource toResourceFromSummary(UserSummary summary) {
+        return new UserResource(
+                summary.id(),
+                summary.email(),
+                summary.roleNames()
+        );
+    }
+}
@@ -1,16 +1,18 @@
 package com.safecar.platform.shared.domain.model.aggregates;
 
 import java.util.Date;
+import java.util.UUID;
 
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.data.domain.AbstractAggregateRoot;
 
+import com.safecar.platform.shared.infrastructure.persistence.jpa.identifiers.TimeOrderedUuid;
+
 import lombok.Getter;
 import jakarta.persistence.Id;
 import jakarta.persistence.Column;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
 
@@ -18,7 +20,7 @@ import jakarta.persistence.MappedSuperclass;
  * Abstract base class for aggregate roots that includes auditing fields.
  * <p>
  * Provides automatic management of creation and update timestamps,
- * as well as a generated primary key.
+ * as well as a time-ordered UUID primary key generated by the application.
  * </p>
  * 
  * @param <T> the type of the aggregate root.
@@ -30,11 +32,12 @@ import jakarta.persistence.MappedSuperclass;
 public class AuditableAbstractAggregateRoot<T extends AbstractAggregateRoot<T>> extends AbstractAggregateRoot<T> {
      /**
      * The unique identifier for the aggregate root.
+     * A time-ordered UUID assigned by the application before the insert.
      */
     @Id
-    @GeneratedValue
-    @Column(columnDefinition = "BINARY(16)", updatable = false, nullable = false)
-    private Long id;
+    @TimeOrderedUuid
+    @Column(updatable = false, nullable = false)
+    private UUID id;
 
     /**
      * The timestamp when the entity was created.
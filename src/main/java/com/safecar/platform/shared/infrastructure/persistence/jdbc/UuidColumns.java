@@ -0,0 +1,66 @@
+package com.safecar.platform.shared.infrastructure.persistence.jdbc;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Conversions between {@link UUID} identifiers and the columns that store them when they are read or written
+ * through plain JDBC.
+ * <p>
+ * Hibernate stores UUIDs as {@code BINARY(16)} on MySQL and with the native {@code UUID} type on databases
+ * that have one, such as H2; both representations are accepted when reading.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+public final class UuidColumns {
+
+    private UuidColumns() {
+    }
+
+    /**
+     * Reads a UUID column.
+     *
+     * @param resultSet the result set positioned on the row
+     * @param column    the index of the column, starting at 1
+     * @return the UUID, or {@code null} if the column is null
+     * @throws SQLException if the column cannot be read
+     */
+    public static UUID getUuid(ResultSet resultSet, int column) throws SQLException {
+        var value = resultSet.getObject(column);
+        return switch (value) {
+            case null -> null;
+            case UUID uuid -> uuid;
+            case byte[] bytes -> fromBytes(bytes);
+            default -> UUID.fromString(value.toString());
+        };
+    }
+
+    /**
+     * Converts a UUID into its 16-byte big-endian representation, as stored in a {@code BINARY(16)} column.
+     *
+     * @param uuid the UUID
+     * @return the 16 bytes of the UUID
+     */
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * Converts the 16-byte big-endian representation of a UUID back into a UUID.
+     *
+     * @param bytes the 16 bytes of the UUID
+     * @return the UUID
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes.length != 16)
+            throw new IllegalArgumentException("A UUID is 16 bytes long, got " + bytes.length);
+        var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
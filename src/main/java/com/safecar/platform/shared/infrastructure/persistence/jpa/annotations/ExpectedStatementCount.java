@@ -0,0 +1,29 @@
+package com.safecar.platform.shared.infrastructure.persistence.jpa.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how many SQL statements a repository method is expected to run.
+ * <p>
+ * The declaration documents the fetch plan of the method and is enforced by the persistence tests,
+ * so a change that reintroduces lazy loading (an N+1 pattern) fails the build instead of production latency.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ExpectedStatementCount {
+
+    /**
+     * The number of SQL statements the method runs, whatever the size of its result.
+     *
+     * @return the expected statement count
+     */
+    int value();
+}
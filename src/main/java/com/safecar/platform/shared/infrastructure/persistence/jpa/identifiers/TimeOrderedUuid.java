@@ -0,0 +1,22 @@
+package com.safecar.platform.shared.infrastructure.persistence.jpa.identifiers;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Marks an identifier generated by the application as a time-ordered UUID (version 7).
+ *
+ * @see TimeOrderedUuidGenerator
+ * @since 2026-10-18
+ */
+@Documented
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOrderedUuid {
+}
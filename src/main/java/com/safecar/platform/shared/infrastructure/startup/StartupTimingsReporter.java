@@ -0,0 +1,72 @@
+package com.safecar.platform.shared.infrastructure.startup;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Startup Timings Reporter
+ * <p>
+ *     Logs how long the application took to become ready, broken down by startup phase,
+ *     together with the slowest bean instantiations. The steps are recorded by the
+ *     {@link BufferingApplicationStartup} set up in the main class, which also backs
+ *     the {@code /actuator/startup} endpoint; nothing is logged when another startup is in use.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class StartupTimingsReporter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupTimingsReporter.class);
+    private static final String APPLICATION_PHASE_PREFIX = "spring.boot.application.";
+    private static final String CONTEXT_REFRESH_STEP = "spring.context.refresh";
+    private static final String BEAN_INSTANTIATION_STEP = "spring.beans.instantiate";
+    private static final int SLOWEST_BEANS = 5;
+
+    /**
+     * Reports the startup timings once the application is ready to serve requests.
+     *
+     * @param event the {@link ApplicationReadyEvent} event
+     */
+    @EventListener
+    public void on(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup))
+            return;
+        var events = startup.getBufferedTimeline().getEvents();
+        var phases = events.stream()
+                .filter(step -> step.getStartupStep().getName().startsWith(APPLICATION_PHASE_PREFIX)
+                        || step.getStartupStep().getName().equals(CONTEXT_REFRESH_STEP))
+                .sorted(Comparator.comparing(TimelineEvent::getStartTime))
+                .map(step -> step.getStartupStep().getName().replace(APPLICATION_PHASE_PREFIX, "") + "=" + millisOf(step.getDuration()))
+                .collect(Collectors.joining(", "));
+        var slowestBeans = events.stream()
+                .filter(step -> step.getStartupStep().getName().equals(BEAN_INSTANTIATION_STEP))
+                .sorted(Comparator.comparing(TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_BEANS)
+                .map(step -> beanNameOf(step) + "=" + millisOf(step.getDuration()))
+                .collect(Collectors.joining(", "));
+        LOGGER.info("Ready in {}; phases: {}", millisOf(event.getTimeTaken()), phases);
+        LOGGER.info("Slowest bean instantiations, including their dependencies: {}", slowestBeans);
+    }
+
+    private static String beanNameOf(TimelineEvent step) {
+        return StreamSupport.stream(step.getStartupStep().getTags().spliterator(), false)
+                .filter(tag -> tag.getKey().equals("beanName"))
+                .map(tag -> tag.getValue())
+                .findFirst()
+                .orElse("?");
+    }
+
+    private static String millisOf(Duration duration) {
+        return duration.toMillis() + "ms";
+    }
+}
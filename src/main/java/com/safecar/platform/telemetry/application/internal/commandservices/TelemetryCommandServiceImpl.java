@@ -0,0 +1,93 @@
+package com.safecar.platform.telemetry.application.internal.commandservices;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.safecar.platform.telemetry.domain.model.commands.IngestTelemetryCommand;
+import com.safecar.platform.telemetry.domain.model.events.AlertRaisedEvent;
+import com.safecar.platform.telemetry.domain.services.TelemetryCommandService;
+import com.safecar.platform.telemetry.infrastructure.memory.RecentReadingsStore;
+import com.safecar.platform.telemetry.infrastructure.persistence.jdbc.TelemetryReadingJdbcRepository;
+import com.safecar.platform.telemetry.infrastructure.persistence.jdbc.TelemetryRollupJdbcRepository;
+import com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories.AlertRepository;
+import com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories.VehicleRepository;
+import com.safecar.platform.telemetry.infrastructure.rules.AlertRuleEngine;
+
+/**
+ * TelemetryCommandServiceImpl
+ * <p>
+ * Implementation of {@link TelemetryCommandService}.
+ * Each batch of samples is written with JDBC batch inserts in a single transaction,
+ * so a batch costs one commit whatever its size. Once committed, the rollups of the buckets of the samples are
+ * recomputed in a second transaction, the samples are added to the {@link RecentReadingsStore} and evaluated by the
+ * {@link AlertRuleEngine}; the alerts raised are saved and an {@link AlertRaisedEvent} is published for each of them.
+ * </p>
+ * <p>
+ * The events carry the owner of the vehicle, so they are streamed without reading the vehicle per alert. The owner
+ * comes with the command when the caller loaded the vehicle; otherwise, for batches signed by a device, it is read
+ * once for the batch, and only if the batch raised alerts.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class TelemetryCommandServiceImpl implements TelemetryCommandService {
+    private final TelemetryReadingJdbcRepository telemetryReadingJdbcRepository;
+    private final TelemetryRollupJdbcRepository telemetryRollupJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RecentReadingsStore recentReadingsStore;
+    private final AlertRuleEngine alertRuleEngine;
+    private final AlertRepository alertRepository;
+    private final VehicleRepository vehicleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Constructor
+     *
+     * @param telemetryReadingJdbcRepository {@link TelemetryReadingJdbcRepository} instance
+     * @param telemetryRollupJdbcRepository  {@link TelemetryRollupJdbcRepository} instance
+     * @param transactionTemplate            {@link TransactionTemplate} used to write each batch
+     * @param recentReadingsStore            {@link RecentReadingsStore} instance
+     * @param alertRuleEngine                {@link AlertRuleEngine} instance
+     * @param alertRepository                {@link AlertRepository} instance
+     * @param vehicleRepository              {@link VehicleRepository} resolving the owner of the vehicle if unknown
+     * @param eventPublisher                 {@link ApplicationEventPublisher} publishing the raised alerts
+     */
+    public TelemetryCommandServiceImpl(TelemetryReadingJdbcRepository telemetryReadingJdbcRepository,
+            TelemetryRollupJdbcRepository telemetryRollupJdbcRepository, TransactionTemplate transactionTemplate, RecentReadingsStore recentReadingsStore,
+            AlertRuleEngine alertRuleEngine, AlertRepository alertRepository, VehicleRepository vehicleRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.telemetryReadingJdbcRepository = telemetryReadingJdbcRepository;
+        this.telemetryRollupJdbcRepository = telemetryRollupJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.recentReadingsStore = recentReadingsStore;
+        this.alertRuleEngine = alertRuleEngine;
+        this.alertRepository = alertRepository;
+        this.vehicleRepository = vehicleRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // inherited javadoc
+    @Override
+    public int handle(IngestTelemetryCommand command) {
+        transactionTemplate.executeWithoutResult(status ->
+                telemetryReadingJdbcRepository.insertAll(command.vehicleId(), command.samples()));
+        // Separate from the insert: locking the readings of a bucket while holding uncommitted readings could deadlock
+        // with a concurrent batch of the same vehicle
+        transactionTemplate.executeWithoutResult(status ->
+                telemetryRollupJdbcRepository.refresh(command.vehicleId(), command.samples()));
+        recentReadingsStore.append(command.vehicleId(), command.samples());
+        var alerts = alertRuleEngine.evaluate(command.vehicleId(), command.samples());
+        if (!alerts.isEmpty()) {
+            var ownerEmail = command.ownerEmail() != null ? command.ownerEmail()
+                    : vehicleRepository.findOwnerEmailById(command.vehicleId()).orElse(null);
+            // Ids are generated on insert, so events are published once the alerts are saved
+            for (var alert : alertRepository.saveAll(alerts))
+                eventPublisher.publishEvent(new AlertRaisedEvent(alert.getId(), alert.getVehicleId(), ownerEmail,
+                        alert.getRuleId(), alert.getSignal(), alert.getSeverity(), alert.getMessage(), alert.getValue(),
+                        alert.getRecordedAt()));
+        }
+        return command.samples().size();
+    }
+}
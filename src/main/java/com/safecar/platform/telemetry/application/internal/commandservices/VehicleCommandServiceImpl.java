@@ -0,0 +1,44 @@
+package com.safecar.platform.telemetry.application.internal.commandservices;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.safecar.platform.telemetry.domain.exceptions.VinAlreadyRegisteredException;
+import com.safecar.platform.telemetry.domain.model.aggregates.Vehicle;
+import com.safecar.platform.telemetry.domain.model.commands.RegisterVehicleCommand;
+import com.safecar.platform.telemetry.domain.services.VehicleCommandService;
+import com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories.VehicleRepository;
+
+/**
+ * VehicleCommandServiceImpl
+ * <p>
+ * Implementation of {@link VehicleCommandService}.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class VehicleCommandServiceImpl implements VehicleCommandService {
+    private final VehicleRepository vehicleRepository;
+
+    /**
+     * Constructor
+     *
+     * @param vehicleRepository {@link VehicleRepository} instance
+     */
+    public VehicleCommandServiceImpl(VehicleRepository vehicleRepository) {
+        this.vehicleRepository = vehicleRepository;
+    }
+
+    // inherited javadoc
+    @Override
+    public Vehicle handle(RegisterVehicleCommand command) {
+        var vehicle = new Vehicle(command.vin(), command.ownerEmail());
+        try {
+            // The unique VIN constraint replaces an existence pre-check
+            return vehicleRepository.save(vehicle);
+        } catch (DataIntegrityViolationException e) {
+            throw new VinAlreadyRegisteredException(vehicle.getVin(), e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.safecar.platform.telemetry.application.internal.eventhandlers;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.safecar.platform.telemetry.domain.model.events.AlertRaisedEvent;
+import com.safecar.platform.telemetry.infrastructure.streaming.AlertStreamBroker;
+import com.safecar.platform.telemetry.interfaces.rest.transform.AlertResourceFromEventAssembler;
+
+/**
+ * Event handler for the AlertRaisedEvent.
+ * <p>
+ *  Pushes each raised alert to the open alert streams of the owner of the vehicle and of the mechanics.
+ *  The alert is only queued on the streams, so the ingestion that raised it does not wait for slow clients,
+ *  nor for the database: the owner of the vehicle comes with the event. Streams receive the alert as it is read
+ *  from the REST API.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class AlertRaisedEventHandler {
+    private final AlertStreamBroker alertStreamBroker;
+
+    /**
+     * Constructor.
+     *
+     * @param alertStreamBroker the {@link AlertStreamBroker} holding the open alert streams
+     */
+    public AlertRaisedEventHandler(AlertStreamBroker alertStreamBroker) {
+        this.alertStreamBroker = alertStreamBroker;
+    }
+
+    /**
+     * Event listener for the AlertRaisedEvent.
+     *
+     * @param event the {@link AlertRaisedEvent} event.
+     */
+    @EventListener
+    public void on(AlertRaisedEvent event) {
+        alertStreamBroker.publish(event.ownerEmail(), AlertResourceFromEventAssembler.toResourceFromEvent(event));
+    }
+}
@@ -0,0 +1,51 @@
+package com.safecar.platform.telemetry.application.internal.outboundservices.acl;
+
+import java.util.UUID;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.springframework.stereotype.Service;
+
+import com.safecar.platform.iam.interfaces.acl.IamContextFacade;
+
+/**
+ * External IAM Service
+ * <p>
+ * Gives the telemetry context access to the device credentials held by the identity and access management context.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class ExternalIamService {
+    private final IamContextFacade iamContextFacade;
+
+    /**
+     * Constructor
+     *
+     * @param iamContextFacade {@link IamContextFacade} instance
+     */
+    public ExternalIamService(IamContextFacade iamContextFacade) {
+        this.iamContextFacade = iamContextFacade;
+    }
+
+    /**
+     * Issues a credential to a device of a vehicle.
+     *
+     * @param vehicleId the id of the vehicle
+     * @return the id of the device and its secret
+     */
+    public ImmutablePair<UUID, String> issueDeviceCredential(UUID vehicleId) {
+        return iamContextFacade.issueDeviceCredential(vehicleId);
+    }
+
+    /**
+     * Revokes the credential of a device of a vehicle.
+     *
+     * @param vehicleId the id of the vehicle
+     * @param deviceId  the id of the device
+     * @return {@code true} if the vehicle had such a device
+     */
+    public boolean revokeDeviceCredential(UUID vehicleId, UUID deviceId) {
+        return iamContextFacade.revokeDeviceCredential(vehicleId, deviceId);
+    }
+}
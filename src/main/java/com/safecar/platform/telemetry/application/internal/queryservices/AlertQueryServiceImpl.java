@@ -0,0 +1,39 @@
+package com.safecar.platform.telemetry.application.internal.queryservices;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.safecar.platform.telemetry.domain.model.aggregates.Alert;
+import com.safecar.platform.telemetry.domain.model.queries.GetAlertsByVehicleIdQuery;
+import com.safecar.platform.telemetry.domain.services.AlertQueryService;
+import com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories.AlertRepository;
+
+/**
+ * AlertQueryServiceImpl
+ * <p>
+ * Implementation of the {@link AlertQueryService} interface.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class AlertQueryServiceImpl implements AlertQueryService {
+    private final AlertRepository alertRepository;
+
+    /**
+     * Constructor
+     *
+     * @param alertRepository the {@link AlertRepository} instance
+     */
+    public AlertQueryServiceImpl(AlertRepository alertRepository) {
+        this.alertRepository = alertRepository;
+    }
+
+    // inherited javadoc
+    @Override
+    public List<Alert> handle(GetAlertsByVehicleIdQuery query) {
+        return alertRepository.findByVehicleIdOrderByRecordedAtDesc(query.vehicleId(), Limit.of(query.limit()));
+    }
+}
@@ -0,0 +1,95 @@
+package com.safecar.platform.telemetry.application.internal.queryservices;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.safecar.platform.telemetry.domain.model.queries.GetTelemetryAggregatesQuery;
+import com.safecar.platform.telemetry.domain.model.queries.GetTelemetryReadingsQuery;
+import com.safecar.platform.telemetry.domain.model.valueobjects.RollupResolution;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetryAggregate;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+import com.safecar.platform.telemetry.domain.services.TelemetryQueryService;
+import com.safecar.platform.telemetry.infrastructure.memory.RecentReadingsStore;
+import com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories.TelemetryReadingRepository;
+import com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories.TelemetryRollupRepository;
+
+/**
+ * TelemetryQueryServiceImpl
+ * <p>
+ * Implementation of the {@link TelemetryQueryService} interface.
+ * Recent time ranges are answered by the {@link RecentReadingsStore} when it holds all their readings,
+ * and by the database otherwise. Aggregates are read from the coarsest rollup whose buckets divide the requested
+ * resolution, and merged into buckets of that resolution when it is not a rollup resolution itself.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class TelemetryQueryServiceImpl implements TelemetryQueryService {
+    private final TelemetryReadingRepository telemetryReadingRepository;
+    private final TelemetryRollupRepository telemetryRollupRepository;
+    private final RecentReadingsStore recentReadingsStore;
+
+    /**
+     * Constructor
+     *
+     * @param telemetryReadingRepository the {@link TelemetryReadingRepository} instance
+     * @param telemetryRollupRepository  the {@link TelemetryRollupRepository} instance
+     * @param recentReadingsStore        the {@link RecentReadingsStore} instance
+     */
+    public TelemetryQueryServiceImpl(TelemetryReadingRepository telemetryReadingRepository,
+            TelemetryRollupRepository telemetryRollupRepository, RecentReadingsStore recentReadingsStore) {
+        this.telemetryReadingRepository = telemetryReadingRepository;
+        this.telemetryRollupRepository = telemetryRollupRepository;
+        this.recentReadingsStore = recentReadingsStore;
+    }
+
+    // inherited javadoc
+    @Override
+    public List<TelemetrySample> handle(GetTelemetryReadingsQuery query) {
+        var recent = recentReadingsStore.find(query);
+        if (recent.isPresent())
+            return recent.get();
+        var limit = Limit.of(query.limit());
+        return query.signal() == null
+                ? telemetryReadingRepository.findSamples(query.vehicleId(), query.from(), query.to(), limit)
+                : telemetryReadingRepository.findSamplesOfSignal(query.vehicleId(), query.signal(), query.from(),
+                        query.to(), limit);
+    }
+
+    // inherited javadoc
+    @Override
+    public List<TelemetryAggregate> handle(GetTelemetryAggregatesQuery query) {
+        var resolution = query.resolution();
+        var rollup = RollupResolution.coarsestDividing(resolution);
+        var from = RollupResolution.alignTo(query.from(), resolution);
+        // Buckets starting before the end of the range are whole, and at most limit of them are needed per signal
+        var to = RollupResolution.alignTo(query.to().minusNanos(1), resolution).plus(resolution);
+        if (Duration.between(from, to).dividedBy(resolution) > query.limit())
+            to = from.plus(resolution.multipliedBy(query.limit()));
+        var rollups = query.signal() == null
+                ? telemetryRollupRepository.findAggregates(query.vehicleId(), rollup, from, to)
+                : telemetryRollupRepository.findAggregatesOfSignal(query.vehicleId(), query.signal(), rollup, from, to);
+        if (rollup.length().equals(resolution))
+            return rollups.size() > query.limit() ? rollups.subList(0, query.limit()) : rollups;
+        var buckets = new TreeMap<Instant, EnumMap<TelemetrySignal, TelemetryAggregate>>();
+        for (var aggregate : rollups) {
+            var bucketStart = RollupResolution.alignTo(aggregate.bucketStart(), resolution);
+            buckets.computeIfAbsent(bucketStart, key -> new EnumMap<>(TelemetrySignal.class))
+                    .merge(aggregate.signal(), new TelemetryAggregate(aggregate.signal(), bucketStart,
+                            aggregate.minimum(), aggregate.maximum(), aggregate.sum(), aggregate.count()),
+                            TelemetryAggregate::merge);
+        }
+        return buckets.values().stream()
+                .flatMap(bucket -> bucket.values().stream())
+                .limit(query.limit())
+                .toList();
+    }
+}
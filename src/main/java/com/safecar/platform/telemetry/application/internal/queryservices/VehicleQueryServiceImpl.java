@@ -0,0 +1,46 @@
+package com.safecar.platform.telemetry.application.internal.queryservices;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.safecar.platform.telemetry.domain.model.aggregates.Vehicle;
+import com.safecar.platform.telemetry.domain.model.queries.GetVehicleByIdQuery;
+import com.safecar.platform.telemetry.domain.model.queries.GetVehiclesByOwnerEmailQuery;
+import com.safecar.platform.telemetry.domain.services.VehicleQueryService;
+import com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories.VehicleRepository;
+
+/**
+ * VehicleQueryServiceImpl
+ * <p>
+ * Implementation of the {@link VehicleQueryService} interface.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Service
+public class VehicleQueryServiceImpl implements VehicleQueryService {
+    private final VehicleRepository vehicleRepository;
+
+    /**
+     * Constructor
+     *
+     * @param vehicleRepository the {@link VehicleRepository} instance
+     */
+    public VehicleQueryServiceImpl(VehicleRepository vehicleRepository) {
+        this.vehicleRepository = vehicleRepository;
+    }
+
+    // inherited javadoc
+    @Override
+    public Optional<Vehicle> handle(GetVehicleByIdQuery query) {
+        return vehicleRepository.findById(query.vehicleId());
+    }
+
+    // inherited javadoc
+    @Override
+    public List<Vehicle> handle(GetVehiclesByOwnerEmailQuery query) {
+        return vehicleRepository.findByOwnerEmail(query.ownerEmail());
+    }
+}
@@ -0,0 +1,19 @@
+package com.safecar.platform.telemetry.domain.exceptions;
+
+/**
+ * Exception thrown when a vehicle is registered with a VIN that already belongs to another vehicle.
+ *
+ * @since 2026-10-18
+ */
+public class VinAlreadyRegisteredException extends RuntimeException {
+
+    /**
+     * Constructs the exception for the given VIN.
+     *
+     * @param vin   the VIN that is already registered
+     * @param cause the constraint violation reported by the database
+     */
+    public VinAlreadyRegisteredException(String vin, Throwable cause) {
+        super("VIN already registered: " + vin, cause);
+    }
+}
@@ -0,0 +1,98 @@
+package com.safecar.platform.telemetry.domain.model.aggregates;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.safecar.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertRuleDefinition;
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertSeverity;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Alert Aggregate
+ * <p>
+ * A preventive maintenance alert raised on a vehicle when one of its readings meets an alert rule.
+ * The rule is copied into the alert, so the alert keeps its meaning when the rules change.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@Entity
+@EqualsAndHashCode(callSuper = true)
+@Table(indexes = @Index(name = "ix_alerts_vehicle_id_recorded_at", columnList = "vehicle_id, recorded_at"))
+public class Alert extends AuditableAbstractAggregateRoot<Alert> {
+
+    /**
+     * The vehicle the alert was raised on
+     */
+    @Column(nullable = false)
+    private UUID vehicleId;
+
+    /**
+     * The rule that raised the alert
+     */
+    @Column(nullable = false, length = 64)
+    private String ruleId;
+
+    /**
+     * The signal of the reading that raised the alert
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "signal_name", length = 32, nullable = false)
+    private TelemetrySignal signal;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private AlertSeverity severity;
+
+    @Column(nullable = false)
+    private String message;
+
+    /**
+     * The value of the reading that raised the alert
+     */
+    @Column(name = "reading_value", nullable = false)
+    private double value;
+
+    /**
+     * The time of the reading that raised the alert
+     */
+    @Column(nullable = false)
+    private Instant recordedAt;
+
+    /**
+     * Default constructor for JPA.
+     */
+    protected Alert() {
+    }
+
+    /**
+     * Constructs the alert raised by a rule on a reading of a vehicle.
+     *
+     * @param vehicleId  the id of the vehicle
+     * @param rule       the rule met by the reading
+     * @param value      the value of the reading
+     * @param recordedAt the time of the reading
+     */
+    public Alert(UUID vehicleId, AlertRuleDefinition rule, double value, Instant recordedAt) {
+        if (vehicleId == null || rule == null || recordedAt == null)
+            throw new IllegalArgumentException("Vehicle id, rule and recording time cannot be null");
+        this.vehicleId = vehicleId;
+        this.ruleId = rule.id();
+        this.signal = rule.signal();
+        this.severity = rule.severity();
+        this.message = rule.message();
+        this.value = value;
+        this.recordedAt = recordedAt;
+    }
+}
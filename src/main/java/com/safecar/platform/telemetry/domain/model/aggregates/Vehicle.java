@@ -0,0 +1,80 @@
+package com.safecar.platform.telemetry.domain.model.aggregates;
+
+import com.safecar.platform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import com.safecar.platform.telemetry.domain.model.valueobjects.Vin;
+
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Vehicle Aggregate
+ * <p>
+ * A vehicle whose telemetry is collected, identified by its VIN and owned by a user of the platform.
+ * The owner is referenced by email, which is the principal name of authenticated requests.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@Entity
+@EqualsAndHashCode(callSuper = true)
+@Table(indexes = @Index(name = "ix_vehicles_owner_email", columnList = "owner_email"))
+public class Vehicle extends AuditableAbstractAggregateRoot<Vehicle> {
+
+    /**
+     * Vehicle Identification Number
+     */
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "vin", length = 17, unique = true, nullable = false))
+    private Vin vin;
+
+    /**
+     * Email of the user who owns the vehicle
+     */
+    @Column(name = "owner_email", nullable = false)
+    private String ownerEmail;
+
+    /**
+     * Default constructor for JPA.
+     */
+    protected Vehicle() {
+    }
+
+    /**
+     * Constructs a vehicle.
+     *
+     * @param vin        the Vehicle Identification Number
+     * @param ownerEmail the email of the owner
+     */
+    public Vehicle(String vin, String ownerEmail) {
+        if (ownerEmail == null || ownerEmail.isBlank())
+            throw new IllegalArgumentException("Owner email cannot be null or blank");
+        this.vin = new Vin(vin);
+        this.ownerEmail = ownerEmail;
+    }
+
+    /**
+     * Get the Vehicle Identification Number.
+     *
+     * @return the VIN
+     */
+    public String getVin() {
+        return vin.value();
+    }
+
+    /**
+     * Checks whether a user owns the vehicle.
+     *
+     * @param email the email of the user
+     * @return {@code true} if the user owns the vehicle
+     */
+    public boolean isOwnedBy(String email) {
+        return ownerEmail.equals(email);
+    }
+}
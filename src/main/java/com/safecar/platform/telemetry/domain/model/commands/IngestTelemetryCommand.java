@@ -0,0 +1,24 @@
+package com.safecar.platform.telemetry.domain.model.commands;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+
+/**
+ * Command to store a batch of samples reported by one vehicle.
+ *
+ * @param vehicleId  the id of the vehicle
+ * @param ownerEmail the email of the owner of the vehicle, or {@code null} if the vehicle was not loaded
+ * @param samples    the samples, in any order
+ *
+ * @since 2026-10-18
+ */
+public record IngestTelemetryCommand(UUID vehicleId, String ownerEmail, List<TelemetrySample> samples) {
+    public IngestTelemetryCommand {
+        if (vehicleId == null)
+            throw new IllegalArgumentException("Vehicle id cannot be null");
+        if (samples == null || samples.isEmpty())
+            throw new IllegalArgumentException("Samples cannot be null or empty");
+    }
+}
@@ -0,0 +1,18 @@
+package com.safecar.platform.telemetry.domain.model.commands;
+
+/**
+ * Command to register a vehicle on behalf of its owner.
+ *
+ * @param vin        the Vehicle Identification Number
+ * @param ownerEmail the email of the owner
+ *
+ * @since 2026-10-18
+ */
+public record RegisterVehicleCommand(String vin, String ownerEmail) {
+    public RegisterVehicleCommand {
+        if (vin == null || vin.isBlank())
+            throw new IllegalArgumentException("VIN cannot be null or blank");
+        if (ownerEmail == null || ownerEmail.isBlank())
+            throw new IllegalArgumentException("Owner email cannot be null or blank");
+    }
+}
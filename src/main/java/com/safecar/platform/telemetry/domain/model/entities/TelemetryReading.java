@@ -0,0 +1,59 @@
+package com.safecar.platform.telemetry.domain.model.entities;
+
+import java.util.UUID;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetryReadingId;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Telemetry Reading
+ * <p>
+ * A stored value of one signal of a vehicle. Readings are immutable and carry no audit columns:
+ * they are written in JDBC batches by the ingestion, never through the entity manager,
+ * and the mapping is used to read them back by time range.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+public class TelemetryReading {
+
+    /**
+     * The vehicle, time and signal of the reading.
+     */
+    @EmbeddedId
+    private TelemetryReadingId id;
+
+    /**
+     * The measured value, in the unit of the signal.
+     * Not named {@code value}, which is a reserved word in some SQL dialects.
+     */
+    @Column(name = "reading_value", nullable = false)
+    private double value;
+
+    /**
+     * Constructs a reading from a sample of a vehicle.
+     *
+     * @param vehicleId the id of the vehicle
+     * @param sample    the sample
+     */
+    public TelemetryReading(UUID vehicleId, TelemetrySample sample) {
+        this.id = new TelemetryReadingId(vehicleId, sample.recordedAt(), sample.signal());
+        this.value = sample.value();
+    }
+
+    /**
+     * @return the reading as a sample
+     */
+    public TelemetrySample toSample() {
+        return new TelemetrySample(id.signal(), id.recordedAt(), value);
+    }
+}
@@ -0,0 +1,51 @@
+package com.safecar.platform.telemetry.domain.model.entities;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetryAggregate;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetryRollupId;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Telemetry Rollup
+ * <p>
+ * The minimum, maximum, sum and count of the readings of one signal of a vehicle over one minute, hour or day.
+ * Rollups are maintained in JDBC batches by the ingestion, never through the entity manager,
+ * and the mapping is used to read them back by time range.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+public class TelemetryRollup {
+
+    /**
+     * The vehicle, resolution, bucket and signal of the rollup.
+     */
+    @EmbeddedId
+    private TelemetryRollupId id;
+
+    @Column(nullable = false)
+    private double minimum;
+
+    @Column(nullable = false)
+    private double maximum;
+
+    @Column(name = "reading_sum", nullable = false)
+    private double sum;
+
+    @Column(name = "reading_count", nullable = false)
+    private long count;
+
+    /**
+     * @return the rollup as an aggregate
+     */
+    public TelemetryAggregate toAggregate() {
+        return new TelemetryAggregate(id.signal(), id.bucketStart(), minimum, maximum, sum, count);
+    }
+}
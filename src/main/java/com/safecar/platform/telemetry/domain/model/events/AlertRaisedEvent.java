@@ -0,0 +1,26 @@
+package com.safecar.platform.telemetry.domain.model.events;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertSeverity;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+/**
+ * Domain event representing an alert raised on a vehicle by a preventive maintenance rule.
+ *
+ * @param alertId    the unique identifier of the alert
+ * @param vehicleId  the id of the vehicle
+ * @param ownerEmail the email of the owner of the vehicle, or {@code null} if the vehicle no longer exists
+ * @param ruleId     the id of the rule
+ * @param signal     the signal of the reading that raised the alert
+ * @param severity   the severity of the alert
+ * @param message    the message of the alert
+ * @param value      the value of the reading that raised the alert
+ * @param recordedAt the time of the reading that raised the alert
+ *
+ * @since 2026-10-18
+ */
+public record AlertRaisedEvent(UUID alertId, UUID vehicleId, String ownerEmail, String ruleId, TelemetrySignal signal,
+        AlertSeverity severity, String message, double value, Instant recordedAt) {
+}
@@ -0,0 +1,20 @@
+package com.safecar.platform.telemetry.domain.model.queries;
+
+import java.util.UUID;
+
+/**
+ * Query to retrieve the latest alerts raised on a vehicle.
+ *
+ * @param vehicleId the id of the vehicle
+ * @param limit     the maximum number of alerts to return
+ *
+ * @since 2026-10-18
+ */
+public record GetAlertsByVehicleIdQuery(UUID vehicleId, int limit) {
+    public GetAlertsByVehicleIdQuery {
+        if (vehicleId == null)
+            throw new IllegalArgumentException("Vehicle id cannot be null");
+        if (limit < 1)
+            throw new IllegalArgumentException("Limit must be greater than zero");
+    }
+}
@@ -0,0 +1,36 @@
+package com.safecar.platform.telemetry.domain.model.queries;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.RollupResolution;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+/**
+ * Query to retrieve the aggregates of the readings of a vehicle over the buckets of a time range,
+ * ordered by bucket and signal.
+ *
+ * @param vehicleId  the id of the vehicle
+ * @param signal     the signal to aggregate, or {@code null} for every signal
+ * @param from       the start of the range, inclusive, rounded down to a bucket start
+ * @param to         the end of the range, exclusive; the last bucket starting before it is aggregated whole
+ * @param resolution the bucket length, a whole number of minutes; buckets are aligned on the epoch
+ * @param limit      the maximum number of aggregates to return
+ *
+ * @since 2026-10-18
+ */
+public record GetTelemetryAggregatesQuery(UUID vehicleId, TelemetrySignal signal, Instant from, Instant to,
+        Duration resolution, int limit) {
+    public GetTelemetryAggregatesQuery {
+        if (vehicleId == null)
+            throw new IllegalArgumentException("Vehicle id cannot be null");
+        if (from == null || to == null || !from.isBefore(to))
+            throw new IllegalArgumentException("The time range must start before it ends");
+        if (resolution == null)
+            throw new IllegalArgumentException("Resolution cannot be null");
+        RollupResolution.coarsestDividing(resolution);
+        if (limit < 1)
+            throw new IllegalArgumentException("Limit must be greater than zero");
+    }
+}
@@ -0,0 +1,28 @@
+package com.safecar.platform.telemetry.domain.model.queries;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+/**
+ * Query to retrieve the readings of a vehicle recorded within a time range, ordered by time.
+ *
+ * @param vehicleId the id of the vehicle
+ * @param signal    the signal to read, or {@code null} for every signal
+ * @param from      the start of the range, inclusive
+ * @param to        the end of the range, exclusive
+ * @param limit     the maximum number of readings to return
+ *
+ * @since 2026-10-18
+ */
+public record GetTelemetryReadingsQuery(UUID vehicleId, TelemetrySignal signal, Instant from, Instant to, int limit) {
+    public GetTelemetryReadingsQuery {
+        if (vehicleId == null)
+            throw new IllegalArgumentException("Vehicle id cannot be null");
+        if (from == null || to == null || !from.isBefore(to))
+            throw new IllegalArgumentException("The time range must start before it ends");
+        if (limit < 1)
+            throw new IllegalArgumentException("Limit must be greater than zero");
+    }
+}
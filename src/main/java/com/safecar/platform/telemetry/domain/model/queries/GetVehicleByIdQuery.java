@@ -0,0 +1,17 @@
+package com.safecar.platform.telemetry.domain.model.queries;
+
+import java.util.UUID;
+
+/**
+ * Query to retrieve a vehicle by its id.
+ *
+ * @param vehicleId the id of the vehicle
+ *
+ * @since 2026-10-18
+ */
+public record GetVehicleByIdQuery(UUID vehicleId) {
+    public GetVehicleByIdQuery {
+        if (vehicleId == null)
+            throw new IllegalArgumentException("Vehicle id cannot be null");
+    }
+}
@@ -0,0 +1,15 @@
+package com.safecar.platform.telemetry.domain.model.queries;
+
+/**
+ * Query to retrieve the vehicles of an owner.
+ *
+ * @param ownerEmail the email of the owner
+ *
+ * @since 2026-10-18
+ */
+public record GetVehiclesByOwnerEmailQuery(String ownerEmail) {
+    public GetVehiclesByOwnerEmailQuery {
+        if (ownerEmail == null || ownerEmail.isBlank())
+            throw new IllegalArgumentException("Owner email cannot be null or blank");
+    }
+}
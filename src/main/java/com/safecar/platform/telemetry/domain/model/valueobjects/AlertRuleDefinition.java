@@ -0,0 +1,33 @@
+package com.safecar.platform.telemetry.domain.model.valueobjects;
+
+import java.time.Duration;
+
+/**
+ * Definition of a preventive maintenance alert rule on one signal.
+ *
+ * @param id        the unique identifier of the rule, recorded on the alerts it raises
+ * @param signal    the signal the rule watches
+ * @param type      how readings are compared with the threshold
+ * @param operator  the comparison with the threshold
+ * @param threshold the threshold, in the unit of the signal, or in that unit per minute for a rate of change
+ * @param window    the window of a rate of change or sustained rule; ignored by threshold rules
+ * @param severity  the severity of the alerts raised
+ * @param message   the message of the alerts raised
+ *
+ * @since 2026-10-18
+ */
+public record AlertRuleDefinition(String id, TelemetrySignal signal, AlertRuleType type, ComparisonOperator operator,
+        double threshold, Duration window, AlertSeverity severity, String message) {
+    public AlertRuleDefinition {
+        if (id == null || id.isBlank() || id.length() > 64)
+            throw new IllegalArgumentException("Rule id must have between 1 and 64 characters");
+        if (signal == null || type == null || operator == null || severity == null)
+            throw new IllegalArgumentException("Rule " + id + " must define its signal, type, operator and severity");
+        if (!Double.isFinite(threshold))
+            throw new IllegalArgumentException("Rule " + id + " must have a finite threshold");
+        if (type != AlertRuleType.THRESHOLD && (window == null || window.isNegative() || window.isZero()))
+            throw new IllegalArgumentException("Rule " + id + " must have a positive window");
+        if (message == null || message.isBlank() || message.length() > 255)
+            throw new IllegalArgumentException("Rule " + id + " must have a message of at most 255 characters");
+    }
+}
@@ -0,0 +1,15 @@
+package com.safecar.platform.telemetry.domain.model.valueobjects;
+
+/**
+ * Kinds of alert rules, each compared with the threshold of the rule.
+ *
+ * @since 2026-10-18
+ */
+public enum AlertRuleType {
+    /** The value of each reading. */
+    THRESHOLD,
+    /** The change per minute between a reading and the oldest reading within the window of the rule. */
+    RATE_OF_CHANGE,
+    /** The value of every reading during at least the window of the rule. */
+    SUSTAINED,
+}
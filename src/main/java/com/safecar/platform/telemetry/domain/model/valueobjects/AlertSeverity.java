@@ -0,0 +1,15 @@
+package com.safecar.platform.telemetry.domain.model.valueobjects;
+
+/**
+ * Severity of a preventive maintenance alert.
+ *
+ * @since 2026-10-18
+ */
+public enum AlertSeverity {
+    /** Worth a look at the next service. */
+    INFO,
+    /** Should be checked soon. */
+    WARNING,
+    /** Requires stopping the vehicle or an immediate repair. */
+    CRITICAL,
+}
@@ -0,0 +1,23 @@
+package com.safecar.platform.telemetry.domain.model.valueobjects;
+
+import java.util.function.DoublePredicate;
+
+/**
+ * Comparison of a measured quantity with the threshold of an alert rule.
+ *
+ * @since 2026-10-18
+ */
+public enum ComparisonOperator {
+    /** Strictly greater than the threshold. */
+    ABOVE,
+    /** Strictly less than the threshold. */
+    BELOW;
+
+    /**
+     * @param threshold the threshold
+     * @return the predicate comparing a quantity with the threshold
+     */
+    public DoublePredicate against(double threshold) {
+        return this == ABOVE ? quantity -> quantity > threshold : quantity -> quantity < threshold;
+    }
+}
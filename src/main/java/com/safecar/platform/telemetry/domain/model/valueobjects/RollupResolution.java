@@ -0,0 +1,64 @@
+package com.safecar.platform.telemetry.domain.model.valueobjects;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Bucket lengths of the telemetry rollups, coarsest last. Buckets are aligned on the epoch, in UTC.
+ *
+ * @since 2026-10-18
+ */
+public enum RollupResolution {
+    MINUTE(Duration.ofMinutes(1)),
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1));
+
+    private static final RollupResolution[] COARSEST_FIRST = { DAY, HOUR, MINUTE };
+
+    private final Duration length;
+
+    RollupResolution(Duration length) {
+        this.length = length;
+    }
+
+    /**
+     * @return the length of the buckets
+     */
+    public Duration length() {
+        return length;
+    }
+
+    /**
+     * @param time a time
+     * @return the start of the bucket containing the time
+     */
+    public Instant bucketOf(Instant time) {
+        return alignTo(time, length);
+    }
+
+    /**
+     * Finds the coarsest rollup whose buckets fit a whole number of times in a resolution,
+     * so buckets of that resolution are merged from whole rollup buckets.
+     *
+     * @param resolution the resolution, a whole number of minutes
+     * @return the coarsest rollup dividing the resolution
+     * @throws IllegalArgumentException if the resolution is not a positive whole number of minutes
+     */
+    public static RollupResolution coarsestDividing(Duration resolution) {
+        for (var rollup : COARSEST_FIRST)
+            if (resolution.isPositive() && resolution.getSeconds() % rollup.length.getSeconds() == 0
+                    && resolution.getNano() == 0)
+                return rollup;
+        throw new IllegalArgumentException("Resolution must be a whole number of minutes");
+    }
+
+    /**
+     * @param time   a time
+     * @param length the length of the buckets, in whole seconds
+     * @return the start of the bucket of that length containing the time
+     */
+    public static Instant alignTo(Instant time, Duration length) {
+        var seconds = length.getSeconds();
+        return Instant.ofEpochSecond(Math.floorDiv(time.getEpochSecond(), seconds) * seconds);
+    }
+}
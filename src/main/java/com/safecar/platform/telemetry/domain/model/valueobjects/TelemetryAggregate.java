@@ -0,0 +1,37 @@
+package com.safecar.platform.telemetry.domain.model.valueobjects;
+
+import java.time.Instant;
+
+/**
+ * Aggregate of the readings of one signal of a vehicle over one time bucket.
+ *
+ * @param signal      the signal
+ * @param bucketStart the start of the bucket
+ * @param minimum     the smallest value
+ * @param maximum     the largest value
+ * @param sum         the sum of the values
+ * @param count       the number of readings
+ *
+ * @since 2026-10-18
+ */
+public record TelemetryAggregate(TelemetrySignal signal, Instant bucketStart, double minimum, double maximum,
+        double sum, long count) {
+
+    /**
+     * @return the average value
+     */
+    public double average() {
+        return sum / count;
+    }
+
+    /**
+     * Merges the aggregate of another bucket of the same signal into this one.
+     *
+     * @param other the other aggregate
+     * @return the aggregate of both buckets, starting at the start of this one
+     */
+    public TelemetryAggregate merge(TelemetryAggregate other) {
+        return new TelemetryAggregate(signal, bucketStart, Math.min(minimum, other.minimum),
+                Math.max(maximum, other.maximum), sum + other.sum, count + other.count);
+    }
+}
@@ -0,0 +1,31 @@
+package com.safecar.platform.telemetry.domain.model.valueobjects;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+/**
+ * Identifier of a telemetry reading: a vehicle reports at most one value per signal and instant.
+ * <p>
+ * The column order makes the readings of a vehicle contiguous and ordered by time in the primary key,
+ * so time range reads are index range scans and a reading sent twice is stored once.
+ * </p>
+ *
+ * @param vehicleId  the id of the vehicle
+ * @param recordedAt the time at which the value was measured
+ * @param signal     the measured signal
+ *
+ * @since 2026-10-18
+ */
+@Embeddable
+public record TelemetryReadingId(
+        @Column(nullable = false) UUID vehicleId,
+        @Column(nullable = false) Instant recordedAt,
+        @Enumerated(EnumType.STRING) @Column(name = "signal_name", length = 32, nullable = false) TelemetrySignal signal)
+        implements Serializable {
+}
@@ -0,0 +1,33 @@
+package com.safecar.platform.telemetry.domain.model.valueobjects;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+/**
+ * Identifier of a telemetry rollup: one bucket of one signal of a vehicle at one resolution.
+ * <p>
+ * Like the readings, the rollups of a vehicle and resolution are ordered by time in the primary key,
+ * so time range reads are index range scans.
+ * </p>
+ *
+ * @param vehicleId   the id of the vehicle
+ * @param resolution  the bucket length
+ * @param bucketStart the start of the bucket
+ * @param signal      the signal
+ *
+ * @since 2026-10-18
+ */
+@Embeddable
+public record TelemetryRollupId(
+        @Column(nullable = false) UUID vehicleId,
+        @Enumerated(EnumType.STRING) @Column(length = 16, nullable = false) RollupResolution resolution,
+        @Column(nullable = false) Instant bucketStart,
+        @Enumerated(EnumType.STRING) @Column(name = "signal_name", length = 32, nullable = false) TelemetrySignal signal)
+        implements Serializable {
+}
@@ -0,0 +1,23 @@
+package com.safecar.platform.telemetry.domain.model.valueobjects;
+
+import java.time.Instant;
+
+/**
+ * One value of one signal of a vehicle, as measured at a given time.
+ *
+ * @param signal     the measured signal
+ * @param recordedAt the time at which the vehicle measured the value
+ * @param value      the measured value, in the unit of the signal
+ *
+ * @since 2026-10-18
+ */
+public record TelemetrySample(TelemetrySignal signal, Instant recordedAt, double value) {
+    public TelemetrySample {
+        if (signal == null)
+            throw new IllegalArgumentException("Signal cannot be null");
+        if (recordedAt == null)
+            throw new IllegalArgumentException("Recording time cannot be null");
+        if (!Double.isFinite(value))
+            throw new IllegalArgumentException("Value must be a finite number");
+    }
+}
@@ -0,0 +1,30 @@
+package com.safecar.platform.telemetry.domain.model.valueobjects;
+
+/**
+ * Signals reported by the vehicles, each with its unit.
+ *
+ * @since 2026-10-18
+ */
+public enum TelemetrySignal {
+    /** Coolant temperature, in degrees Celsius. */
+    ENGINE_TEMPERATURE,
+    /** Engine speed, in revolutions per minute. */
+    ENGINE_RPM,
+    /** Oil pressure, in kilopascals. */
+    OIL_PRESSURE,
+    /** Remaining brake pad thickness, in millimetres. */
+    BRAKE_PAD_THICKNESS,
+    /** Brake fluid temperature, in degrees Celsius. */
+    BRAKE_FLUID_TEMPERATURE,
+    /** Tire pressures, in kilopascals. */
+    TIRE_PRESSURE_FRONT_LEFT,
+    TIRE_PRESSURE_FRONT_RIGHT,
+    TIRE_PRESSURE_REAR_LEFT,
+    TIRE_PRESSURE_REAR_RIGHT,
+    /** Fuel consumption, in litres per 100 kilometres. */
+    FUEL_CONSUMPTION,
+    /** Battery voltage, in volts. */
+    BATTERY_VOLTAGE,
+    /** Vehicle speed, in kilometres per hour. */
+    SPEED,
+}
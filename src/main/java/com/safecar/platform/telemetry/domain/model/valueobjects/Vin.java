@@ -0,0 +1,26 @@
+package com.safecar.platform.telemetry.domain.model.valueobjects;
+
+import java.util.Locale;
+
+import jakarta.persistence.Embeddable;
+
+/**
+ * Vehicle Identification Number.
+ * <p>
+ * Seventeen letters and digits, excluding {@code I}, {@code O} and {@code Q}; stored in upper case.
+ * </p>
+ *
+ * @param value the identification number
+ *
+ * @since 2026-10-18
+ */
+@Embeddable
+public record Vin(String value) {
+    public Vin {
+        if (value == null)
+            throw new IllegalArgumentException("VIN cannot be null");
+        value = value.trim().toUpperCase(Locale.ROOT);
+        if (!value.matches("^[A-HJ-NPR-Z0-9]{17}$"))
+            throw new IllegalArgumentException("Invalid VIN format");
+    }
+}
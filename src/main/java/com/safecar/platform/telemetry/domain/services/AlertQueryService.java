@@ -0,0 +1,22 @@
+package com.safecar.platform.telemetry.domain.services;
+
+import java.util.List;
+
+import com.safecar.platform.telemetry.domain.model.aggregates.Alert;
+import com.safecar.platform.telemetry.domain.model.queries.GetAlertsByVehicleIdQuery;
+
+/**
+ * Service interface for handling alert queries.
+ *
+ * @since 2026-10-18
+ */
+public interface AlertQueryService {
+
+    /**
+     * Handles the query to retrieve the latest alerts of a vehicle.
+     *
+     * @param query the query containing the vehicle id and the number of alerts
+     * @return the alerts, the most recent reading first
+     */
+    List<Alert> handle(GetAlertsByVehicleIdQuery query);
+}
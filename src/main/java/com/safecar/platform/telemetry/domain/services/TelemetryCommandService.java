@@ -0,0 +1,22 @@
+package com.safecar.platform.telemetry.domain.services;
+
+import com.safecar.platform.telemetry.domain.model.commands.IngestTelemetryCommand;
+
+/**
+ * Service interface for handling telemetry commands.
+ *
+ * @since 2026-10-18
+ */
+public interface TelemetryCommandService {
+
+    /**
+     * Handles the command to store a batch of samples of a vehicle.
+     * <p>
+     * The batch is stored atomically; a sample already stored for the same vehicle, signal and time is kept as is,
+     * so a batch may be sent again after a failure.
+     *
+     * @param command the command containing the vehicle id and its samples
+     * @return the number of samples accepted
+     */
+    int handle(IngestTelemetryCommand command);
+}
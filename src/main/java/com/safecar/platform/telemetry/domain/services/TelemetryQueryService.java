@@ -0,0 +1,32 @@
+package com.safecar.platform.telemetry.domain.services;
+
+import java.util.List;
+
+import com.safecar.platform.telemetry.domain.model.queries.GetTelemetryAggregatesQuery;
+import com.safecar.platform.telemetry.domain.model.queries.GetTelemetryReadingsQuery;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetryAggregate;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+
+/**
+ * Service interface for handling telemetry queries.
+ *
+ * @since 2026-10-18
+ */
+public interface TelemetryQueryService {
+
+    /**
+     * Handles the query to retrieve the readings of a vehicle within a time range.
+     *
+     * @param query the query containing the vehicle id, the signal and the time range
+     * @return the samples of the range, ordered by time
+     */
+    List<TelemetrySample> handle(GetTelemetryReadingsQuery query);
+
+    /**
+     * Handles the query to retrieve the aggregates of the readings of a vehicle over the buckets of a time range.
+     *
+     * @param query the query containing the vehicle id, the signal, the time range and the resolution
+     * @return the aggregates of the buckets holding readings, ordered by bucket and signal
+     */
+    List<TelemetryAggregate> handle(GetTelemetryAggregatesQuery query);
+}
@@ -0,0 +1,21 @@
+package com.safecar.platform.telemetry.domain.services;
+
+import com.safecar.platform.telemetry.domain.model.aggregates.Vehicle;
+import com.safecar.platform.telemetry.domain.model.commands.RegisterVehicleCommand;
+
+/**
+ * Service interface for handling vehicle commands.
+ *
+ * @since 2026-10-18
+ */
+public interface VehicleCommandService {
+
+    /**
+     * Handles the command to register a vehicle.
+     *
+     * @param command the command containing the VIN and the owner of the vehicle
+     * @return the registered {@link Vehicle}
+     * @throws com.safecar.platform.telemetry.domain.exceptions.VinAlreadyRegisteredException if the VIN is taken
+     */
+    Vehicle handle(RegisterVehicleCommand command);
+}
@@ -0,0 +1,32 @@
+package com.safecar.platform.telemetry.domain.services;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.safecar.platform.telemetry.domain.model.aggregates.Vehicle;
+import com.safecar.platform.telemetry.domain.model.queries.GetVehicleByIdQuery;
+import com.safecar.platform.telemetry.domain.model.queries.GetVehiclesByOwnerEmailQuery;
+
+/**
+ * Service interface for handling vehicle queries.
+ *
+ * @since 2026-10-18
+ */
+public interface VehicleQueryService {
+
+    /**
+     * Handles the query to retrieve a vehicle by its id.
+     *
+     * @param query the query containing the vehicle id
+     * @return an {@link Optional} containing the {@link Vehicle}, or empty if not found
+     */
+    Optional<Vehicle> handle(GetVehicleByIdQuery query);
+
+    /**
+     * Handles the query to retrieve the vehicles of an owner.
+     *
+     * @param query the query containing the email of the owner
+     * @return the vehicles of the owner
+     */
+    List<Vehicle> handle(GetVehiclesByOwnerEmailQuery query);
+}
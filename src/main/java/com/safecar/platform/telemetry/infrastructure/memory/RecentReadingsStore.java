@@ -0,0 +1,154 @@
+package com.safecar.platform.telemetry.infrastructure.memory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.safecar.platform.telemetry.domain.model.queries.GetTelemetryReadingsQuery;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Recent Readings Store
+ * <p>
+ * Hot tier of the telemetry: the latest readings of each active vehicle, kept in a {@link VehicleReadingRing}
+ * so that questions about the last minutes of a vehicle are answered without a database read. Readings are
+ * added once they are stored, and a query is answered from memory only when the ring of the vehicle covers
+ * its whole time range; otherwise the caller reads the database.
+ * </p>
+ * <p>
+ * The number of rings is bounded by the memory budget. When a ring is needed for one more vehicle, the ring of
+ * the vehicle read or written least recently is evicted. Rings start covering readings recorded a clock tolerance
+ * after their creation, so that readings stored earlier with a device clock running ahead are not missed.
+ * Each instance only sees the readings it ingests, so with several instances the ingestion of a vehicle must be
+ * routed to one of them, or the store disabled. Queries are counted under {@code telemetry.hot.tier.queries},
+ * tagged with the result: {@code hit} or {@code miss}.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class RecentReadingsStore {
+    // Device clocks may run this far ahead of the server's
+    private static final Duration CLOCK_TOLERANCE = Duration.ofMinutes(5);
+
+    private final boolean enabled;
+    private final int capacityPerVehicle;
+    private final int maximumVehicles;
+    private final Map<UUID, VehicleReadingRing> rings = new ConcurrentHashMap<>();
+    private final ReentrantLock creationLock = new ReentrantLock();
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructor
+     *
+     * @param enabled            whether recent readings are kept in memory
+     * @param capacityPerVehicle the number of readings kept per vehicle
+     * @param memoryBudget       the memory all the rings may take
+     * @param meterRegistry      the registry receiving the hot tier metrics
+     */
+    public RecentReadingsStore(
+            @Value("${telemetry.hot-tier.enabled:true}") boolean enabled,
+            @Value("${telemetry.hot-tier.capacity-per-vehicle:2048}") int capacityPerVehicle,
+            @Value("${telemetry.hot-tier.memory-budget:64MB}") DataSize memoryBudget,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        if (capacityPerVehicle < 8)
+            throw new IllegalArgumentException("The hot tier must hold at least 8 readings per vehicle");
+        this.enabled = enabled;
+        this.capacityPerVehicle = capacityPerVehicle;
+        this.maximumVehicles = (int) Math.clamp(
+                memoryBudget.toBytes() / VehicleReadingRing.bytesFor(capacityPerVehicle), 1, Integer.MAX_VALUE);
+        var registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.hits = registry.counter("telemetry.hot.tier.queries", "result", "hit");
+        this.misses = registry.counter("telemetry.hot.tier.queries", "result", "miss");
+        Gauge.builder("telemetry.hot.tier.vehicles", rings, Map::size)
+                .description("Vehicles whose recent readings are kept in memory")
+                .register(registry);
+    }
+
+    /**
+     * Adds stored samples of a vehicle.
+     *
+     * @param vehicleId the id of the vehicle
+     * @param samples   the samples, in arrival order
+     */
+    public void append(UUID vehicleId, List<TelemetrySample> samples) {
+        if (!enabled || samples.isEmpty())
+            return;
+        // A ring evicted while waiting for its writer lock refuses the samples, which go to its replacement
+        while (!ringOf(vehicleId).append(samples, System.nanoTime())) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Reads the readings of a query from memory.
+     *
+     * @param query the query
+     * @return the readings of the query ordered by time, or empty if they must be read from the database
+     */
+    public Optional<List<TelemetrySample>> find(GetTelemetryReadingsQuery query) {
+        var ring = enabled ? rings.get(query.vehicleId()) : null;
+        var samples = ring != null
+                ? ring.read(query.signal(), query.from(), query.to(), query.limit(), System.nanoTime())
+                : null;
+        (samples != null ? hits : misses).increment();
+        return Optional.ofNullable(samples);
+    }
+
+    private VehicleReadingRing ringOf(UUID vehicleId) {
+        var ring = rings.get(vehicleId);
+        if (ring != null)
+            return ring;
+        creationLock.lock();
+        try {
+            ring = rings.get(vehicleId);
+            if (ring == null) {
+                if (rings.size() >= maximumVehicles)
+                    evictLeastRecentlyUsed();
+                var coveredFrom = VehicleReadingRing.toMicros(Instant.now().plus(CLOCK_TOLERANCE));
+                ring = new VehicleReadingRing(capacityPerVehicle, coveredFrom, System.nanoTime());
+                rings.put(vehicleId, ring);
+            }
+            return ring;
+        } finally {
+            creationLock.unlock();
+        }
+    }
+
+    /**
+     * Evicts the ring accessed least recently. Called with the creation lock held, so only when a vehicle
+     * without a ring reports, which keeps the scan off the path of the active vehicles.
+     */
+    private void evictLeastRecentlyUsed() {
+        UUID leastRecentlyUsed = null;
+        var oldestAccess = 0L;
+        for (var entry : rings.entrySet()) {
+            var access = entry.getValue().lastAccess();
+            if (leastRecentlyUsed == null || access - oldestAccess < 0) {
+                leastRecentlyUsed = entry.getKey();
+                oldestAccess = access;
+            }
+        }
+        if (leastRecentlyUsed != null) {
+            // Refuse appends before unmapping, so none lands in the ring once its replacement can exist
+            rings.get(leastRecentlyUsed).evict();
+            rings.remove(leastRecentlyUsed);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.safecar.platform.telemetry.infrastructure.memory;
+
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+/**
+ * Fixed-size ring of the latest readings of one vehicle, in arrival order.
+ * <p>
+ * Readings are stored in three primitive arrays, so an append allocates nothing. Appends are made by one
+ * writer at a time and published by a release store of the head; readers take no lock. A reader copies
+ * the readings it needs, then checks the head again: if the writer may have overwritten a copied slot
+ * meanwhile, it copies again. As in a sequence lock, the writer fences the head it published before each slot
+ * it writes, and the reader fences its copy before it reads the head again, so a reader that copied part of
+ * a slot being written always sees the head that invalidates its copy.
+ * </p>
+ * <p>
+ * Batches of one vehicle may be ingested by concurrent requests, so writers take a lock to append one at a time,
+ * and to agree with {@link #evict()}; it is only contended when the same vehicle reports concurrently.
+ * </p>
+ * <p>
+ * The oldest slots of the ring form a reserve that readers do not copy. A slot enters the reserve once
+ * the writer is less than {@code reserve} appends from overwriting it, and its time raises the coverage
+ * of the ring: readings recorded at or after {@link #coveredFrom()} are all still readable, so a time range
+ * starting there is answered completely. A new ring only covers readings recorded after a time given at its creation.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+final class VehicleReadingRing {
+    private static final TelemetrySignal[] SIGNALS = TelemetrySignal.values();
+    private static final int MAXIMUM_READ_ATTEMPTS = 3;
+
+    private final int capacity;
+    private final int reserve;
+    private final long[] recordedAt;
+    private final byte[] signals;
+    private final double[] values;
+    private final AtomicLong head = new AtomicLong();
+    private final ReentrantLock writerLock = new ReentrantLock();
+
+    private volatile long coveredFrom;
+    private volatile long lastAccess;
+    private boolean evicted;
+
+    /**
+     * Constructor
+     *
+     * @param capacity    the number of readings held
+     * @param coveredFrom the time from which readings are covered, in epoch microseconds
+     * @param accessedAt  the time of creation, in {@link System#nanoTime()} units
+     */
+    VehicleReadingRing(int capacity, long coveredFrom, long accessedAt) {
+        this.capacity = capacity;
+        this.reserve = Math.max(1, capacity / 8);
+        this.recordedAt = new long[capacity];
+        this.signals = new byte[capacity];
+        this.values = new double[capacity];
+        this.coveredFrom = coveredFrom;
+        this.lastAccess = accessedAt;
+    }
+
+    /**
+     * @param capacity the number of readings held
+     * @return the memory taken by the arrays of a ring of that capacity, in bytes
+     */
+    static long bytesFor(int capacity) {
+        return (long) capacity * (Long.BYTES + Byte.BYTES + Double.BYTES);
+    }
+
+    /**
+     * Appends samples, unless the ring was evicted.
+     *
+     * @param samples    the samples, in arrival order
+     * @param accessedAt the current time, in {@link System#nanoTime()} units
+     * @return {@code false} if the ring was evicted and the samples must go to its replacement
+     */
+    boolean append(List<TelemetrySample> samples, long accessedAt) {
+        writerLock.lock();
+        try {
+            if (evicted)
+                return false;
+            var next = head.get();
+            for (var sample : samples) {
+                var retired = next - capacity + reserve;
+                if (retired >= 0) {
+                    var retiredAt = recordedAt[(int) (retired % capacity)];
+                    if (retiredAt >= coveredFrom)
+                        coveredFrom = retiredAt + 1;
+                }
+                var slot = (int) (next % capacity);
+                // The head published last is visible before any write to the slot
+                VarHandle.storeStoreFence();
+                recordedAt[slot] = toMicros(sample.recordedAt());
+                signals[slot] = (byte) sample.signal().ordinal();
+                values[slot] = sample.value();
+                head.setRelease(++next);
+            }
+            lastAccess = accessedAt;
+            return true;
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    /**
+     * Marks the ring as evicted, after which it accepts no appends.
+     */
+    void evict() {
+        writerLock.lock();
+        try {
+            evicted = true;
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    /**
+     * Reads the readings of a time range, ordered by time and signal as the database orders them.
+     * A reading sent twice is returned once, with its first value.
+     *
+     * @param signal     the signal to read, or {@code null} for every signal
+     * @param from       the start of the range, inclusive
+     * @param to         the end of the range, exclusive
+     * @param limit      the maximum number of readings
+     * @param accessedAt the current time, in {@link System#nanoTime()} units
+     * @return the readings, or {@code null} if the range is not covered or the writer kept overwriting the copy
+     */
+    List<TelemetrySample> read(TelemetrySignal signal, Instant from, Instant to, int limit, long accessedAt) {
+        lastAccess = accessedAt;
+        var fromMicros = toMicros(from);
+        var toMicros = toMicros(to);
+        var signalOrdinal = signal != null ? signal.ordinal() : -1;
+        for (var attempt = 0; attempt < MAXIMUM_READ_ATTEMPTS; attempt++) {
+            var end = head.getAcquire();
+            if (fromMicros < coveredFrom)
+                return null;
+            var start = Math.max(0, end - capacity + reserve);
+            var count = 0;
+            var copiedAt = new long[(int) (end - start)];
+            var copiedSignals = new byte[copiedAt.length];
+            var copiedValues = new double[copiedAt.length];
+            for (var index = start; index < end; index++) {
+                var slot = (int) (index % capacity);
+                var time = recordedAt[slot];
+                var ordinal = signals[slot];
+                if (time >= fromMicros && time < toMicros && (signalOrdinal < 0 || ordinal == signalOrdinal)) {
+                    copiedAt[count] = time;
+                    copiedSignals[count] = ordinal;
+                    copiedValues[count] = values[slot];
+                    count++;
+                }
+            }
+            // The copy is read before the head, which tells whether it may be torn
+            VarHandle.acquireFence();
+            if (head.getAcquire() - end < reserve)
+                return sorted(copiedAt, copiedSignals, copiedValues, count, limit);
+        }
+        return null;
+    }
+
+    /**
+     * @return the time from which every reading is readable, in epoch microseconds
+     */
+    long coveredFrom() {
+        return coveredFrom;
+    }
+
+    /**
+     * @return the time of the last append or read, in {@link System#nanoTime()} units
+     */
+    long lastAccess() {
+        return lastAccess;
+    }
+
+    private static List<TelemetrySample> sorted(long[] times, byte[] ordinals, double[] values, int count, int limit) {
+        // Positions are compared last, so the first arrival of a duplicate comes first
+        var positions = new Integer[count];
+        Arrays.setAll(positions, position -> position);
+        Arrays.sort(positions, Comparator.<Integer>comparingLong(position -> times[position])
+                .thenComparingInt(position -> ordinals[position])
+                .thenComparingInt(position -> position));
+        var samples = new ArrayList<TelemetrySample>(Math.min(count, limit));
+        var previous = -1;
+        for (var position : positions) {
+            if (samples.size() == limit)
+                break;
+            if (previous >= 0 && times[previous] == times[position] && ordinals[previous] == ordinals[position])
+                continue;
+            samples.add(new TelemetrySample(SIGNALS[ordinals[position]], fromMicros(times[position]), values[position]));
+            previous = position;
+        }
+        return samples;
+    }
+
+    static long toMicros(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+}
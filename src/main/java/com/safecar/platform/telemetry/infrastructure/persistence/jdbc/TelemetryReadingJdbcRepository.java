@@ -0,0 +1,71 @@
+package com.safecar.platform.telemetry.infrastructure.persistence.jdbc;
+
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.safecar.platform.shared.infrastructure.persistence.jdbc.UuidColumns;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+
+import javax.sql.DataSource;
+
+/**
+ * Repository that writes telemetry readings with JDBC batch inserts.
+ * <p>
+ * Samples are bound straight into one prepared statement and sent in batches, without creating entities
+ * or going through a persistence context. With {@code rewriteBatchedStatements} (see the {@code jdbc-tuned}
+ * profile) MySQL Connector/J sends each batch as a single multi-row insert. A reading that is already stored
+ * is left as is, so a batch sent again after a failure does not fail on its primary key.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public class TelemetryReadingJdbcRepository {
+    private static final String INSERT_READING = """
+            INSERT INTO telemetry_readings (vehicle_id, recorded_at, signal_name, reading_value)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE reading_value = reading_value""";
+
+    // Instants are stored as UTC date-times, as Hibernate does for the reads
+    private static final ThreadLocal<Calendar> UTC_CALENDAR =
+            ThreadLocal.withInitial(() -> Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    /**
+     * Constructor
+     *
+     * @param dataSource the application {@link DataSource}
+     * @param batchSize  the number of readings sent in one JDBC batch
+     */
+    public TelemetryReadingJdbcRepository(DataSource dataSource,
+            @Value("${persistence.telemetry.ingestion.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Inserts the samples of a vehicle, skipping those already stored.
+     *
+     * @param vehicleId the id of the vehicle
+     * @param samples   the samples
+     */
+    public void insertAll(UUID vehicleId, List<TelemetrySample> samples) {
+        var vehicleIdBytes = UuidColumns.toBytes(vehicleId);
+        var calendar = UTC_CALENDAR.get();
+        jdbcTemplate.batchUpdate(INSERT_READING, samples, batchSize, (statement, sample) -> {
+            statement.setBytes(1, vehicleIdBytes);
+            statement.setTimestamp(2, Timestamp.from(sample.recordedAt()), calendar);
+            statement.setString(3, sample.signal().name());
+            statement.setDouble(4, sample.value());
+        });
+    }
+}
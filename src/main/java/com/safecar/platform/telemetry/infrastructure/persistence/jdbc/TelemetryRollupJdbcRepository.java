@@ -0,0 +1,144 @@
+package com.safecar.platform.telemetry.infrastructure.persistence.jdbc;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TimeZone;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import com.safecar.platform.shared.infrastructure.persistence.jdbc.UuidColumns;
+import com.safecar.platform.telemetry.domain.model.valueobjects.RollupResolution;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+
+import javax.sql.DataSource;
+
+/**
+ * Repository that maintains the telemetry rollups with JDBC batch upserts.
+ * <p>
+ * Once readings are stored, each minute bucket they fall in is recomputed from the readings of that minute,
+ * then each hour bucket from its minute rollups, and each day bucket from its hour rollups; one statement per
+ * bucket, sent in one JDBC batch per resolution. Recomputing whole buckets, rather than adding the new readings
+ * to them, merges readings arriving late into their buckets and keeps the rollups exact when a batch is sent again.
+ * </p>
+ * <p>
+ * At the default isolation level of MySQL, the upserts read their source rows with locking reads, so a reading
+ * inserted while its bucket is being recomputed waits for that recomputation, and is covered by the next one.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public class TelemetryRollupJdbcRepository {
+    // The rollups are computed in a derived table, so the update can refer to its columns instead of the deprecated
+    // VALUES(); the bucket is set by the outer query, where the target columns give its parameters a type
+    private static final String UPSERT = """
+            INSERT INTO telemetry_rollups (vehicle_id, resolution, bucket_start, signal_name,
+                minimum, maximum, reading_sum, reading_count)
+            SELECT recomputed.vehicle_id, %s, recomputed.signal_name,
+                recomputed.minimum, recomputed.maximum, recomputed.reading_sum, recomputed.reading_count
+            FROM (%s) AS recomputed
+            ON DUPLICATE KEY UPDATE %s""";
+
+    private static final String ROLLUP_FROM_READINGS = """
+            SELECT vehicle_id, signal_name, MIN(reading_value) AS minimum, MAX(reading_value) AS maximum,
+                SUM(reading_value) AS reading_sum, COUNT(*) AS reading_count
+            FROM telemetry_readings
+            WHERE vehicle_id = ? AND recorded_at >= ? AND recorded_at < ?
+            GROUP BY vehicle_id, signal_name""";
+
+    private static final String ROLLUP_FROM_ROLLUPS = """
+            SELECT vehicle_id, signal_name, MIN(minimum) AS minimum, MAX(maximum) AS maximum,
+                SUM(reading_sum) AS reading_sum, SUM(reading_count) AS reading_count
+            FROM telemetry_rollups
+            WHERE vehicle_id = ? AND resolution = ? AND bucket_start >= ? AND bucket_start < ?
+            GROUP BY vehicle_id, signal_name""";
+
+    private static final List<String> ROLLUP_COLUMNS = List.of("minimum", "maximum", "reading_sum", "reading_count");
+
+    // Instants are stored as UTC date-times, as Hibernate does for the reads
+    private static final ThreadLocal<Calendar> UTC_CALENDAR =
+            ThreadLocal.withInitial(() -> Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String rollupFromReadings;
+    private final String rollupFromRollups;
+
+    /**
+     * Constructor
+     * <p>
+     * H2, used by the tests in MySQL mode, cannot refer to the derived table in the update,
+     * so databases other than MySQL are given the new values with {@code VALUES()}.
+     * </p>
+     *
+     * @param dataSource the application {@link DataSource}
+     * @throws MetaDataAccessException if the database product cannot be read
+     */
+    public TelemetryRollupJdbcRepository(DataSource dataSource) throws MetaDataAccessException {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        var productName = JdbcUtils.commonDatabaseName(
+                JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+        var assignments = assignments("MySQL".equals(productName));
+        this.rollupFromReadings = UPSERT.formatted("'MINUTE', ?", ROLLUP_FROM_READINGS, assignments);
+        this.rollupFromRollups = UPSERT.formatted("?, ?", ROLLUP_FROM_ROLLUPS, assignments);
+    }
+
+    /**
+     * Recomputes the rollups of the buckets of stored samples of a vehicle, at every resolution.
+     *
+     * @param vehicleId the id of the vehicle
+     * @param samples   the stored samples
+     */
+    public void refresh(UUID vehicleId, List<TelemetrySample> samples) {
+        if (samples.isEmpty())
+            return;
+        var vehicleIdBytes = UuidColumns.toBytes(vehicleId);
+        var calendar = UTC_CALENDAR.get();
+        var minutes = bucketsOf(samples.stream().map(TelemetrySample::recordedAt).toList(), RollupResolution.MINUTE);
+        jdbcTemplate.batchUpdate(rollupFromReadings, minutes, minutes.size(), (statement, minute) -> {
+            statement.setTimestamp(1, Timestamp.from(minute), calendar);
+            statement.setBytes(2, vehicleIdBytes);
+            statement.setTimestamp(3, Timestamp.from(minute), calendar);
+            statement.setTimestamp(4, Timestamp.from(minute.plus(RollupResolution.MINUTE.length())), calendar);
+        });
+        var hours = refreshFrom(vehicleIdBytes, minutes, RollupResolution.MINUTE, RollupResolution.HOUR);
+        refreshFrom(vehicleIdBytes, hours, RollupResolution.HOUR, RollupResolution.DAY);
+    }
+
+    private SortedSet<Instant> refreshFrom(byte[] vehicleIdBytes, SortedSet<Instant> sourceBuckets,
+            RollupResolution source, RollupResolution target) {
+        var calendar = UTC_CALENDAR.get();
+        var buckets = bucketsOf(sourceBuckets, target);
+        jdbcTemplate.batchUpdate(rollupFromRollups, buckets, buckets.size(), (statement, bucket) -> {
+            statement.setString(1, target.name());
+            statement.setTimestamp(2, Timestamp.from(bucket), calendar);
+            statement.setBytes(3, vehicleIdBytes);
+            statement.setString(4, source.name());
+            statement.setTimestamp(5, Timestamp.from(bucket), calendar);
+            statement.setTimestamp(6, Timestamp.from(bucket.plus(target.length())), calendar);
+        });
+        return buckets;
+    }
+
+    private static String assignments(boolean derivedTableReferences) {
+        return String.join(", ", ROLLUP_COLUMNS.stream()
+                .map(column -> column + " = "
+                        + (derivedTableReferences ? "recomputed." + column : "VALUES(" + column + ")"))
+                .toList());
+    }
+
+    private static SortedSet<Instant> bucketsOf(Iterable<Instant> times, RollupResolution resolution) {
+        var buckets = new TreeSet<Instant>();
+        for (var time : times)
+            buckets.add(resolution.bucketOf(time));
+        return buckets;
+    }
+}
@@ -0,0 +1,28 @@
+package com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.safecar.platform.telemetry.domain.model.aggregates.Alert;
+
+/**
+ * Repository interface for managing {@link Alert} aggregates.
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public interface AlertRepository extends JpaRepository<Alert, UUID> {
+
+    /**
+     * Finds the latest alerts of a vehicle, through the index on the vehicle and the reading time.
+     *
+     * @param vehicleId the id of the vehicle
+     * @param limit     the maximum number of alerts
+     * @return the alerts, the most recent reading first
+     */
+    List<Alert> findByVehicleIdOrderByRecordedAtDesc(UUID vehicleId, Limit limit);
+}
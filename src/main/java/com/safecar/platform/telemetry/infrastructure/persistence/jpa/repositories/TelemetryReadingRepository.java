@@ -0,0 +1,66 @@
+package com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.safecar.platform.telemetry.domain.model.entities.TelemetryReading;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetryReadingId;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+/**
+ * Repository interface for reading {@link TelemetryReading} entities back by time range.
+ * <p>
+ * Readings are read as {@link TelemetrySample} projections, without entering the persistence context;
+ * the ranges follow the primary key, which orders the readings of each vehicle by time.
+ * Readings are written by {@link com.safecar.platform.telemetry.infrastructure.persistence.jdbc.TelemetryReadingJdbcRepository}.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public interface TelemetryReadingRepository extends JpaRepository<TelemetryReading, TelemetryReadingId> {
+
+    String SAMPLES = """
+            select new com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample(
+                r.id.signal, r.id.recordedAt, r.value)
+            from TelemetryReading r
+            where r.id.vehicleId = :vehicleId and r.id.recordedAt >= :from and r.id.recordedAt < :to""";
+
+    String SAMPLES_ORDERING = " order by r.id.recordedAt, r.id.signal";
+
+    /**
+     * Finds the samples of every signal of a vehicle within a time range.
+     *
+     * @param vehicleId the id of the vehicle
+     * @param from      the start of the range, inclusive
+     * @param to        the end of the range, exclusive
+     * @param limit     the maximum number of samples to return
+     * @return the samples, ordered by time
+     */
+    @Query(SAMPLES + SAMPLES_ORDERING)
+    List<TelemetrySample> findSamples(@Param("vehicleId") UUID vehicleId, @Param("from") Instant from,
+            @Param("to") Instant to, Limit limit);
+
+    /**
+     * Finds the samples of one signal of a vehicle within a time range.
+     *
+     * @param vehicleId the id of the vehicle
+     * @param signal    the signal
+     * @param from      the start of the range, inclusive
+     * @param to        the end of the range, exclusive
+     * @param limit     the maximum number of samples to return
+     * @return the samples, ordered by time
+     */
+    @Query(SAMPLES + " and r.id.signal = :signal" + SAMPLES_ORDERING)
+    List<TelemetrySample> findSamplesOfSignal(@Param("vehicleId") UUID vehicleId,
+            @Param("signal") TelemetrySignal signal, @Param("from") Instant from, @Param("to") Instant to,
+            Limit limit);
+}
@@ -0,0 +1,66 @@
+package com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.safecar.platform.telemetry.domain.model.entities.TelemetryRollup;
+import com.safecar.platform.telemetry.domain.model.valueobjects.RollupResolution;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetryAggregate;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetryRollupId;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+/**
+ * Repository interface for reading {@link TelemetryRollup} entities back by time range.
+ * <p>
+ * Rollups are read as {@link TelemetryAggregate} projections, without entering the persistence context.
+ * Rollups are written by {@link com.safecar.platform.telemetry.infrastructure.persistence.jdbc.TelemetryRollupJdbcRepository}.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public interface TelemetryRollupRepository extends JpaRepository<TelemetryRollup, TelemetryRollupId> {
+
+    String AGGREGATES = """
+            select new com.safecar.platform.telemetry.domain.model.valueobjects.TelemetryAggregate(
+                r.id.signal, r.id.bucketStart, r.minimum, r.maximum, r.sum, r.count)
+            from TelemetryRollup r
+            where r.id.vehicleId = :vehicleId and r.id.resolution = :resolution
+                and r.id.bucketStart >= :from and r.id.bucketStart < :to""";
+
+    String AGGREGATES_ORDERING = " order by r.id.bucketStart, r.id.signal";
+
+    /**
+     * Finds the rollups of every signal of a vehicle at a resolution, for the buckets starting within a time range.
+     *
+     * @param vehicleId  the id of the vehicle
+     * @param resolution the resolution
+     * @param from       the start of the range, inclusive
+     * @param to         the end of the range, exclusive
+     * @return the rollups, ordered by bucket and signal
+     */
+    @Query(AGGREGATES + AGGREGATES_ORDERING)
+    List<TelemetryAggregate> findAggregates(@Param("vehicleId") UUID vehicleId,
+            @Param("resolution") RollupResolution resolution, @Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Finds the rollups of one signal of a vehicle at a resolution, for the buckets starting within a time range.
+     *
+     * @param vehicleId  the id of the vehicle
+     * @param signal     the signal
+     * @param resolution the resolution
+     * @param from       the start of the range, inclusive
+     * @param to         the end of the range, exclusive
+     * @return the rollups, ordered by bucket
+     */
+    @Query(AGGREGATES + " and r.id.signal = :signal" + AGGREGATES_ORDERING)
+    List<TelemetryAggregate> findAggregatesOfSignal(@Param("vehicleId") UUID vehicleId,
+            @Param("signal") TelemetrySignal signal, @Param("resolution") RollupResolution resolution,
+            @Param("from") Instant from, @Param("to") Instant to);
+}
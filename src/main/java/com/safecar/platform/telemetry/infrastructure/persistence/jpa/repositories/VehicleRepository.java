@@ -0,0 +1,38 @@
+package com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.safecar.platform.telemetry.domain.model.aggregates.Vehicle;
+
+/**
+ * Repository interface for managing {@link Vehicle} aggregates.
+ *
+ * @since 2026-10-18
+ */
+@Repository
+public interface VehicleRepository extends JpaRepository<Vehicle, UUID> {
+
+    /**
+     * Finds the vehicles of an owner.
+     *
+     * @param ownerEmail the email of the owner
+     * @return the vehicles of the owner
+     */
+    List<Vehicle> findByOwnerEmail(String ownerEmail);
+
+    /**
+     * Finds the email of the owner of a vehicle.
+     *
+     * @param id the id of the vehicle
+     * @return the email of the owner, or empty if the vehicle does not exist
+     */
+    @Query("select v.ownerEmail from Vehicle v where v.id = :id")
+    Optional<String> findOwnerEmailById(@Param("id") UUID id);
+}
@@ -0,0 +1,139 @@
+package com.safecar.platform.telemetry.infrastructure.rules;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.safecar.platform.telemetry.domain.model.aggregates.Alert;
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertSeverity;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Alert Rule Engine
+ * <p>
+ * Evaluates the alert rules incrementally on the readings of each vehicle as they are ingested. Each vehicle
+ * keeps a {@link RuleWindow} per rule with what the rule needs of the earlier readings, so no history is read
+ * back from the database. Alerts are edge-triggered: a rule raises an alert when a reading meets it and the
+ * previous one did not, and raises none while it stays met.
+ * </p>
+ * <p>
+ * Readings of a batch are evaluated in the order they were recorded; a reading recorded before the last one
+ * evaluated by a rule is too late for it and skipped. The state of the vehicles silent for longer than the idle
+ * timeout is dropped. When the rules are reloaded, the state of the rules whose definition did not change is kept,
+ * so they neither raise an alert again nor forget a condition in progress. Each instance only sees the
+ * readings it ingests, like the {@code RecentReadingsStore}. Raised alerts are counted under
+ * {@code telemetry.alerts.raised}, tagged with their severity.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class AlertRuleEngine {
+    private final Cache<UUID, VehicleRuleState> states;
+    private final Counter[] raised;
+    private volatile AlertRuleSet ruleSet = AlertRuleSet.EMPTY;
+
+    /**
+     * Constructor
+     *
+     * @param maximumVehicles the maximum number of vehicles whose rule state is kept
+     * @param idleTimeout     how long the rule state of a silent vehicle is kept
+     * @param meterRegistry   the registry receiving the alert metrics
+     */
+    public AlertRuleEngine(
+            @Value("${telemetry.alerts.state.maximum-vehicles:100000}") long maximumVehicles,
+            @Value("${telemetry.alerts.state.idle-timeout:1h}") Duration idleTimeout,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.states = Caffeine.newBuilder()
+                .maximumSize(maximumVehicles)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        var registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.raised = new Counter[AlertSeverity.values().length];
+        for (var severity : AlertSeverity.values())
+            raised[severity.ordinal()] = registry.counter("telemetry.alerts.raised", "severity", severity.name());
+        Gauge.builder("telemetry.alerts.rules", this, engine -> engine.ruleSet.size())
+                .description("Alert rules evaluated on ingested readings")
+                .register(registry);
+    }
+
+    /**
+     * Replaces the rules evaluated. The state of each vehicle is carried over to the new rules on its next
+     * readings.
+     *
+     * @param rules the new rules
+     */
+    void install(AlertRuleSet rules) {
+        ruleSet = rules;
+    }
+
+    /**
+     * Evaluates the rules on readings of a vehicle.
+     *
+     * @param vehicleId the id of the vehicle
+     * @param samples   the readings, in any order
+     * @return the alerts raised, not yet saved
+     */
+    public List<Alert> evaluate(UUID vehicleId, List<TelemetrySample> samples) {
+        var rules = ruleSet;
+        if (rules.size() == 0 || samples.isEmpty())
+            return List.of();
+        var ordered = new ArrayList<>(samples);
+        ordered.sort(Comparator.comparing(TelemetrySample::recordedAt));
+        var alerts = new ArrayList<Alert>();
+        var state = states.get(vehicleId, id -> new VehicleRuleState());
+        state.lock.lock();
+        try {
+            if (state.rules != rules) {
+                state.windows = rules.windowsFrom(state.rules, state.windows);
+                state.rules = rules;
+            }
+            for (var sample : ordered) {
+                var time = toMicros(sample);
+                for (var rule : rules.rulesOf(sample.signal())) {
+                    var window = state.windows[rule.index()];
+                    if (time < window.lastRecordedAt)
+                        continue;
+                    window.lastRecordedAt = time;
+                    var met = rule.isMet(window, time, sample.value());
+                    if (met && !window.firing) {
+                        alerts.add(new Alert(vehicleId, rule.definition(), sample.value(), sample.recordedAt()));
+                        raised[rule.definition().severity().ordinal()].increment();
+                    }
+                    window.firing = met;
+                }
+            }
+        } finally {
+            state.lock.unlock();
+        }
+        return alerts;
+    }
+
+    private static long toMicros(TelemetrySample sample) {
+        var recordedAt = sample.recordedAt();
+        return recordedAt.getEpochSecond() * 1_000_000L + recordedAt.getNano() / 1_000;
+    }
+
+    /**
+     * Rule state of one vehicle, bound to the rule set it was built for.
+     */
+    private static final class VehicleRuleState {
+        private final ReentrantLock lock = new ReentrantLock();
+        private AlertRuleSet rules = AlertRuleSet.EMPTY;
+        private RuleWindow[] windows = new RuleWindow[0];
+    }
+}
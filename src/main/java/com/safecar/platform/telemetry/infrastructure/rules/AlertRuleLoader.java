@@ -0,0 +1,103 @@
+package com.safecar.platform.telemetry.infrastructure.rules;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertRuleDefinition;
+
+/**
+ * Alert Rule Loader
+ * <p>
+ * Loads the alert rules from a JSON array of {@link AlertRuleDefinition} into the {@link AlertRuleEngine},
+ * and reloads them whenever the modification time of the file changes, so rules are edited without a restart.
+ * Invalid rules stop the startup; on a reload they are logged and the current rules are kept.
+ * </p>
+ * <p>
+ * Only a location resolving to a file is reloaded. The default {@code classpath:} location is packaged inside the
+ * application jar, where it can neither be edited nor watched, so it is loaded once; rules meant to be edited in
+ * production are given a {@code file:} location.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class AlertRuleLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AlertRuleLoader.class);
+    private static final TypeReference<List<AlertRuleDefinition>> DEFINITIONS = new TypeReference<>() {
+    };
+
+    private final Resource location;
+    private final ObjectMapper objectMapper;
+    private final AlertRuleEngine alertRuleEngine;
+    private final boolean reloadable;
+    private long lastModified;
+
+    /**
+     * Constructor
+     *
+     * @param location        the JSON file of the rules
+     * @param objectMapper    the {@link ObjectMapper} reading the file
+     * @param alertRuleEngine the {@link AlertRuleEngine} receiving the rules
+     * @throws IOException if the rules cannot be read or are invalid
+     */
+    public AlertRuleLoader(
+            @Value("${telemetry.alerts.rules.location:classpath:alert-rules.json}") Resource location,
+            ObjectMapper objectMapper, AlertRuleEngine alertRuleEngine) throws IOException {
+        this.location = location;
+        this.objectMapper = objectMapper;
+        this.alertRuleEngine = alertRuleEngine;
+        this.reloadable = location.isFile();
+        this.lastModified = lastModified();
+        load();
+        if (!reloadable)
+            LOGGER.info("Alert rules in {} are not a file and will not be reloaded", location);
+    }
+
+    /**
+     * Reloads the rules if their file was modified since the last load. Does nothing if the rules are not a file.
+     */
+    @Scheduled(fixedDelayString = "${telemetry.alerts.rules.reload-period:10s}",
+            initialDelayString = "${telemetry.alerts.rules.reload-period:10s}")
+    public void reload() {
+        if (!reloadable)
+            return;
+        var modified = lastModified();
+        if (modified == lastModified)
+            return;
+        // Remembered even if the rules are invalid, so they are reported once per change
+        lastModified = modified;
+        try {
+            load();
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.error("Invalid alert rules in {}, keeping the current ones: {}", location, e.getMessage());
+        }
+    }
+
+    private void load() throws IOException {
+        try (var input = location.getInputStream()) {
+            var definitions = objectMapper.readValue(input, DEFINITIONS);
+            if (definitions == null)
+                throw new IllegalArgumentException("The alert rules must be a JSON array");
+            var rules = AlertRuleSet.compile(definitions);
+            alertRuleEngine.install(rules);
+            LOGGER.info("Loaded {} alert rules from {}", rules.size(), location);
+        }
+    }
+
+    private long lastModified() {
+        try {
+            return location.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.safecar.platform.telemetry.infrastructure.rules;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertRuleDefinition;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+/**
+ * Immutable set of compiled alert rules, indexed by the signal they watch.
+ *
+ * @since 2026-10-18
+ */
+final class AlertRuleSet {
+    static final AlertRuleSet EMPTY = compile(List.of());
+
+    private final CompiledAlertRule[] rules;
+    private final CompiledAlertRule[][] rulesBySignal;
+
+    private AlertRuleSet(CompiledAlertRule[] rules, CompiledAlertRule[][] rulesBySignal) {
+        this.rules = rules;
+        this.rulesBySignal = rulesBySignal;
+    }
+
+    /**
+     * Compiles rule definitions.
+     *
+     * @param definitions the definitions, with unique ids
+     * @return the compiled rule set
+     * @throws IllegalArgumentException if a rule is missing or two rules share an id
+     */
+    static AlertRuleSet compile(List<AlertRuleDefinition> definitions) {
+        var ids = new HashSet<String>();
+        var rules = new CompiledAlertRule[definitions.size()];
+        var bySignal = new ArrayList<List<CompiledAlertRule>>();
+        for (var signal : TelemetrySignal.values())
+            bySignal.add(new ArrayList<>());
+        for (var index = 0; index < rules.length; index++) {
+            var definition = definitions.get(index);
+            if (definition == null)
+                throw new IllegalArgumentException("Alert rule " + index + " is empty");
+            if (!ids.add(definition.id()))
+                throw new IllegalArgumentException("Duplicate alert rule id: " + definition.id());
+            rules[index] = CompiledAlertRule.compile(definition, index);
+            bySignal.get(definition.signal().ordinal()).add(rules[index]);
+        }
+        return new AlertRuleSet(rules, bySignal.stream()
+                .map(signalRules -> signalRules.toArray(CompiledAlertRule[]::new))
+                .toArray(CompiledAlertRule[][]::new));
+    }
+
+    /**
+     * @param signal a signal
+     * @return the rules watching the signal
+     */
+    CompiledAlertRule[] rulesOf(TelemetrySignal signal) {
+        return rulesBySignal[signal.ordinal()];
+    }
+
+    /**
+     * Carries the sliding state of the rules whose definition did not change over from an earlier rule set.
+     *
+     * @param previous the rule set the windows were built for
+     * @param windows  the windows of the earlier rule set, indexed by its rules
+     * @return the windows of this rule set, indexed by rule; new and changed rules start from a new state
+     */
+    RuleWindow[] windowsFrom(AlertRuleSet previous, RuleWindow[] windows) {
+        var kept = new HashMap<AlertRuleDefinition, RuleWindow>();
+        for (var rule : previous.rules)
+            kept.put(rule.definition(), windows[rule.index()]);
+        var adopted = new RuleWindow[rules.length];
+        for (var rule : rules) {
+            var window = kept.get(rule.definition());
+            adopted[rule.index()] = window != null ? window : rule.newWindow();
+        }
+        return adopted;
+    }
+
+    int size() {
+        return rules.length;
+    }
+}
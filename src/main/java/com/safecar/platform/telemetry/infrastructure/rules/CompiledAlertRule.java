@@ -0,0 +1,110 @@
+package com.safecar.platform.telemetry.infrastructure.rules;
+
+import java.util.function.DoublePredicate;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertRuleDefinition;
+
+/**
+ * An alert rule compiled into a predicate over the latest reading and the sliding state of the rule.
+ * <p>
+ * The comparison and the evaluation of the rule type are chosen once, when the rules are loaded,
+ * so evaluating a reading only runs the chosen code.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+final class CompiledAlertRule {
+    private static final long MICROS_PER_MINUTE = 60_000_000L;
+    // Earlier readings kept per rate of change rule and vehicle, spread over the window
+    private static final int RATE_SAMPLES = 16;
+
+    /**
+     * Evaluation of a reading against a rule.
+     */
+    @FunctionalInterface
+    private interface Evaluation {
+        boolean isMet(RuleWindow window, long time, double value);
+    }
+
+    private final AlertRuleDefinition definition;
+    private final int index;
+    private final int windowCapacity;
+    private final Evaluation evaluation;
+
+    private CompiledAlertRule(AlertRuleDefinition definition, int index, int windowCapacity, Evaluation evaluation) {
+        this.definition = definition;
+        this.index = index;
+        this.windowCapacity = windowCapacity;
+        this.evaluation = evaluation;
+    }
+
+    /**
+     * Compiles a rule.
+     *
+     * @param definition the definition of the rule
+     * @param index      the position of the rule in its rule set
+     * @return the compiled rule
+     */
+    static CompiledAlertRule compile(AlertRuleDefinition definition, int index) {
+        var condition = definition.operator().against(definition.threshold());
+        var windowMicros = definition.window() != null ? definition.window().toNanos() / 1_000 : 0L;
+        return switch (definition.type()) {
+            case THRESHOLD -> new CompiledAlertRule(definition, index, 0,
+                    (window, time, value) -> condition.test(value));
+            case SUSTAINED -> new CompiledAlertRule(definition, index, 0,
+                    (window, time, value) -> isSustained(condition, windowMicros, window, time, value));
+            case RATE_OF_CHANGE -> new CompiledAlertRule(definition, index, RATE_SAMPLES,
+                    (window, time, value) -> isRateMet(condition, windowMicros, window, time, value));
+        };
+    }
+
+    private static boolean isSustained(DoublePredicate condition, long windowMicros, RuleWindow window, long time,
+            double value) {
+        if (!condition.test(value)) {
+            window.conditionSince = RuleWindow.NONE;
+            return false;
+        }
+        if (window.conditionSince == RuleWindow.NONE)
+            window.conditionSince = time;
+        return time - window.conditionSince >= windowMicros;
+    }
+
+    private static boolean isRateMet(DoublePredicate condition, long windowMicros, RuleWindow window, long time,
+            double value) {
+        window.dropBefore(time - windowMicros);
+        var met = false;
+        if (!window.isEmpty() && window.oldestTime() < time) {
+            var ratePerMinute = (value - window.oldestValue()) * MICROS_PER_MINUTE / (time - window.oldestTime());
+            met = condition.test(ratePerMinute);
+        }
+        window.keep(time, value, windowMicros / RATE_SAMPLES);
+        return met;
+    }
+
+    /**
+     * @return a new sliding state for this rule
+     */
+    RuleWindow newWindow() {
+        return new RuleWindow(windowCapacity);
+    }
+
+    /**
+     * Evaluates a reading, updating the sliding state of the rule.
+     *
+     * @param window the sliding state of the rule for the vehicle
+     * @param time   the time of the reading, in epoch microseconds
+     * @param value  the value of the reading
+     * @return {@code true} if the rule is met
+     */
+    boolean isMet(RuleWindow window, long time, double value) {
+        return evaluation.isMet(window, time, value);
+    }
+
+    AlertRuleDefinition definition() {
+        return definition;
+    }
+
+    int index() {
+        return index;
+    }
+}
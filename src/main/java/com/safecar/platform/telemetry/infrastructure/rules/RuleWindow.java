@@ -0,0 +1,77 @@
+package com.safecar.platform.telemetry.infrastructure.rules;
+
+/**
+ * Sliding state of one alert rule for one vehicle.
+ * <p>
+ * Holds the time of the latest reading evaluated, whether the rule is met, since when the condition of a
+ * sustained rule holds, and for a rate of change rule a few earlier readings spread over its window, in
+ * primitive arrays. Accessed by one evaluation at a time, under the lock of the vehicle state.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+final class RuleWindow {
+    static final long NONE = Long.MIN_VALUE;
+
+    long lastRecordedAt = NONE;
+    long conditionSince = NONE;
+    boolean firing;
+
+    private final long[] times;
+    private final double[] values;
+    private int first;
+    private int size;
+
+    /**
+     * @param capacity the number of earlier readings kept, zero for rules that need none
+     */
+    RuleWindow(int capacity) {
+        this.times = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    /**
+     * Drops the readings recorded before a time.
+     *
+     * @param from the earliest time kept, in epoch microseconds
+     */
+    void dropBefore(long from) {
+        while (size > 0 && times[first] < from) {
+            first = (first + 1) % times.length;
+            size--;
+        }
+    }
+
+    /**
+     * Keeps a reading if it was recorded at least {@code spacing} after the newest one kept,
+     * dropping the oldest reading when full.
+     *
+     * @param time    the time of the reading, in epoch microseconds
+     * @param value   the value of the reading
+     * @param spacing the minimum time between kept readings, in microseconds
+     */
+    void keep(long time, double value, long spacing) {
+        if (size > 0 && time - times[(first + size - 1) % times.length] < spacing)
+            return;
+        if (size == times.length) {
+            first = (first + 1) % times.length;
+            size--;
+        }
+        var slot = (first + size) % times.length;
+        times[slot] = time;
+        values[slot] = value;
+        size++;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long oldestTime() {
+        return times[first];
+    }
+
+    double oldestValue() {
+        return values[first];
+    }
+}
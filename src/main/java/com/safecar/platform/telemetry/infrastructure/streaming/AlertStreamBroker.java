@@ -0,0 +1,183 @@
+package com.safecar.platform.telemetry.infrastructure.streaming;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.safecar.platform.telemetry.interfaces.rest.resources.AlertResource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Alert Stream Broker
+ * <p>
+ * Fans the raised alerts out to the open Server-Sent Events streams: to the streams of the owner of the vehicle,
+ * and to the streams following the whole fleet. Streams are served by asynchronous requests, so an idle stream
+ * holds a connection but no thread; writes run on virtual threads, one drain task per stream with alerts waiting,
+ * behind a bounded per-stream buffer (see {@link AlertSubscriber}).
+ * </p>
+ * <p>
+ * Each stream is closed after the timeout, and the client reconnects. A heartbeat comment is written to idle
+ * streams periodically, which unregisters the streams whose connection is gone. Open streams are measured by
+ * {@code telemetry.alerts.stream.subscribers}, and alerts dropped for slow clients counted under
+ * {@code telemetry.alerts.stream.dropped}. Each instance only streams the alerts it raises.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@Component
+public class AlertStreamBroker {
+    private final Map<String, Set<AlertSubscriber>> subscribersByOwner = new ConcurrentHashMap<>();
+    private final Set<AlertSubscriber> fleetSubscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final int maximumSubscribers;
+    private final int bufferCapacity;
+    private final Duration timeout;
+    private final Counter droppedAlerts;
+
+    /**
+     * Constructor
+     *
+     * @param maximumSubscribers the maximum number of open streams
+     * @param bufferCapacity     the maximum number of alerts waiting to be written to one stream
+     * @param timeout            how long a stream stays open before the client has to reconnect
+     * @param meterRegistry      the registry receiving the stream metrics
+     */
+    public AlertStreamBroker(
+            @Value("${telemetry.alerts.stream.maximum-subscribers:50000}") int maximumSubscribers,
+            @Value("${telemetry.alerts.stream.buffer-capacity:32}") int bufferCapacity,
+            @Value("${telemetry.alerts.stream.timeout:30m}") Duration timeout,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        if (bufferCapacity < 1)
+            throw new IllegalArgumentException("The alert stream buffer must hold at least one alert");
+        this.maximumSubscribers = maximumSubscribers;
+        this.bufferCapacity = bufferCapacity;
+        this.timeout = timeout;
+        var registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.droppedAlerts = Counter.builder("telemetry.alerts.stream.dropped")
+                .description("Alerts dropped from the buffer of a slow alert stream")
+                .register(registry);
+        Gauge.builder("telemetry.alerts.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open alert streams")
+                .register(registry);
+    }
+
+    /**
+     * Opens a stream of the alerts raised on the vehicles of an owner.
+     *
+     * @param ownerEmail the email of the owner
+     * @return the emitter of the stream, or empty if the maximum number of streams is open
+     */
+    public Optional<SseEmitter> subscribeToOwnedVehicles(String ownerEmail) {
+        return subscribe(ownerEmail);
+    }
+
+    /**
+     * Opens a stream of the alerts raised on every vehicle.
+     *
+     * @return the emitter of the stream, or empty if the maximum number of streams is open
+     */
+    public Optional<SseEmitter> subscribeToFleet() {
+        return subscribe(null);
+    }
+
+    /**
+     * Queues an alert on the streams of the owner of its vehicle and on those following the fleet.
+     *
+     * @param ownerEmail the email of the owner of the vehicle, or {@code null} if unknown
+     * @param alert      the alert
+     */
+    public void publish(String ownerEmail, AlertResource alert) {
+        if (ownerEmail != null) {
+            var ownerSubscribers = subscribersByOwner.get(ownerEmail);
+            if (ownerSubscribers != null)
+                ownerSubscribers.forEach(subscriber -> subscriber.offer(alert));
+        }
+        fleetSubscribers.forEach(subscriber -> subscriber.offer(alert));
+    }
+
+    /**
+     * Writes a heartbeat to the idle streams and unregisters those whose connection is gone.
+     */
+    @Scheduled(fixedDelayString = "${telemetry.alerts.stream.heartbeat-period:30s}")
+    public void heartbeat() {
+        subscribersByOwner.forEach((ownerEmail, subscribers) ->
+                subscribers.forEach(subscriber -> heartbeat(ownerEmail, subscriber)));
+        fleetSubscribers.forEach(subscriber -> heartbeat(null, subscriber));
+    }
+
+    /**
+     * Completes the open streams, so clients reconnect to another instance.
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribersByOwner.values().forEach(subscribers -> subscribers.forEach(this::complete));
+        fleetSubscribers.forEach(this::complete);
+        writers.shutdown();
+    }
+
+    private Optional<SseEmitter> subscribe(String ownerEmail) {
+        if (subscriberCount.incrementAndGet() > maximumSubscribers) {
+            subscriberCount.decrementAndGet();
+            return Optional.empty();
+        }
+        var emitter = new SseEmitter(timeout.toMillis());
+        var subscriber = new AlertSubscriber(emitter, bufferCapacity, writers, droppedAlerts);
+        emitter.onTimeout(emitter::complete);
+        emitter.onCompletion(() -> unregister(ownerEmail, subscriber));
+        emitter.onError(error -> unregister(ownerEmail, subscriber));
+        if (ownerEmail != null) {
+            subscribersByOwner.compute(ownerEmail, (key, subscribers) -> {
+                var registered = subscribers != null ? subscribers : ConcurrentHashMap.<AlertSubscriber>newKeySet();
+                registered.add(subscriber);
+                return registered;
+            });
+        } else {
+            fleetSubscribers.add(subscriber);
+        }
+        return Optional.of(emitter);
+    }
+
+    private void heartbeat(String ownerEmail, AlertSubscriber subscriber) {
+        if (subscriber.isClosed())
+            unregister(ownerEmail, subscriber);
+        else
+            subscriber.offerHeartbeat();
+    }
+
+    private void complete(AlertSubscriber subscriber) {
+        subscriber.close();
+        subscriber.emitter().complete();
+    }
+
+    private void unregister(String ownerEmail, AlertSubscriber subscriber) {
+        subscriber.close();
+        var removed = new boolean[1];
+        if (ownerEmail != null) {
+            subscribersByOwner.computeIfPresent(ownerEmail, (key, subscribers) -> {
+                removed[0] = subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        } else {
+            removed[0] = fleetSubscribers.remove(subscriber);
+        }
+        if (removed[0])
+            subscriberCount.decrementAndGet();
+    }
+}
@@ -0,0 +1,177 @@
+package com.safecar.platform.telemetry.infrastructure.streaming;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.safecar.platform.telemetry.interfaces.rest.resources.AlertResource;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * One open alert stream, with its bounded buffer of alerts not yet written.
+ * <p>
+ * Publishers only add to the buffer, under a short lock, and never write to the connection. Writing is done by
+ * one drain task at a time, started on the executor when the buffer stops being empty, so a slow client only
+ * delays its own stream. When the buffer is full the oldest alert is dropped, and the next write tells the client
+ * how many alerts it missed, so it can read them back from the REST endpoint.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+final class AlertSubscriber {
+    private final SseEmitter emitter;
+    private final int bufferCapacity;
+    private final Executor executor;
+    private final Counter droppedAlerts;
+    private final ArrayDeque<AlertResource> buffer;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int dropped;
+    private boolean heartbeatDue;
+    private boolean draining;
+    private boolean closed;
+
+    /**
+     * Constructor
+     *
+     * @param emitter        the emitter of the stream
+     * @param bufferCapacity the maximum number of alerts waiting to be written
+     * @param executor       the executor running the writes
+     * @param droppedAlerts  the counter of the alerts dropped from full buffers
+     */
+    AlertSubscriber(SseEmitter emitter, int bufferCapacity, Executor executor, Counter droppedAlerts) {
+        this.emitter = emitter;
+        this.bufferCapacity = bufferCapacity;
+        this.executor = executor;
+        this.droppedAlerts = droppedAlerts;
+        this.buffer = new ArrayDeque<>(bufferCapacity);
+    }
+
+    /**
+     * Queues an alert, dropping the oldest one if the buffer is full.
+     *
+     * @param alert the alert
+     */
+    void offer(AlertResource alert) {
+        lock.lock();
+        try {
+            if (closed)
+                return;
+            if (buffer.size() == bufferCapacity) {
+                buffer.pollFirst();
+                dropped++;
+                droppedAlerts.increment();
+            }
+            buffer.addLast(alert);
+        } finally {
+            lock.unlock();
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Queues a heartbeat, unless alerts are already waiting to be written, which detects closed connections and
+     * keeps idle ones open through proxies.
+     */
+    void offerHeartbeat() {
+        lock.lock();
+        try {
+            if (closed || !buffer.isEmpty())
+                return;
+            heartbeatDue = true;
+        } finally {
+            lock.unlock();
+        }
+        scheduleDrain();
+    }
+
+    /**
+     * Stops accepting alerts; those still buffered are discarded.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            buffer.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * @return {@code true} if the stream was closed or a write to it failed
+     */
+    boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void scheduleDrain() {
+        lock.lock();
+        try {
+            if (draining || closed)
+                return;
+            draining = true;
+        } finally {
+            lock.unlock();
+        }
+        executor.execute(this::drain);
+    }
+
+    private void drain() {
+        while (true) {
+            int missed;
+            boolean heartbeat;
+            ArrayList<AlertResource> alerts;
+            lock.lock();
+            try {
+                if (closed || (buffer.isEmpty() && dropped == 0 && !heartbeatDue)) {
+                    draining = false;
+                    return;
+                }
+                missed = dropped;
+                heartbeat = heartbeatDue;
+                alerts = new ArrayList<>(buffer);
+                dropped = 0;
+                heartbeatDue = false;
+                buffer.clear();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                if (missed > 0)
+                    emitter.send(SseEmitter.event().name("dropped").data(missed));
+                for (var alert : alerts)
+                    emitter.send(SseEmitter.event().id(alert.id().toString()).name("alert")
+                            .data(alert, MediaType.APPLICATION_JSON));
+                if (heartbeat)
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                // The connection is gone: the container completes the emitter, and the next heartbeat unregisters it
+                lock.lock();
+                try {
+                    closed = true;
+                    draining = false;
+                    buffer.clear();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+        }
+    }
+}
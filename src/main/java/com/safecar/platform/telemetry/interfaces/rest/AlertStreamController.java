@@ -0,0 +1,70 @@
+package com.safecar.platform.telemetry.interfaces.rest;
+
+import java.util.Optional;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.safecar.platform.telemetry.infrastructure.streaming.AlertStreamBroker;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller to push the preventive maintenance alerts as they are raised, with Server-Sent Events.
+ * <p>
+ * Drivers receive the alerts of the vehicles they own, and mechanics those of every vehicle. Each alert is sent
+ * as an {@code alert} event whose id is the alert id; a {@code dropped} event carries the number of alerts
+ * skipped because the client read too slowly, which can be read back from the alerts of each vehicle.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping(value = "/api/v1/alerts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+@Tag(name = "Alerts", description = "Available Alert Endpoints")
+public class AlertStreamController {
+    private final AlertStreamBroker alertStreamBroker;
+
+    /**
+     * Constructor.
+     *
+     * @param alertStreamBroker The broker holding the open alert streams.
+     */
+    public AlertStreamController(AlertStreamBroker alertStreamBroker) {
+        this.alertStreamBroker = alertStreamBroker;
+    }
+
+    /**
+     * Follow the alerts raised on the vehicles of the user, or on every vehicle for mechanics.
+     *
+     * @param authentication The authentication of the request.
+     * @return The stream of alerts.
+     */
+    @GetMapping
+    @Operation(summary = "Follow alerts", description = "Stream the alerts raised on the vehicles of the user as Server-Sent Events.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "403", description = "Neither a driver nor a mechanic."),
+            @ApiResponse(responseCode = "503", description = "Too many open streams.") })
+    public ResponseEntity<SseEmitter> followAlerts(Authentication authentication) {
+        Optional<SseEmitter> emitter;
+        if (VehicleAccessPolicy.canFollowFleetAlerts(authentication))
+            emitter = alertStreamBroker.subscribeToFleet();
+        else if (VehicleAccessPolicy.canFollowOwnAlerts(authentication))
+            emitter = alertStreamBroker.subscribeToOwnedVehicles(authentication.getName());
+        else
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        return emitter.map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+    }
+}
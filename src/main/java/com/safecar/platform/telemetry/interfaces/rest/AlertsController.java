@@ -0,0 +1,78 @@
+package com.safecar.platform.telemetry.interfaces.rest;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.safecar.platform.telemetry.domain.model.queries.GetAlertsByVehicleIdQuery;
+import com.safecar.platform.telemetry.domain.model.queries.GetVehicleByIdQuery;
+import com.safecar.platform.telemetry.domain.services.AlertQueryService;
+import com.safecar.platform.telemetry.domain.services.VehicleQueryService;
+import com.safecar.platform.telemetry.interfaces.rest.resources.AlertResource;
+import com.safecar.platform.telemetry.interfaces.rest.transform.AlertResourceFromEntityAssembler;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller to handle the preventive maintenance alerts of a vehicle.
+ * <p>
+ * Alerts are raised by the alert rules while the readings of the vehicle are ingested.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping(value = "/api/v1/vehicles/{vehicleId}/alerts", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Alerts", description = "Available Alert Endpoints")
+public class AlertsController {
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAXIMUM_LIMIT = 500;
+
+    private final AlertQueryService alertQueryService;
+    private final VehicleQueryService vehicleQueryService;
+
+    /**
+     * Constructor.
+     *
+     * @param alertQueryService   The alert query service.
+     * @param vehicleQueryService The vehicle query service.
+     */
+    public AlertsController(AlertQueryService alertQueryService, VehicleQueryService vehicleQueryService) {
+        this.alertQueryService = alertQueryService;
+        this.vehicleQueryService = vehicleQueryService;
+    }
+
+    /**
+     * Get the latest alerts of a vehicle.
+     *
+     * @param vehicleId      The id of the vehicle.
+     * @param limit          The maximum number of alerts.
+     * @param authentication The authentication of the request.
+     * @return The alerts, the most recent reading first.
+     */
+    @GetMapping
+    @Operation(summary = "Get alerts", description = "Get the latest preventive maintenance alerts of a vehicle.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Alerts retrieved successfully."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "404", description = "Vehicle not found.") })
+    public ResponseEntity<List<AlertResource>> getAlerts(@PathVariable UUID vehicleId,
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit, Authentication authentication) {
+        var vehicle = vehicleQueryService.handle(new GetVehicleByIdQuery(vehicleId));
+        if (vehicle.isEmpty() || !VehicleAccessPolicy.canRead(vehicle.get(), authentication))
+            return ResponseEntity.notFound().build();
+        var alerts = alertQueryService.handle(new GetAlertsByVehicleIdQuery(vehicleId, Math.clamp(limit, 1, MAXIMUM_LIMIT)));
+        return ResponseEntity.ok(alerts.stream().map(AlertResourceFromEntityAssembler::toResourceFromEntity).toList());
+    }
+}
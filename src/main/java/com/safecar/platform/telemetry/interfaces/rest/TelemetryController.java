@@ -0,0 +1,203 @@
+package com.safecar.platform.telemetry.interfaces.rest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.safecar.platform.telemetry.domain.model.queries.GetTelemetryAggregatesQuery;
+import com.safecar.platform.telemetry.domain.model.queries.GetTelemetryReadingsQuery;
+import com.safecar.platform.telemetry.domain.model.queries.GetVehicleByIdQuery;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+import com.safecar.platform.telemetry.domain.services.TelemetryCommandService;
+import com.safecar.platform.telemetry.domain.services.TelemetryQueryService;
+import com.safecar.platform.telemetry.domain.services.VehicleQueryService;
+import com.safecar.platform.telemetry.interfaces.rest.resources.TelemetryAggregateResource;
+import com.safecar.platform.telemetry.interfaces.rest.resources.TelemetryIngestionResultResource;
+import com.safecar.platform.telemetry.interfaces.rest.resources.TelemetrySampleResource;
+import com.safecar.platform.telemetry.interfaces.rest.transform.IngestTelemetryCommandFromResourceAssembler;
+import com.safecar.platform.telemetry.interfaces.rest.transform.TelemetryAggregateResourceFromAggregateAssembler;
+import com.safecar.platform.telemetry.interfaces.rest.transform.TelemetrySampleResourceFromSampleAssembler;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller to handle the telemetry endpoints of a vehicle.
+ * <p>
+ * Vehicles report their samples in batches: each request carries an array of samples of one vehicle,
+ * which are stored together with JDBC batch inserts. Readings are read back by time range,
+ * or aggregated per minute, hour, day or any whole number of minutes.
+ * Samples are reported by the owner, or by a device signing the request with its credential.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping(value = "/api/v1/vehicles/{vehicleId}/readings", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Telemetry", description = "Available Telemetry Endpoints")
+public class TelemetryController {
+    private static final Duration DEFAULT_RANGE = Duration.ofHours(1);
+    private static final Duration DEFAULT_AGGREGATE_RANGE = Duration.ofDays(1);
+    private static final String DEFAULT_RESOLUTION = "PT1H";
+    private static final int DEFAULT_LIMIT = 1000;
+    private static final int MAXIMUM_LIMIT = 10000;
+
+    private final TelemetryCommandService telemetryCommandService;
+    private final TelemetryQueryService telemetryQueryService;
+    private final VehicleQueryService vehicleQueryService;
+    private final int maximumBatchSize;
+
+    /**
+     * Constructor.
+     *
+     * @param telemetryCommandService The telemetry command service.
+     * @param telemetryQueryService   The telemetry query service.
+     * @param vehicleQueryService     The vehicle query service.
+     * @param maximumBatchSize        The maximum number of samples accepted in one request.
+     */
+    public TelemetryController(TelemetryCommandService telemetryCommandService,
+            TelemetryQueryService telemetryQueryService, VehicleQueryService vehicleQueryService,
+            @Value("${telemetry.ingestion.maximum-batch-size:5000}") int maximumBatchSize) {
+        this.telemetryCommandService = telemetryCommandService;
+        this.telemetryQueryService = telemetryQueryService;
+        this.vehicleQueryService = vehicleQueryService;
+        this.maximumBatchSize = maximumBatchSize;
+    }
+
+    /**
+     * Report a batch of samples of a vehicle.
+     * <p>
+     * The vehicle is looked up once per batch, unless the batch comes from one of its devices, whose signature
+     * already proves the vehicle. Samples already stored for the same signal and time are ignored,
+     * so a batch can be sent again when the response is lost.
+     * </p>
+     *
+     * @param vehicleId      The id of the vehicle.
+     * @param resources      The samples.
+     * @param authentication The authentication of the request.
+     * @return The number of samples accepted.
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Report telemetry", description = "Store a batch of samples of a vehicle.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Samples stored."),
+            @ApiResponse(responseCode = "400", description = "Invalid sample, or too many samples."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "404", description = "Vehicle not found.") })
+    public ResponseEntity<TelemetryIngestionResultResource> ingestReadings(@PathVariable UUID vehicleId,
+            @RequestBody List<TelemetrySampleResource> resources, Authentication authentication) {
+        if (resources.size() > maximumBatchSize)
+            return ResponseEntity.badRequest().build();
+        String ownerEmail = null;
+        if (!VehicleAccessPolicy.isDeviceOf(vehicleId, authentication)) {
+            var vehicle = vehicleQueryService.handle(new GetVehicleByIdQuery(vehicleId));
+            if (vehicle.isEmpty() || !VehicleAccessPolicy.canWrite(vehicle.get(), authentication))
+                return ResponseEntity.notFound().build();
+            ownerEmail = vehicle.get().getOwnerEmail();
+        }
+        var command = IngestTelemetryCommandFromResourceAssembler.toCommandFromResources(vehicleId, ownerEmail,
+                resources);
+        var accepted = telemetryCommandService.handle(command);
+        return ResponseEntity.ok(new TelemetryIngestionResultResource(accepted));
+    }
+
+    /**
+     * Get the readings of a vehicle within a time range.
+     *
+     * @param vehicleId      The id of the vehicle.
+     * @param signal         The signal to read; every signal when absent.
+     * @param from           The start of the range, inclusive; one hour before its end by default.
+     * @param to             The end of the range, exclusive; now by default.
+     * @param limit          The maximum number of readings.
+     * @param authentication The authentication of the request.
+     * @return The readings of the range, ordered by time.
+     */
+    @GetMapping
+    @Operation(summary = "Get telemetry", description = "Get the readings of a vehicle within a time range, ordered by time.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Readings retrieved successfully."),
+            @ApiResponse(responseCode = "400", description = "Invalid time range."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "404", description = "Vehicle not found.") })
+    public ResponseEntity<List<TelemetrySampleResource>> getReadings(@PathVariable UUID vehicleId,
+            @RequestParam(required = false) TelemetrySignal signal,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit,
+            Authentication authentication) {
+        var vehicle = vehicleQueryService.handle(new GetVehicleByIdQuery(vehicleId));
+        if (vehicle.isEmpty() || !VehicleAccessPolicy.canRead(vehicle.get(), authentication))
+            return ResponseEntity.notFound().build();
+        var end = to != null ? to : Instant.now();
+        var start = from != null ? from : end.minus(DEFAULT_RANGE);
+        var query = new GetTelemetryReadingsQuery(vehicleId, signal, start, end, Math.clamp(limit, 1, MAXIMUM_LIMIT));
+        var samples = telemetryQueryService.handle(query);
+        return ResponseEntity.ok(samples.stream().map(TelemetrySampleResourceFromSampleAssembler::toResourceFromSample).toList());
+    }
+
+    /**
+     * Get the aggregates of the readings of a vehicle over the buckets of a time range.
+     *
+     * @param vehicleId      The id of the vehicle.
+     * @param signal         The signal to aggregate; every signal when absent.
+     * @param from           The start of the range, inclusive; one day before its end by default.
+     * @param to             The end of the range, exclusive; now by default.
+     * @param resolution     The bucket length, a whole number of minutes; one hour by default.
+     * @param limit          The maximum number of aggregates.
+     * @param authentication The authentication of the request.
+     * @return The minimum, maximum, average and count of each bucket and signal, ordered by bucket.
+     */
+    @GetMapping("/aggregates")
+    @Operation(summary = "Get telemetry aggregates", description = "Get the minimum, maximum, average and count of the readings of a vehicle per time bucket.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Aggregates retrieved successfully."),
+            @ApiResponse(responseCode = "400", description = "Invalid time range or resolution."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "404", description = "Vehicle not found.") })
+    public ResponseEntity<List<TelemetryAggregateResource>> getAggregates(@PathVariable UUID vehicleId,
+            @RequestParam(required = false) TelemetrySignal signal,
+            @RequestParam(required = false) Instant from,
+            @RequestParam(required = false) Instant to,
+            @RequestParam(defaultValue = DEFAULT_RESOLUTION) Duration resolution,
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit,
+            Authentication authentication) {
+        var vehicle = vehicleQueryService.handle(new GetVehicleByIdQuery(vehicleId));
+        if (vehicle.isEmpty() || !VehicleAccessPolicy.canRead(vehicle.get(), authentication))
+            return ResponseEntity.notFound().build();
+        var end = to != null ? to : Instant.now();
+        var start = from != null ? from : end.minus(DEFAULT_AGGREGATE_RANGE);
+        var query = new GetTelemetryAggregatesQuery(vehicleId, signal, start, end, resolution,
+                Math.clamp(limit, 1, MAXIMUM_LIMIT));
+        var aggregates = telemetryQueryService.handle(query);
+        return ResponseEntity.ok(aggregates.stream()
+                .map(TelemetryAggregateResourceFromAggregateAssembler::toResourceFromAggregate).toList());
+    }
+
+    /**
+     * Reports an invalid sample, time range or resolution.
+     *
+     * @param exception the {@link IllegalArgumentException} exception
+     * @return a 400 response
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleIllegalArgument(IllegalArgumentException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.safecar.platform.telemetry.interfaces.rest;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.safecar.platform.telemetry.domain.model.aggregates.Vehicle;
+
+/**
+ * Decides which authenticated users may read or write the data of a vehicle.
+ * <p>
+ * The owner may do both; administrators and mechanics may read the data of any vehicle.
+ * A device authenticated by its signature may only report the telemetry of its own vehicle,
+ * which is named by its principal, so no vehicle lookup is needed to authorize it.
+ * Drivers may follow the alerts of the vehicles they own as they are raised, and mechanics those of every vehicle.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+final class VehicleAccessPolicy {
+    private static final Set<String> READER_AUTHORITIES = Set.of("ROLE_ADMIN", "ROLE_MECHANIC");
+    private static final String DEVICE_AUTHORITY = "ROLE_DEVICE";
+    private static final String DRIVER_AUTHORITY = "ROLE_DRIVER";
+    private static final String MECHANIC_AUTHORITY = "ROLE_MECHANIC";
+
+    private VehicleAccessPolicy() {
+    }
+
+    /**
+     * @param vehicle        the vehicle
+     * @param authentication the authentication of the request
+     * @return {@code true} if the vehicle and its telemetry may be read
+     */
+    static boolean canRead(Vehicle vehicle, Authentication authentication) {
+        return vehicle.isOwnedBy(authentication.getName()) || authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(READER_AUTHORITIES::contains);
+    }
+
+    /**
+     * @param vehicle        the vehicle
+     * @param authentication the authentication of the request
+     * @return {@code true} if telemetry may be reported for the vehicle
+     */
+    static boolean canWrite(Vehicle vehicle, Authentication authentication) {
+        return vehicle.isOwnedBy(authentication.getName());
+    }
+
+    /**
+     * @param vehicleId      the id of the vehicle
+     * @param authentication the authentication of the request
+     * @return {@code true} if the request comes from a device of the vehicle
+     */
+    static boolean isDeviceOf(UUID vehicleId, Authentication authentication) {
+        return vehicleId.toString().equals(authentication.getName()) && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(DEVICE_AUTHORITY::equals);
+    }
+
+    /**
+     * @param authentication the authentication of the request
+     * @return {@code true} if the alerts of the vehicles owned by the user may be followed
+     */
+    static boolean canFollowOwnAlerts(Authentication authentication) {
+        return hasAuthority(authentication, DRIVER_AUTHORITY);
+    }
+
+    /**
+     * @param authentication the authentication of the request
+     * @return {@code true} if the alerts of every vehicle may be followed
+     */
+    static boolean canFollowFleetAlerts(Authentication authentication) {
+        return hasAuthority(authentication, MECHANIC_AUTHORITY);
+    }
+
+    private static boolean hasAuthority(Authentication authentication, String authority) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(authority::equals);
+    }
+}
@@ -0,0 +1,101 @@
+package com.safecar.platform.telemetry.interfaces.rest;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.safecar.platform.telemetry.application.internal.outboundservices.acl.ExternalIamService;
+import com.safecar.platform.telemetry.domain.model.queries.GetVehicleByIdQuery;
+import com.safecar.platform.telemetry.domain.services.VehicleQueryService;
+import com.safecar.platform.telemetry.interfaces.rest.resources.DeviceCredentialResource;
+import com.safecar.platform.telemetry.interfaces.rest.transform.DeviceCredentialResourceFromPairAssembler;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller to handle the devices of a vehicle.
+ * <p>
+ * The owner of a vehicle issues a credential to each device reporting its telemetry, and revokes it
+ * when the device is lost or replaced. Devices sign their ingestion requests with the secret of their credential.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping(value = "/api/v1/vehicles/{vehicleId}/devices", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Vehicles", description = "Available Vehicle Endpoints")
+public class VehicleDevicesController {
+    private final VehicleQueryService vehicleQueryService;
+    private final ExternalIamService externalIamService;
+
+    /**
+     * Constructor.
+     *
+     * @param vehicleQueryService The vehicle query service.
+     * @param externalIamService  The access to the device credentials.
+     */
+    public VehicleDevicesController(VehicleQueryService vehicleQueryService, ExternalIamService externalIamService) {
+        this.vehicleQueryService = vehicleQueryService;
+        this.externalIamService = externalIamService;
+    }
+
+    /**
+     * Issue a credential to a device of a vehicle owned by the authenticated user.
+     *
+     * @param vehicleId      The id of the vehicle.
+     * @param authentication The authentication of the request.
+     * @return The credential, whose secret is not shown again.
+     */
+    @PostMapping
+    @Operation(summary = "Issue a device credential", description = "Issue the credential with which a device signs the telemetry of a vehicle.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Credential issued."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "404", description = "Vehicle not found.") })
+    public ResponseEntity<DeviceCredentialResource> issueDeviceCredential(@PathVariable UUID vehicleId,
+            Authentication authentication) {
+        if (!isOwner(vehicleId, authentication))
+            return ResponseEntity.notFound().build();
+        var credential = externalIamService.issueDeviceCredential(vehicleId);
+        return new ResponseEntity<>(DeviceCredentialResourceFromPairAssembler.toResourceFromPair(vehicleId, credential),
+                HttpStatus.CREATED);
+    }
+
+    /**
+     * Revoke the credential of a device of a vehicle owned by the authenticated user.
+     *
+     * @param vehicleId      The id of the vehicle.
+     * @param deviceId       The id of the device.
+     * @param authentication The authentication of the request.
+     * @return An empty response.
+     */
+    @DeleteMapping("/{deviceId}")
+    @Operation(summary = "Revoke a device credential", description = "Revoke the credential of a device of a vehicle.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Credential revoked."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "404", description = "Vehicle or device not found.") })
+    public ResponseEntity<Void> revokeDeviceCredential(@PathVariable UUID vehicleId, @PathVariable UUID deviceId,
+            Authentication authentication) {
+        if (!isOwner(vehicleId, authentication) || !externalIamService.revokeDeviceCredential(vehicleId, deviceId))
+            return ResponseEntity.notFound().build();
+        return ResponseEntity.noContent().build();
+    }
+
+    private boolean isOwner(UUID vehicleId, Authentication authentication) {
+        return vehicleQueryService.handle(new GetVehicleByIdQuery(vehicleId))
+                .filter(vehicle -> VehicleAccessPolicy.canWrite(vehicle, authentication))
+                .isPresent();
+    }
+}
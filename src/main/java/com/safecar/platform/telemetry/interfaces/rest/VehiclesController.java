@@ -0,0 +1,139 @@
+package com.safecar.platform.telemetry.interfaces.rest;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.safecar.platform.telemetry.domain.exceptions.VinAlreadyRegisteredException;
+import com.safecar.platform.telemetry.domain.model.queries.GetVehicleByIdQuery;
+import com.safecar.platform.telemetry.domain.model.queries.GetVehiclesByOwnerEmailQuery;
+import com.safecar.platform.telemetry.domain.services.VehicleCommandService;
+import com.safecar.platform.telemetry.domain.services.VehicleQueryService;
+import com.safecar.platform.telemetry.interfaces.rest.resources.RegisterVehicleResource;
+import com.safecar.platform.telemetry.interfaces.rest.resources.VehicleResource;
+import com.safecar.platform.telemetry.interfaces.rest.transform.RegisterVehicleCommandFromResourceAssembler;
+import com.safecar.platform.telemetry.interfaces.rest.transform.VehicleResourceFromEntityAssembler;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Controller to handle vehicle endpoints.
+ * <p>
+ * Vehicles are registered by their owner, the authenticated user.
+ * </p>
+ *
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping(value = "/api/v1/vehicles", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Vehicles", description = "Available Vehicle Endpoints")
+public class VehiclesController {
+    private final VehicleCommandService vehicleCommandService;
+    private final VehicleQueryService vehicleQueryService;
+
+    /**
+     * Constructor.
+     *
+     * @param vehicleCommandService The vehicle command service.
+     * @param vehicleQueryService   The vehicle query service.
+     */
+    public VehiclesController(VehicleCommandService vehicleCommandService, VehicleQueryService vehicleQueryService) {
+        this.vehicleCommandService = vehicleCommandService;
+        this.vehicleQueryService = vehicleQueryService;
+    }
+
+    /**
+     * Register a vehicle owned by the authenticated user.
+     *
+     * @param resource       The registration resource.
+     * @param authentication The authentication of the request.
+     * @return The registered vehicle.
+     */
+    @PostMapping
+    @Operation(summary = "Register a vehicle", description = "Register a vehicle owned by the authenticated user.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Vehicle registered successfully."),
+            @ApiResponse(responseCode = "400", description = "Invalid VIN."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "409", description = "VIN already registered.") })
+    public ResponseEntity<VehicleResource> registerVehicle(@RequestBody RegisterVehicleResource resource,
+            Authentication authentication) {
+        var command = RegisterVehicleCommandFromResourceAssembler.toCommandFromResource(resource, authentication.getName());
+        var vehicle = vehicleCommandService.handle(command);
+        return new ResponseEntity<>(VehicleResourceFromEntityAssembler.toResourceFromEntity(vehicle), HttpStatus.CREATED);
+    }
+
+    /**
+     * Get the vehicles of the authenticated user.
+     *
+     * @param authentication The authentication of the request.
+     * @return The vehicles owned by the user.
+     */
+    @GetMapping
+    @Operation(summary = "Get my vehicles", description = "Get the vehicles owned by the authenticated user.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vehicles retrieved successfully."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized.") })
+    public ResponseEntity<List<VehicleResource>> getMyVehicles(Authentication authentication) {
+        var vehicles = vehicleQueryService.handle(new GetVehiclesByOwnerEmailQuery(authentication.getName()));
+        return ResponseEntity.ok(vehicles.stream().map(VehicleResourceFromEntityAssembler::toResourceFromEntity).toList());
+    }
+
+    /**
+     * Get a vehicle by id.
+     *
+     * @param vehicleId      The id of the vehicle.
+     * @param authentication The authentication of the request.
+     * @return The vehicle.
+     */
+    @GetMapping("/{vehicleId}")
+    @Operation(summary = "Get vehicle by id", description = "Get a vehicle owned by the user, or any vehicle for administrators and mechanics.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Vehicle retrieved successfully."),
+            @ApiResponse(responseCode = "401", description = "Unauthorized."),
+            @ApiResponse(responseCode = "404", description = "Vehicle not found.") })
+    public ResponseEntity<VehicleResource> getVehicleById(@PathVariable UUID vehicleId, Authentication authentication) {
+        // Vehicles of other owners are reported as missing rather than forbidden
+        return vehicleQueryService.handle(new GetVehicleByIdQuery(vehicleId))
+                .filter(vehicle -> VehicleAccessPolicy.canRead(vehicle, authentication))
+                .map(VehicleResourceFromEntityAssembler::toResourceFromEntity)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Reports a registration with a VIN that belongs to another vehicle.
+     *
+     * @param exception the {@link VinAlreadyRegisteredException} exception
+     * @return a 409 response
+     */
+    @ExceptionHandler(VinAlreadyRegisteredException.class)
+    public ResponseEntity<Void> handleVinAlreadyRegistered(VinAlreadyRegisteredException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    /**
+     * Reports a registration with an invalid VIN.
+     *
+     * @param exception the {@link IllegalArgumentException} exception
+     * @return a 400 response
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleIllegalArgument(IllegalArgumentException exception) {
+        return ResponseEntity.badRequest().build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.safecar.platform.telemetry.interfaces.rest.resources;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertSeverity;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+/**
+ * Resource representing a preventive maintenance alert raised on a vehicle.
+ *
+ * @param id         the id of the alert
+ * @param vehicleId  the id of the vehicle
+ * @param ruleId     the id of the rule that raised the alert
+ * @param signal     the signal of the reading that raised the alert
+ * @param severity   the severity of the alert
+ * @param message    the message of the alert
+ * @param value      the value of the reading that raised the alert
+ * @param recordedAt the time of the reading that raised the alert
+ * @since 2026-10-18
+ */
+public record AlertResource(UUID id, UUID vehicleId, String ruleId, TelemetrySignal signal, AlertSeverity severity,
+        String message, double value, Instant recordedAt) {
+}
@@ -0,0 +1,14 @@
+package com.safecar.platform.telemetry.interfaces.rest.resources;
+
+import java.util.UUID;
+
+/**
+ * Resource representing a device credential, returned once when it is issued.
+ *
+ * @param deviceId  the id of the device, sent in {@code X-Device-Id}
+ * @param vehicleId the id of the vehicle whose telemetry the device reports
+ * @param secret    the HMAC-SHA256 key signing the requests of the device, encoded in Base64
+ * @since 2026-10-18
+ */
+public record DeviceCredentialResource(UUID deviceId, UUID vehicleId, String secret) {
+}
@@ -0,0 +1,10 @@
+package com.safecar.platform.telemetry.interfaces.rest.resources;
+
+/**
+ * Resource representing the registration of a vehicle by the authenticated user.
+ *
+ * @param vin the Vehicle Identification Number
+ * @since 2026-10-18
+ */
+public record RegisterVehicleResource(String vin) {
+}
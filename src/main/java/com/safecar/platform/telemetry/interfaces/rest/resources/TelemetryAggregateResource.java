@@ -0,0 +1,20 @@
+package com.safecar.platform.telemetry.interfaces.rest.resources;
+
+import java.time.Instant;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+/**
+ * Resource representing the aggregate of the readings of one signal over one time bucket.
+ *
+ * @param signal      the signal
+ * @param bucketStart the start of the bucket
+ * @param minimum     the smallest value, in the unit of the signal
+ * @param maximum     the largest value, in the unit of the signal
+ * @param average     the average value, in the unit of the signal
+ * @param count       the number of readings
+ * @since 2026-10-18
+ */
+public record TelemetryAggregateResource(TelemetrySignal signal, Instant bucketStart, double minimum, double maximum,
+        double average, long count) {
+}
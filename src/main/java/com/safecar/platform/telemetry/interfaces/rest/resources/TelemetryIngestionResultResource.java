@@ -0,0 +1,10 @@
+package com.safecar.platform.telemetry.interfaces.rest.resources;
+
+/**
+ * Resource reporting the outcome of a telemetry batch.
+ *
+ * @param accepted the number of samples stored
+ * @since 2026-10-18
+ */
+public record TelemetryIngestionResultResource(int accepted) {
+}
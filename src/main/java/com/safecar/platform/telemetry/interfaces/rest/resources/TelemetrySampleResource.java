@@ -0,0 +1,16 @@
+package com.safecar.platform.telemetry.interfaces.rest.resources;
+
+import java.time.Instant;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+/**
+ * Resource representing one sample of a vehicle signal.
+ *
+ * @param signal     the measured signal
+ * @param recordedAt the time at which the value was measured, as an ISO-8601 instant or epoch seconds
+ * @param value      the measured value, in the unit of the signal
+ * @since 2026-10-18
+ */
+public record TelemetrySampleResource(TelemetrySignal signal, Instant recordedAt, Double value) {
+}
@@ -0,0 +1,14 @@
+package com.safecar.platform.telemetry.interfaces.rest.resources;
+
+import java.util.UUID;
+
+/**
+ * Resource representing a vehicle.
+ *
+ * @param id         the unique identifier of the vehicle
+ * @param vin        the Vehicle Identification Number
+ * @param ownerEmail the email of the owner
+ * @since 2026-10-18
+ */
+public record VehicleResource(UUID id, String vin, String ownerEmail) {
+}
@@ -0,0 +1,23 @@
+package com.safecar.platform.telemetry.interfaces.rest.transform;
+
+import com.safecar.platform.telemetry.domain.model.aggregates.Alert;
+import com.safecar.platform.telemetry.interfaces.rest.resources.AlertResource;
+
+/**
+ * Assembler class for converting {@link Alert} entities into {@link AlertResource} objects.
+ *
+ * @since 2026-10-18
+ */
+public class AlertResourceFromEntityAssembler {
+
+    /**
+     * Converts an {@link Alert} entity into an {@link AlertResource}.
+     *
+     * @param alert the alert to convert
+     * @return the corresponding {@link AlertResource}
+     */
+    public static AlertResource toResourceFromEntity(Alert alert) {
+        return new AlertResource(alert.getId(), alert.getVehicleId(), alert.getRuleId(), alert.getSignal(),
+                alert.getSeverity(), alert.getMessage(), alert.getValue(), alert.getRecordedAt());
+    }
+}
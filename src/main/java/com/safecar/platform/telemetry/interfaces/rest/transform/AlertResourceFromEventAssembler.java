@@ -0,0 +1,24 @@
+package com.safecar.platform.telemetry.interfaces.rest.transform;
+
+import com.safecar.platform.telemetry.domain.model.events.AlertRaisedEvent;
+import com.safecar.platform.telemetry.interfaces.rest.resources.AlertResource;
+
+/**
+ * Assembler class for converting {@link AlertRaisedEvent} events into {@link AlertResource} objects.
+ *
+ * @since 2026-10-18
+ */
+public class AlertResourceFromEventAssembler {
+
+    /**
+     * Converts an {@link AlertRaisedEvent} into an {@link AlertResource}, as the alert is read back from the
+     * alerts of its vehicle.
+     *
+     * @param event the event to convert
+     * @return the corresponding {@link AlertResource}
+     */
+    public static AlertResource toResourceFromEvent(AlertRaisedEvent event) {
+        return new AlertResource(event.alertId(), event.vehicleId(), event.ruleId(), event.signal(), event.severity(),
+                event.message(), event.value(), event.recordedAt());
+    }
+}
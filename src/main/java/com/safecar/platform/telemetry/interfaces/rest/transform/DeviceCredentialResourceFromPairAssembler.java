@@ -0,0 +1,26 @@
+package com.safecar.platform.telemetry.interfaces.rest.transform;
+
+import java.util.UUID;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+
+import com.safecar.platform.telemetry.interfaces.rest.resources.DeviceCredentialResource;
+
+/**
+ * Assembler class for converting issued device credentials into {@link DeviceCredentialResource} objects.
+ *
+ * @since 2026-10-18
+ */
+public class DeviceCredentialResourceFromPairAssembler {
+
+    /**
+     * Converts an issued device credential into a {@link DeviceCredentialResource}.
+     *
+     * @param vehicleId  the id of the vehicle
+     * @param credential the id of the device and its secret
+     * @return the corresponding {@link DeviceCredentialResource}
+     */
+    public static DeviceCredentialResource toResourceFromPair(UUID vehicleId, ImmutablePair<UUID, String> credential) {
+        return new DeviceCredentialResource(credential.getLeft(), vehicleId, credential.getRight());
+    }
+}
@@ -0,0 +1,37 @@
+package com.safecar.platform.telemetry.interfaces.rest.transform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.safecar.platform.telemetry.domain.model.commands.IngestTelemetryCommand;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+import com.safecar.platform.telemetry.interfaces.rest.resources.TelemetrySampleResource;
+
+/**
+ * Assembler class for converting a batch of {@link TelemetrySampleResource} objects into an {@link IngestTelemetryCommand}.
+ *
+ * @since 2026-10-18
+ */
+public class IngestTelemetryCommandFromResourceAssembler {
+
+    /**
+     * Converts the samples of a vehicle into an {@link IngestTelemetryCommand}.
+     *
+     * @param vehicleId  the id of the vehicle
+     * @param ownerEmail the email of the owner of the vehicle, or {@code null} if the vehicle was not loaded
+     * @param resources  the samples
+     * @return a new {@link IngestTelemetryCommand} constructed from the provided resources
+     * @throws IllegalArgumentException if a sample misses a field or has an invalid value
+     */
+    public static IngestTelemetryCommand toCommandFromResources(UUID vehicleId, String ownerEmail,
+            List<TelemetrySampleResource> resources) {
+        var samples = new ArrayList<TelemetrySample>(resources.size());
+        for (var resource : resources) {
+            if (resource == null || resource.value() == null)
+                throw new IllegalArgumentException("Sample value cannot be null");
+            samples.add(new TelemetrySample(resource.signal(), resource.recordedAt(), resource.value()));
+        }
+        return new IngestTelemetryCommand(vehicleId, ownerEmail, samples);
+    }
+}
@@ -0,0 +1,23 @@
+package com.safecar.platform.telemetry.interfaces.rest.transform;
+
+import com.safecar.platform.telemetry.domain.model.commands.RegisterVehicleCommand;
+import com.safecar.platform.telemetry.interfaces.rest.resources.RegisterVehicleResource;
+
+/**
+ * Assembler class for converting {@link RegisterVehicleResource} objects into {@link RegisterVehicleCommand} commands.
+ *
+ * @since 2026-10-18
+ */
+public class RegisterVehicleCommandFromResourceAssembler {
+
+    /**
+     * Converts a {@link RegisterVehicleResource} into a {@link RegisterVehicleCommand}.
+     *
+     * @param resource   the registration resource
+     * @param ownerEmail the email of the authenticated user, who becomes the owner
+     * @return a new {@link RegisterVehicleCommand} constructed from the provided resource
+     */
+    public static RegisterVehicleCommand toCommandFromResource(RegisterVehicleResource resource, String ownerEmail) {
+        return new RegisterVehicleCommand(resource.vin(), ownerEmail);
+    }
+}
@@ -0,0 +1,23 @@
+package com.safecar.platform.telemetry.interfaces.rest.transform;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetryAggregate;
+import com.safecar.platform.telemetry.interfaces.rest.resources.TelemetryAggregateResource;
+
+/**
+ * Assembler class for converting {@link TelemetryAggregate} values into {@link TelemetryAggregateResource} objects.
+ *
+ * @since 2026-10-18
+ */
+public class TelemetryAggregateResourceFromAggregateAssembler {
+
+    /**
+     * Converts a {@link TelemetryAggregate} into a {@link TelemetryAggregateResource}.
+     *
+     * @param aggregate the aggregate to convert
+     * @return the corresponding {@link TelemetryAggregateResource}
+     */
+    public static TelemetryAggregateResource toResourceFromAggregate(TelemetryAggregate aggregate) {
+        return new TelemetryAggregateResource(aggregate.signal(), aggregate.bucketStart(), aggregate.minimum(),
+                aggregate.maximum(), aggregate.average(), aggregate.count());
+    }
+}
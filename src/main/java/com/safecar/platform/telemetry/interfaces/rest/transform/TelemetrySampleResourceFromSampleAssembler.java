@@ -0,0 +1,22 @@
+package com.safecar.platform.telemetry.interfaces.rest.transform;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+import com.safecar.platform.telemetry.interfaces.rest.resources.TelemetrySampleResource;
+
+/**
+ * Assembler class for converting {@link TelemetrySample} values into {@link TelemetrySampleResource} objects.
+ *
+ * @since 2026-10-18
+ */
+public class TelemetrySampleResourceFromSampleAssembler {
+
+    /**
+     * Converts a {@link TelemetrySample} into a {@link TelemetrySampleResource}.
+     *
+     * @param sample the sample to convert
+     * @return the corresponding {@link TelemetrySampleResource}
+     */
+    public static TelemetrySampleResource toResourceFromSample(TelemetrySample sample) {
+        return new TelemetrySampleResource(sample.signal(), sample.recordedAt(), sample.value());
+    }
+}
@@ -0,0 +1,22 @@
+package com.safecar.platform.telemetry.interfaces.rest.transform;
+
+import com.safecar.platform.telemetry.domain.model.aggregates.Vehicle;
+import com.safecar.platform.telemetry.interfaces.rest.resources.VehicleResource;
+
+/**
+ * Assembler class for converting {@link Vehicle} aggregates into {@link VehicleResource} objects.
+ *
+ * @since 2026-10-18
+ */
+public class VehicleResourceFromEntityAssembler {
+
+    /**
+     * Converts a {@link Vehicle} into a {@link VehicleResource}.
+     *
+     * @param vehicle the vehicle to convert
+     * @return the corresponding {@link VehicleResource}
+     */
+    public static VehicleResource toResourceFromEntity(Vehicle vehicle) {
+        return new VehicleResource(vehicle.getId(), vehicle.getVin(), vehicle.getOwnerEmail());
+    }
+}
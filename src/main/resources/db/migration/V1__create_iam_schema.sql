@@ -0,0 +1,27 @@
+-- Identity and access management schema, as mapped by the User and Role entities
+
+create table roles (
+    id bigint not null auto_increment,
+    name enum ('ROLE_ADMIN','ROLE_CLIENT','ROLE_DRIVER','ROLE_MECHANIC') not null,
+    primary key (id),
+    constraint uk_roles_name unique (name)
+) engine=InnoDB;
+
+create table users (
+    id binary(16) not null,
+    email varchar(255) not null,
+    password varchar(255),
+    security_version bigint not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    primary key (id),
+    constraint uk_users_email unique (email)
+) engine=InnoDB;
+
+create table user_roles (
+    user_id binary(16) not null,
+    role_id bigint not null,
+    primary key (role_id, user_id),
+    constraint fk_user_roles_role foreign key (role_id) references roles (id),
+    constraint fk_user_roles_user foreign key (user_id) references users (id)
+) engine=InnoDB;
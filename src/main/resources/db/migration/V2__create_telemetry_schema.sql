@@ -0,0 +1,24 @@
+-- Telemetry schema, as mapped by the Vehicle and TelemetryReading entities
+-- Tables are only created if missing, with their indexes, so that databases baselined at version 1 keep
+-- the tables that ddl-auto=update created for them
+
+create table if not exists vehicles (
+    id binary(16) not null,
+    vin varchar(17) not null,
+    owner_email varchar(255) not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    primary key (id),
+    constraint uk_vehicles_vin unique (vin),
+    index ix_vehicles_owner_email (owner_email)
+) engine=InnoDB;
+
+-- The primary key clusters the readings of each vehicle by time. There is no foreign key to vehicles:
+-- the vehicle is checked once per ingested batch instead of once per row
+create table if not exists telemetry_readings (
+    vehicle_id binary(16) not null,
+    recorded_at datetime(6) not null,
+    signal_name enum ('ENGINE_TEMPERATURE','ENGINE_RPM','OIL_PRESSURE','BRAKE_PAD_THICKNESS','BRAKE_FLUID_TEMPERATURE','TIRE_PRESSURE_FRONT_LEFT','TIRE_PRESSURE_FRONT_RIGHT','TIRE_PRESSURE_REAR_LEFT','TIRE_PRESSURE_REAR_RIGHT','FUEL_CONSUMPTION','BATTERY_VOLTAGE','SPEED') not null,
+    reading_value float(53) not null,
+    primary key (vehicle_id, recorded_at, signal_name)
+) engine=InnoDB;
@@ -0,0 +1,19 @@
+-- Device credentials, as mapped by the DeviceCredential aggregate, and the device role
+-- Safe to run against a database baselined at version 1: the enum change is idempotent and the table is only
+-- created if missing
+
+alter table roles modify name enum ('ROLE_ADMIN','ROLE_CLIENT','ROLE_DRIVER','ROLE_MECHANIC','ROLE_DEVICE') not null;
+
+-- The secret is the HMAC key itself, which the service needs to verify signatures
+create table if not exists device_credentials (
+    id binary(16) not null,
+    vehicle_id binary(16) not null,
+    secret varchar(64) not null,
+    revoked bit not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    primary key (id),
+    -- Read by the periodic refresh of the in-memory key table
+    index ix_device_credentials_updated_at (updated_at),
+    index ix_device_credentials_vehicle_id (vehicle_id)
+) engine=InnoDB;
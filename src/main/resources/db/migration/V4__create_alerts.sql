@@ -0,0 +1,18 @@
+-- Preventive maintenance alerts, as mapped by the Alert aggregate
+-- Only created if missing, so that databases baselined at version 1 keep the table ddl-auto=update created
+
+create table if not exists alerts (
+    id binary(16) not null,
+    vehicle_id binary(16) not null,
+    rule_id varchar(64) not null,
+    signal_name enum ('ENGINE_TEMPERATURE','ENGINE_RPM','OIL_PRESSURE','BRAKE_PAD_THICKNESS','BRAKE_FLUID_TEMPERATURE','TIRE_PRESSURE_FRONT_LEFT','TIRE_PRESSURE_FRONT_RIGHT','TIRE_PRESSURE_REAR_LEFT','TIRE_PRESSURE_REAR_RIGHT','FUEL_CONSUMPTION','BATTERY_VOLTAGE','SPEED') not null,
+    severity enum ('INFO','WARNING','CRITICAL') not null,
+    message varchar(255) not null,
+    reading_value float(53) not null,
+    recorded_at datetime(6) not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    primary key (id),
+    -- Latest alerts of a vehicle first
+    index ix_alerts_vehicle_id_recorded_at (vehicle_id, recorded_at)
+) engine=InnoDB;
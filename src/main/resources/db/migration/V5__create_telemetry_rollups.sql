@@ -0,0 +1,15 @@
+-- Telemetry rollups, as mapped by the TelemetryRollup entity
+-- Only created if missing, so that databases baselined at version 1 keep the table ddl-auto=update created
+
+-- Like telemetry_readings, the primary key clusters the rollups of each vehicle and resolution by time
+create table if not exists telemetry_rollups (
+    vehicle_id binary(16) not null,
+    resolution enum ('MINUTE','HOUR','DAY') not null,
+    bucket_start datetime(6) not null,
+    signal_name enum ('ENGINE_TEMPERATURE','ENGINE_RPM','OIL_PRESSURE','BRAKE_PAD_THICKNESS','BRAKE_FLUID_TEMPERATURE','TIRE_PRESSURE_FRONT_LEFT','TIRE_PRESSURE_FRONT_RIGHT','TIRE_PRESSURE_REAR_LEFT','TIRE_PRESSURE_REAR_RIGHT','FUEL_CONSUMPTION','BATTERY_VOLTAGE','SPEED') not null,
+    minimum float(53) not null,
+    maximum float(53) not null,
+    reading_sum float(53) not null,
+    reading_count bigint not null,
+    primary key (vehicle_id, resolution, bucket_start, signal_name)
+) engine=InnoDB;
@@ -0,0 +1,188 @@
+package com.safecar.platform.iam.application.internal.commandservices;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.safecar.platform.iam.application.internal.outboundservices.hashing.HashingService;
+import com.safecar.platform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.safecar.platform.iam.domain.exceptions.EmailAlreadyRegisteredException;
+import com.safecar.platform.iam.domain.model.commands.ChangeUserPasswordCommand;
+import com.safecar.platform.iam.domain.model.commands.ChangeUserRolesCommand;
+import com.safecar.platform.iam.domain.model.commands.SignUpCommand;
+import com.safecar.platform.iam.domain.model.entities.Role;
+import com.safecar.platform.iam.domain.model.valueobjects.Roles;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.services.SecurityVersionRegistry;
+import com.safecar.platform.iam.infrastructure.authorization.sfs.services.UserDetailsCache;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.registries.RoleRegistry;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+
+/**
+ * Checks that a sign-up is reported as a taken email only when the database rejects it for the unique email,
+ * and that any other integrity violation is rethrown.
+ * Also checks that password and role changes increment the security version of the user,
+ * and that the tokens and cached principals issued before them are discarded as soon as the change commits.
+ * <p>
+ * Each repository call commits on its own, as in production, so violations are raised by the save itself.
+ * </p>
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({ SecurityVersionRegistry.class, UserDetailsCache.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserCommandServiceImplTests {
+    private static final String EMAIL = "driver@safecar.com";
+    private static final String PASSWORD = "S4fecar!Password";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SecurityVersionRegistry securityVersionRegistry;
+
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+
+    private final HashingService hashingService = mock(HashingService.class);
+    private final RoleRegistry roleRegistry = new RoleRegistry();
+    private UserCommandServiceImpl service;
+    private Role clientRole;
+    private Role mechanicRole;
+
+    @BeforeEach
+    void setUp() {
+        clientRole = roleRepository.save(new Role(Roles.ROLE_CLIENT));
+        mechanicRole = roleRepository.save(new Role(Roles.ROLE_MECHANIC));
+        roleRegistry.initialize(List.of(clientRole, mechanicRole));
+        when(hashingService.encode(any())).thenAnswer(invocation -> "{noop}" + invocation.getArgument(0));
+        service = new UserCommandServiceImpl(userRepository, hashingService, mock(TokenService.class), roleRegistry,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    @Test
+    void signUpWithARegisteredEmailIsRejected() {
+        assertThat(service.handle(signUp(clientRole))).isPresent();
+
+        assertThatExceptionOfType(EmailAlreadyRegisteredException.class)
+                .isThrownBy(() -> service.handle(signUp(clientRole)));
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void otherIntegrityViolationsAreNotReportedAsATakenEmail() {
+        var unsavedRole = new Role(Long.MAX_VALUE, Roles.ROLE_ADMIN);
+        roleRegistry.initialize(List.of(clientRole, unsavedRole));
+
+        assertThatExceptionOfType(DataIntegrityViolationException.class)
+                .isThrownBy(() -> service.handle(signUp(unsavedRole)))
+                .isNotInstanceOf(EmailAlreadyRegisteredException.class);
+    }
+
+    @Test
+    void passwordChangeMakesEarlierTokensStale() {
+        var userId = service.handle(signUp(clientRole)).orElseThrow().getId();
+        assertThat(securityVersionRegistry.isStale(userId.toString(), 0L)).isFalse();
+
+        assertThat(service.handle(new ChangeUserPasswordCommand(EMAIL, "S4fecar!Changed"))).isPresent();
+
+        assertThat(userRepository.findCredentialsById(userId)).hasValueSatisfying(credentials -> {
+            assertThat(credentials.password()).isEqualTo("{noop}S4fecar!Changed");
+            assertThat(credentials.securityVersion()).isEqualTo(1L);
+        });
+        assertThat(securityVersionRegistry.isStale(userId.toString(), 0L)).isTrue();
+        assertThat(securityVersionRegistry.isStale(userId.toString(), 1L)).isFalse();
+    }
+
+    @Test
+    void roleChangeMakesEarlierTokensStale() {
+        var userId = service.handle(signUp(clientRole)).orElseThrow().getId();
+        assertThat(securityVersionRegistry.isStale(userId.toString(), 0L)).isFalse();
+
+        assertThat(service.handle(new ChangeUserRolesCommand(EMAIL, Set.of(new Role(Roles.ROLE_MECHANIC)))))
+                .isPresent();
+
+        assertThat(userRepository.findCredentialsById(userId)).hasValueSatisfying(credentials -> {
+            assertThat(credentials.roleNames()).containsExactly("ROLE_MECHANIC");
+            assertThat(credentials.securityVersion()).isEqualTo(1L);
+        });
+        assertThat(securityVersionRegistry.isStale(userId.toString(), 0L)).isTrue();
+    }
+
+    @Test
+    void roleChangeDropsTheCachedPrincipal() {
+        var userId = service.handle(signUp(clientRole)).orElseThrow().getId().toString();
+        var loads = new AtomicInteger();
+        assertThat(loadPrincipal(userId, loads).getAuthorities()).extracting(Object::toString)
+                .containsExactly("ROLE_CLIENT");
+        loadPrincipal(userId, loads);
+        assertThat(loads).hasValue(1);
+
+        service.handle(new ChangeUserRolesCommand(EMAIL, Set.of(new Role(Roles.ROLE_MECHANIC))));
+
+        assertThat(loadPrincipal(userId, loads).getAuthorities()).extracting(Object::toString)
+                .containsExactly("ROLE_MECHANIC");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void changesOfAnUnknownUserAreEmpty() {
+        assertThat(service.handle(new ChangeUserPasswordCommand(EMAIL, "S4fecar!Changed"))).isEmpty();
+        assertThat(service.handle(new ChangeUserRolesCommand(EMAIL, Set.of()))).isEmpty();
+    }
+
+    @Test
+    void passwordBreakingThePasswordRulesIsRejected() {
+        service.handle(signUp(clientRole));
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> service.handle(new ChangeUserPasswordCommand(EMAIL, "short")));
+        assertThat(userRepository.findCredentialsByEmail(EMAIL)).hasValueSatisfying(credentials ->
+                assertThat(credentials.securityVersion()).isZero());
+    }
+
+    /**
+     * Reads the principal of a user through the cache, counting the loads from the database.
+     */
+    private UserDetailsImpl loadPrincipal(String userId, AtomicInteger loads) {
+        return userDetailsCache.get(userId, id -> {
+            loads.incrementAndGet();
+            return UserDetailsImpl.build(userRepository.findCredentialsById(UUID.fromString(id)).orElseThrow());
+        });
+    }
+
+    private static SignUpCommand signUp(Role role) {
+        return new SignUpCommand(EMAIL, PASSWORD, PASSWORD, Set.of(role));
+    }
+}
@@ -0,0 +1,185 @@
+package com.safecar.platform.iam.infrastructure.authorization.sfs.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+
+import com.safecar.platform.iam.infrastructure.authorization.sfs.services.DeviceKeyRegistry;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.DeviceCredentialRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Checks that the {@link DeviceSignatureAuthorizationFilter} only authenticates requests signed with the key of
+ * an active device within the clock skew, and replays their body to the rest of the chain.
+ */
+class DeviceSignatureAuthorizationFilterTests {
+    private static final String SECRET = Base64.getEncoder().encodeToString(
+            "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII));
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(5);
+    private static final int MAXIMUM_BODY_BYTES = 1024;
+    private static final String BODY = "[{\"signal\":\"SPEED\",\"value\":42.0}]";
+
+    private final UUID deviceId = UUID.randomUUID();
+    private final UUID vehicleId = UUID.randomUUID();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DeviceKeyRegistry deviceKeyRegistry = newDeviceKeyRegistry();
+    private final DeviceSignatureAuthorizationFilter filter = new DeviceSignatureAuthorizationFilter(deviceKeyRegistry,
+            PathPatternRequestMatcher.withDefaults().matcher(HttpMethod.POST, "/api/v1/vehicles/*/readings"),
+            CLOCK_SKEW, MAXIMUM_BODY_BYTES, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validlySignedRequestIsAuthenticatedAsTheVehicleWithItsBodyReplayed() throws Exception {
+        deviceKeyRegistry.register(deviceId, vehicleId, SECRET);
+        var chain = new MockFilterChain();
+
+        var response = filter(signed(BODY, now(), SECRET), chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getName()).isEqualTo(vehicleId.toString());
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_DEVICE");
+        var forwarded = (HttpServletRequest) chain.getRequest();
+        assertThat(new String(forwarded.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(meterRegistry.timer("iam.authorization.device.filter.duration", "outcome", "authenticated").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void tamperedBodyIsRejected() throws Exception {
+        deviceKeyRegistry.register(deviceId, vehicleId, SECRET);
+        var request = signed(BODY, now(), SECRET);
+        request.setContent(BODY.replace("42.0", "0.0").getBytes(StandardCharsets.UTF_8));
+
+        assertRejected(request, 401);
+    }
+
+    @Test
+    void requestSignedWithAnotherKeyIsRejected() throws Exception {
+        deviceKeyRegistry.register(deviceId, vehicleId, SECRET);
+        var otherSecret = Base64.getEncoder().encodeToString(
+                "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.US_ASCII));
+
+        assertRejected(signed(BODY, now(), otherSecret), 401);
+    }
+
+    @Test
+    void requestOfAnUnknownOrRevokedDeviceIsRejected() throws Exception {
+        assertRejected(signed(BODY, now(), SECRET), 401);
+
+        deviceKeyRegistry.register(deviceId, vehicleId, SECRET);
+        deviceKeyRegistry.remove(deviceId);
+
+        assertRejected(signed(BODY, now(), SECRET), 401);
+    }
+
+    @Test
+    void timestampOutsideTheClockSkewIsRejected() throws Exception {
+        deviceKeyRegistry.register(deviceId, vehicleId, SECRET);
+
+        assertRejected(signed(BODY, now() - CLOCK_SKEW.toSeconds() - 1, SECRET), 401);
+        assertRejected(signed(BODY, now() + CLOCK_SKEW.toSeconds() + 1, SECRET), 401);
+    }
+
+    @Test
+    void malformedHeadersAreRejected() throws Exception {
+        deviceKeyRegistry.register(deviceId, vehicleId, SECRET);
+        var badSignature = signed(BODY, now(), SECRET);
+        badSignature.removeHeader(DeviceSignatureAuthorizationFilter.SIGNATURE_HEADER);
+        badSignature.addHeader(DeviceSignatureAuthorizationFilter.SIGNATURE_HEADER, "not base64!");
+        var badDeviceId = signed(BODY, now(), SECRET);
+        badDeviceId.removeHeader(DeviceSignatureAuthorizationFilter.DEVICE_ID_HEADER);
+        badDeviceId.addHeader(DeviceSignatureAuthorizationFilter.DEVICE_ID_HEADER, "device");
+        var missingTimestamp = signed(BODY, now(), SECRET);
+        missingTimestamp.removeHeader(DeviceSignatureAuthorizationFilter.TIMESTAMP_HEADER);
+
+        assertRejected(badSignature, 401);
+        assertRejected(badDeviceId, 401);
+        assertRejected(missingTimestamp, 401);
+    }
+
+    @Test
+    void oversizedBodyIsRejected() throws Exception {
+        deviceKeyRegistry.register(deviceId, vehicleId, SECRET);
+
+        assertRejected(signed("x".repeat(MAXIMUM_BODY_BYTES + 1), now(), SECRET), 413);
+    }
+
+    @Test
+    void requestsWithoutADeviceIdAreLeftToTheBearerFilter() throws Exception {
+        var request = new MockHttpServletRequest("POST", "/api/v1/vehicles/" + vehicleId + "/readings");
+        var chain = new MockFilterChain();
+
+        var response = filter(request, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private void assertRejected(MockHttpServletRequest request, int status) throws Exception {
+        var chain = new MockFilterChain();
+
+        var response = filter(request, chain);
+
+        assertThat(response.getStatus()).isEqualTo(status);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request, MockFilterChain chain) throws Exception {
+        var response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private MockHttpServletRequest signed(String body, long timestamp, String secret) throws Exception {
+        var uri = "/api/v1/vehicles/" + vehicleId + "/readings";
+        var mac = Mac.getInstance(DeviceKeyRegistry.HMAC_ALGORITHM);
+        mac.init(new SecretKeySpec(Base64.getDecoder().decode(secret), DeviceKeyRegistry.HMAC_ALGORITHM));
+        var signature = mac.doFinal(("POST\n" + uri + "\n" + timestamp + "\n" + body).getBytes(StandardCharsets.UTF_8));
+        var request = new MockHttpServletRequest("POST", uri);
+        request.addHeader(DeviceSignatureAuthorizationFilter.DEVICE_ID_HEADER, deviceId.toString());
+        request.addHeader(DeviceSignatureAuthorizationFilter.TIMESTAMP_HEADER, Long.toString(timestamp));
+        request.addHeader(DeviceSignatureAuthorizationFilter.SIGNATURE_HEADER, Base64.getEncoder().encodeToString(signature));
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static long now() {
+        return Instant.now().getEpochSecond();
+    }
+
+    private DeviceKeyRegistry newDeviceKeyRegistry() {
+        var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        return new DeviceKeyRegistry(mock(DeviceCredentialRepository.class), beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+}
@@ -0,0 +1,90 @@
+package com.safecar.platform.iam.infrastructure.authorization.sfs.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks the bursts, refills and lock-free admissions of the {@link AuthenticationRateLimiter},
+ * on a ticker moved by the tests.
+ */
+class AuthenticationRateLimiterTests {
+    private static final int ADDRESS_CAPACITY = 20;
+    private static final int EMAIL_CAPACITY = 5;
+    private static final Duration REFILL_PERIOD = Duration.ofMinutes(1);
+    private static final Duration EMISSION_INTERVAL = REFILL_PERIOD.dividedBy(EMAIL_CAPACITY);
+
+    private final AtomicLong nanos = new AtomicLong(1_000_000_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AuthenticationRateLimiter rateLimiter = new AuthenticationRateLimiter(ADDRESS_CAPACITY,
+            REFILL_PERIOD, EMAIL_CAPACITY, REFILL_PERIOD, 1_000, meterRegistry, nanos::get);
+
+    @Test
+    void burstUpToTheCapacityIsAdmittedThenTheWaitIsReported() {
+        for (int attempt = 0; attempt < EMAIL_CAPACITY; attempt++)
+            assertThat(rateLimiter.tryAcquireForEmail("driver@safecar.com")).isZero();
+
+        assertThat(rateLimiter.tryAcquireForEmail("driver@safecar.com")).isEqualTo(EMISSION_INTERVAL);
+        assertThat(meterRegistry.counter("iam.authentication.rate.limited", "key", "email").count()).isEqualTo(1);
+    }
+
+    @Test
+    void bucketRefillsOneAttemptPerEmissionInterval() {
+        for (int attempt = 0; attempt < EMAIL_CAPACITY; attempt++)
+            rateLimiter.tryAcquireForEmail("driver@safecar.com");
+
+        nanos.addAndGet(EMISSION_INTERVAL.toNanos());
+        assertThat(rateLimiter.tryAcquireForEmail("driver@safecar.com")).isZero();
+        assertThat(rateLimiter.tryAcquireForEmail("driver@safecar.com")).isPositive();
+
+        nanos.addAndGet(REFILL_PERIOD.toNanos());
+        for (int attempt = 0; attempt < EMAIL_CAPACITY; attempt++)
+            assertThat(rateLimiter.tryAcquireForEmail("driver@safecar.com")).isZero();
+        assertThat(rateLimiter.tryAcquireForEmail("driver@safecar.com")).isPositive();
+    }
+
+    @Test
+    void emailsShareABucketRegardlessOfCaseAndAddressesAreLimitedApart() {
+        for (int attempt = 0; attempt < EMAIL_CAPACITY; attempt++)
+            rateLimiter.tryAcquireForEmail(attempt % 2 == 0 ? "Driver@SafeCar.com" : " driver@safecar.com ");
+
+        assertThat(rateLimiter.tryAcquireForEmail("DRIVER@SAFECAR.COM")).isPositive();
+        assertThat(rateLimiter.tryAcquireForEmail("mechanic@safecar.com")).isZero();
+        assertThat(rateLimiter.tryAcquireForAddress("203.0.113.7")).isZero();
+    }
+
+    @Test
+    void concurrentAttemptsNeverAdmitMoreThanTheCapacity() {
+        var threads = 16;
+        var admitted = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            var attempts = new ArrayList<CompletableFuture<Void>>();
+            for (int thread = 0; thread < threads; thread++)
+                attempts.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int attempt = 0; attempt < 100; attempt++)
+                        if (rateLimiter.tryAcquireForAddress("203.0.113.7").isZero())
+                            admitted.incrementAndGet();
+                }, executor));
+            start.countDown();
+            attempts.forEach(CompletableFuture::join);
+        }
+
+        assertThat(admitted).hasValue(ADDRESS_CAPACITY);
+    }
+}
@@ -0,0 +1,146 @@
+package com.safecar.platform.iam.infrastructure.authorization.sfs.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import com.safecar.platform.iam.domain.model.aggregates.User;
+import com.safecar.platform.iam.domain.model.entities.Role;
+import com.safecar.platform.iam.domain.model.events.UserSecurityChangedEvent;
+import com.safecar.platform.iam.domain.model.valueobjects.Roles;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Checks that the {@link SecurityVersionRegistry} detects stale tokens whether the user changed on this instance,
+ * on another one or before a restart, within the documented time-to-live.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@RecordApplicationEvents
+class SecurityVersionRegistryTests {
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+    private static final String PASSWORD = "S4fecar!Password";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private Statistics statistics;
+    private Role clientRole;
+    private Role mechanicRole;
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        clientRole = entityManager.persist(new Role(Roles.ROLE_CLIENT));
+        mechanicRole = entityManager.persist(new Role(Roles.ROLE_MECHANIC));
+        userId = entityManager.persist(new User("driver@safecar.com", PASSWORD, Set.of(clientRole)))
+                .getId().toString();
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void tokenOfAnUnchangedUserIsTrustedAndItsVersionReadOncePerTimeToLive() {
+        var registry = newRegistry();
+
+        assertThat(registry.isStale(userId, 0)).isFalse();
+        assertThat(registry.isStale(userId, 0)).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        nanos.addAndGet(TIME_TO_LIVE.toNanos());
+        assertThat(registry.isStale(userId, 0)).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void tokenIssuedBeforeARestartIsStale() {
+        changeRoles();
+
+        assertThat(newRegistry().isStale(userId, 0)).isTrue();
+        assertThat(newRegistry().isStale(userId, 1)).isFalse();
+    }
+
+    @Test
+    void changeMadeOnAnotherInstanceIsEnforcedOnceTheTimeToLiveElapses() {
+        var registry = newRegistry();
+        assertThat(registry.isStale(userId, 0)).isFalse();
+
+        // The event is not delivered to this registry, as if the password changed on another instance
+        changePassword();
+
+        assertThat(registry.isStale(userId, 0)).isFalse();
+        nanos.addAndGet(TIME_TO_LIVE.toNanos());
+        assertThat(registry.isStale(userId, 0)).isTrue();
+        assertThat(registry.isStale(userId, 1)).isFalse();
+    }
+
+    @Test
+    void changeMadeOnThisInstanceIsEnforcedImmediately() {
+        var registry = newRegistry();
+        assertThat(registry.isStale(userId, 0)).isFalse();
+
+        changePassword();
+        events.stream(UserSecurityChangedEvent.class).forEach(registry::on);
+
+        assertThat(registry.isStale(userId, 0)).isTrue();
+        assertThat(registry.isStale(userId, 1)).isFalse();
+    }
+
+    @Test
+    void tokenOfAnUnknownUserIsStale() {
+        var registry = newRegistry();
+
+        assertThat(registry.isStale(UUID.randomUUID().toString(), 0)).isTrue();
+        assertThat(registry.isStale("not-a-user-id", 0)).isTrue();
+    }
+
+    private SecurityVersionRegistry newRegistry() {
+        return new SecurityVersionRegistry(userRepository, TIME_TO_LIVE, 100, nanos::get);
+    }
+
+    private void changePassword() {
+        var user = userRepository.findById(UUID.fromString(userId)).orElseThrow();
+        userRepository.saveAndFlush(user.changePassword("S4fecar!Changed"));
+        assertThat(events.stream(UserSecurityChangedEvent.class))
+                .containsExactly(new UserSecurityChangedEvent(user.getId(), 1L));
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private void changeRoles() {
+        var user = userRepository.findById(UUID.fromString(userId)).orElseThrow();
+        userRepository.saveAndFlush(user.changeRoles(Set.of(mechanicRole)));
+        assertThat(user.getRoleNames()).containsExactly("ROLE_MECHANIC");
+        entityManager.clear();
+        statistics.clear();
+    }
+}
@@ -0,0 +1,46 @@
+package com.safecar.platform.iam.infrastructure.hashing.bcrypt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+/**
+ * Checks that PBKDF2 hashes record their iteration count, so that changing the setting keeps the existing
+ * hashes verifiable.
+ */
+class CalibratedPasswordEncoderFactoryTests {
+    private static final String PASSWORD = "S4fecar!Password";
+    private static final int ITERATIONS = 1_000;
+    private static final int RAISED_ITERATIONS = 2_000;
+
+    @Test
+    void pbkdf2HashesCarryTheirIterations() {
+        var encoder = pbkdf2Encoder(ITERATIONS);
+
+        var hash = encoder.encode(PASSWORD);
+
+        assertThat(hash).startsWith("{pbkdf2@" + ITERATIONS + "}");
+        assertThat(encoder.matches(PASSWORD, hash)).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    void hashWrittenBeforeTheIterationsChangedIsStillVerified() {
+        var hash = pbkdf2Encoder(ITERATIONS).encode(PASSWORD);
+
+        var encoder = pbkdf2Encoder(RAISED_ITERATIONS, ITERATIONS);
+
+        assertThat(encoder.matches(PASSWORD, hash)).isTrue();
+        assertThat(encoder.matches("wrong-password", hash)).isFalse();
+        assertThat(encoder.upgradeEncoding(hash)).isTrue();
+        assertThat(encoder.encode(PASSWORD)).startsWith("{pbkdf2@" + RAISED_ITERATIONS + "}");
+    }
+
+    private static DelegatingPasswordEncoder pbkdf2Encoder(int iterations, int... previousIterations) {
+        return new CalibratedPasswordEncoderFactory("pbkdf2", false, Duration.ofMillis(50), 4, iterations,
+                previousIterations, 1_024, 1).create();
+    }
+}
@@ -0,0 +1,69 @@
+package com.safecar.platform.iam.infrastructure.persistence.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.safecar.platform.iam.domain.model.aggregates.User;
+import com.safecar.platform.iam.domain.model.entities.Role;
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
+import com.safecar.platform.iam.domain.model.valueobjects.Roles;
+
+/**
+ * Checks that the {@link UserSummaryJdbcRepository} streams every user with its roles, and gives up its
+ * connection once a stream outlasts the timeout.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class UserSummaryJdbcRepositoryTests {
+    private static final int FETCH_SIZE = 100;
+    private static final String PASSWORD = "S4fecar!Password";
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        var client = entityManager.persist(new Role(Roles.ROLE_CLIENT));
+        var mechanic = entityManager.persist(new Role(Roles.ROLE_MECHANIC));
+        entityManager.persist(new User("driver@safecar.com", PASSWORD, Set.of(client)));
+        entityManager.persist(new User("mechanic@safecar.com", PASSWORD, Set.of(client, mechanic)));
+        entityManager.flush();
+    }
+
+    @Test
+    void everyUserIsStreamedWithItsRoles() {
+        var summaries = new ArrayList<UserSummary>();
+
+        new UserSummaryJdbcRepository(dataSource, FETCH_SIZE, Duration.ofMinutes(1)).streamAll(summaries::add);
+
+        assertThat(summaries).extracting(UserSummary::email)
+                .containsExactlyInAnyOrder("driver@safecar.com", "mechanic@safecar.com");
+        assertThat(summaries).filteredOn(summary -> summary.email().equals("mechanic@safecar.com"))
+                .flatExtracting(UserSummary::roleNames)
+                .containsExactlyInAnyOrder("ROLE_CLIENT", "ROLE_MECHANIC");
+    }
+
+    @Test
+    void streamOutlastingTheTimeoutIsAborted() {
+        var summaries = new ArrayList<UserSummary>();
+        var repository = new UserSummaryJdbcRepository(dataSource, FETCH_SIZE, Duration.ZERO);
+
+        assertThatExceptionOfType(QueryTimeoutException.class).isThrownBy(() -> repository.streamAll(summaries::add));
+        assertThat(summaries).isEmpty();
+    }
+}
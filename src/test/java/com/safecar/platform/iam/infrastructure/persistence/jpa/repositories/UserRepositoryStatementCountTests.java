@@ -0,0 +1,174 @@
+package com.safecar.platform.iam.infrastructure.persistence.jpa.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import com.safecar.platform.iam.domain.model.aggregates.User;
+import com.safecar.platform.iam.domain.model.entities.Role;
+import com.safecar.platform.iam.domain.model.valueobjects.Roles;
+import com.safecar.platform.shared.infrastructure.persistence.jdbc.UuidColumns;
+import com.safecar.platform.shared.infrastructure.persistence.jpa.annotations.ExpectedStatementCount;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Enforces the statement counts declared with {@link ExpectedStatementCount} on the {@link UserRepository}.
+ * <p>
+ * Statements are counted with Hibernate statistics against an in-memory H2 database,
+ * with enough users and roles for an N+1 pattern to show up in the counts.
+ * </p>
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserRepositoryStatementCountTests {
+    private static final int USER_COUNT = 5;
+    private static final int BATCH_USER_COUNT = 20;
+    private static final String PASSWORD = "S4fecar!Password";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Role clientRole;
+
+    @BeforeEach
+    void setUp() {
+        clientRole = entityManager.persist(new Role(Roles.ROLE_CLIENT));
+        var adminRole = entityManager.persist(new Role(Roles.ROLE_ADMIN));
+        for (int i = 0; i < USER_COUNT; i++)
+            entityManager.persist(new User("user" + i + "@safecar.com", PASSWORD, Set.of(clientRole, adminRole)));
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findCredentialsByEmailRunsTheDeclaredStatements() throws NoSuchMethodException {
+        var credentials = userRepository.findCredentialsByEmail("user0@safecar.com");
+
+        assertThat(credentials).hasValueSatisfying(user ->
+                assertThat(user.roleNames()).containsExactlyInAnyOrder("ROLE_CLIENT", "ROLE_ADMIN"));
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(expectedStatementCount("findCredentialsRowByEmail", String.class));
+    }
+
+    @Test
+    void findCredentialsByIdRunsTheDeclaredStatements() throws NoSuchMethodException {
+        var id = userRepository.findCredentialsByEmail("user1@safecar.com").orElseThrow().id();
+        statistics.clear();
+
+        var credentials = userRepository.findCredentialsById(id);
+
+        assertThat(credentials).hasValueSatisfying(user -> assertThat(user.roleNames()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(expectedStatementCount("findCredentialsRowById", UUID.class));
+    }
+
+    @Test
+    void findSecurityVersionByIdRunsTheDeclaredStatements() throws NoSuchMethodException {
+        var id = userRepository.findCredentialsByEmail("user1@safecar.com").orElseThrow().id();
+        statistics.clear();
+
+        var securityVersion = userRepository.findSecurityVersionById(id);
+
+        assertThat(securityVersion).hasValue(0L);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(expectedStatementCount("findSecurityVersionById", UUID.class));
+    }
+
+    @Test
+    void findSummaryByEmailRunsTheDeclaredStatements() throws NoSuchMethodException {
+        var summary = userRepository.findSummaryByEmail("user2@safecar.com");
+
+        assertThat(summary).hasValueSatisfying(user -> assertThat(user.roleNames()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(expectedStatementCount("findSummaryRowByEmail", String.class));
+    }
+
+    @Test
+    void findSummariesRunsTheDeclaredStatementsForEveryPage() throws NoSuchMethodException {
+        var firstPage = userRepository.findSummaries(null, Limit.of(3));
+
+        assertThat(firstPage).hasSize(3).allSatisfy(user -> assertThat(user.roleNames()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(expectedStatementCount("findSummaryRows", Limit.class));
+
+        statistics.clear();
+        var secondPage = userRepository.findSummaries(firstPage.getLast().id(), Limit.of(3));
+
+        assertThat(secondPage).hasSize(USER_COUNT - 3).allSatisfy(user -> assertThat(user.roleNames()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(expectedStatementCount("findSummaryRowsAfter", UUID.class, Limit.class));
+    }
+
+    @Test
+    void findRegisteredEmailsInRunsTheDeclaredStatements() throws NoSuchMethodException {
+        var emails = List.of("user0@safecar.com", "user4@safecar.com", "unknown@safecar.com");
+
+        var registeredEmails = userRepository.findRegisteredEmailsIn(emails);
+
+        assertThat(registeredEmails).containsExactlyInAnyOrder("user0@safecar.com", "user4@safecar.com");
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(expectedStatementCount("findRegisteredEmailsIn", Collection.class));
+    }
+
+    @Test
+    void updatePasswordByIdRunsTheDeclaredStatements() throws NoSuchMethodException {
+        var id = userRepository.findCredentialsByEmail("user3@safecar.com").orElseThrow().id();
+        statistics.clear();
+
+        var updated = userRepository.updatePasswordById(id, "rehashed");
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(expectedStatementCount("updatePasswordById", UUID.class, String.class));
+    }
+
+    @Test
+    void saveAllBatchesTheInsertsOfUsersAndTheirRoles() {
+        var role = entityManager.find(Role.class, clientRole.getId());
+        var users = new ArrayList<User>();
+        for (int i = 0; i < BATCH_USER_COUNT; i++)
+            users.add(new User("batch" + i + "@safecar.com", PASSWORD, Set.of(role)));
+        statistics.clear();
+
+        userRepository.saveAll(users);
+        entityManager.flush();
+
+        // Identifiers are generated in memory: one batched statement per table, no identifier round trips
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(users).extracting(User::getId).doesNotContainNull().isSortedAccordingTo(
+                Comparator.comparing(UuidColumns::toBytes, Arrays::compareUnsigned));
+    }
+
+    private static long expectedStatementCount(String methodName, Class<?>... parameterTypes)
+            throws NoSuchMethodException {
+        return UserRepository.class.getMethod(methodName, parameterTypes)
+                .getAnnotation(ExpectedStatementCount.class).value();
+    }
+}
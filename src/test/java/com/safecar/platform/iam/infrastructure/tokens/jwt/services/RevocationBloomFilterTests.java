@@ -0,0 +1,65 @@
+package com.safecar.platform.iam.infrastructure.tokens.jwt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the sizing, the absence of false negatives and the lock-free insertions of the {@link RevocationBloomFilter}.
+ */
+class RevocationBloomFilterTests {
+    private static final int EXPECTED_INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    @Test
+    void addedIdentifiersAreAlwaysFound() {
+        var filter = new RevocationBloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        IntStream.range(0, EXPECTED_INSERTIONS).forEach(i -> filter.add("revoked-" + i));
+
+        assertThat(IntStream.range(0, EXPECTED_INSERTIONS))
+                .allMatch(i -> filter.mightContain("revoked-" + i));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTargetOnceFull() {
+        var filter = new RevocationBloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        IntStream.range(0, EXPECTED_INSERTIONS).forEach(i -> filter.add("revoked-" + i));
+
+        var probes = 100_000;
+        var falsePositives = IntStream.range(0, probes).filter(i -> filter.mightContain("valid-" + i)).count();
+
+        assertThat((double) falsePositives / probes).isLessThan(FALSE_POSITIVE_PROBABILITY * 2);
+    }
+
+    @Test
+    void concurrentInsertionsAreNotLost() {
+        var filter = new RevocationBloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        var threads = 8;
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            var writers = new ArrayList<CompletableFuture<Void>>();
+            for (int thread = 0; thread < threads; thread++) {
+                var first = thread * EXPECTED_INSERTIONS / threads;
+                writers.add(CompletableFuture.runAsync(() -> IntStream.range(first, first + EXPECTED_INSERTIONS / threads)
+                        .forEach(i -> filter.add("revoked-" + i)), executor));
+            }
+            writers.forEach(CompletableFuture::join);
+        }
+
+        assertThat(IntStream.range(0, EXPECTED_INSERTIONS))
+                .allMatch(i -> filter.mightContain("revoked-" + i));
+    }
+
+    @Test
+    void invalidSizingIsRejected() {
+        assertThatThrownBy(() -> new RevocationBloomFilter(0, FALSE_POSITIVE_PROBABILITY))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RevocationBloomFilter(EXPECTED_INSERTIONS, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
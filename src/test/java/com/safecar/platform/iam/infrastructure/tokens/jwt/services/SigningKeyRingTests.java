@@ -0,0 +1,102 @@
+package com.safecar.platform.iam.infrastructure.tokens.jwt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.safecar.platform.iam.infrastructure.tokens.jwt.services.SigningKeyRing.SigningKey;
+
+/**
+ * Checks that two {@link SigningKeyRing} instances sharing a key directory, as two instances of the service do,
+ * verify each other's keys and never rotate at the same time.
+ */
+class SigningKeyRingTests {
+    private static final Duration ROTATION_PERIOD = Duration.ofSeconds(2);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void secondInstanceAdoptsTheKeyOfTheFirst() throws IOException {
+        var first = newRing(Duration.ZERO);
+        var second = newRing(Duration.ZERO);
+
+        assertThat(second.current().kid()).isEqualTo(first.current().kid());
+        assertThat(keyFileCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keyRotatedByOneInstanceIsVerifiedAndPublishedByTheOther() throws Exception {
+        var rotating = newRing(Duration.ZERO);
+        var peer = newRing(Duration.ZERO);
+
+        Thread.sleep(ROTATION_PERIOD.toMillis());
+        var rotated = rotating.current();
+
+        assertThat(peer.verificationKeyFor(rotated.kid())).isEqualTo(rotated.keyPair().getPublic());
+        assertThat(peer.publicKeySet()).contains(rotated.kid());
+        // The peer signs with the rotated key instead of generating its own
+        assertThat(peer.current().kid()).isEqualTo(rotated.kid());
+        assertThat(keyFileCount()).isEqualTo(2);
+    }
+
+    @Test
+    void scheduledRefreshPicksUpTheKeysOfOtherInstances() throws Exception {
+        var rotating = newRing(Duration.ZERO);
+        var peer = newRing(Duration.ofHours(1));
+
+        Thread.sleep(ROTATION_PERIOD.toMillis());
+        var rotated = rotating.current();
+
+        // Unknown keys only trigger a reload once per reload interval
+        assertThat(peer.verificationKeyFor(rotated.kid())).isNull();
+        peer.refresh();
+        assertThat(peer.verificationKeyFor(rotated.kid())).isEqualTo(rotated.keyPair().getPublic());
+    }
+
+    @Test
+    void concurrentRotationsGenerateASingleKey() throws Exception {
+        var rings = new ArrayList<SigningKeyRing>();
+        for (int i = 0; i < 4; i++)
+            rings.add(newRing(Duration.ZERO));
+        Thread.sleep(ROTATION_PERIOD.toMillis());
+
+        var start = new CountDownLatch(1);
+        var rotations = new ArrayList<CompletableFuture<SigningKey>>();
+        try (var executor = Executors.newFixedThreadPool(rings.size())) {
+            for (var ring : rings)
+                rotations.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return ring.current();
+                }, executor));
+            start.countDown();
+        }
+
+        assertThat(rotations).extracting(rotation -> rotation.join().kid()).containsOnly(rotations.get(0).join().kid());
+        assertThat(keyFileCount()).isEqualTo(2);
+    }
+
+    private SigningKeyRing newRing(Duration reloadInterval) {
+        return new SigningKeyRing("EdDSA", directory, ROTATION_PERIOD, reloadInterval, 7);
+    }
+
+    private long keyFileCount() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".pem")).count();
+        }
+    }
+}
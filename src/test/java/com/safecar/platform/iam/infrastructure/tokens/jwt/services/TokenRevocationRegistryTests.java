@@ -0,0 +1,118 @@
+package com.safecar.platform.iam.infrastructure.tokens.jwt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks the revocation checks, their replay from the revocation file and their expiration
+ * in the {@link TokenRevocationRegistry}, on a clock moved by the tests.
+ */
+class TokenRevocationRegistryTests {
+    private static final int EXPIRATION_DAYS = 1;
+
+    @TempDir
+    private Path directory;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-18T00:00:00Z"));
+    private TokenRevocationRegistry registry;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (registry != null)
+            registry.close();
+    }
+
+    @Test
+    void revokedTokensAreRejectedAndOthersAccepted() {
+        registry = newRegistry(100, 1_000, 0.000001);
+
+        registry.revoke("revoked", expiresIn(Duration.ofHours(1)));
+
+        assertThat(registry.isRevoked("revoked")).isTrue();
+        assertThat(registry.isRevoked("valid")).isFalse();
+        assertThat(registry.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    void revocationsAreReplayedAfterARestartAndExpiredOnesCompacted() throws IOException {
+        registry = newRegistry(100, 1_000, 0.000001);
+        registry.revoke("short-lived", expiresIn(Duration.ofHours(1)));
+        registry.revoke("long-lived", expiresIn(Duration.ofHours(2)));
+        registry.close();
+
+        clock.advance(Duration.ofMinutes(90));
+        registry = newRegistry(100, 1_000, 0.000001);
+
+        assertThat(registry.isRevoked("long-lived")).isTrue();
+        assertThat(registry.isRevoked("short-lived")).isFalse();
+        assertThat(Files.readAllLines(file(), StandardCharsets.UTF_8))
+                .singleElement().asString().startsWith("long-lived ");
+    }
+
+    @Test
+    void overflowOnlyRejectsFilterMatchesUntilTheEvictedTokensExpire() {
+        // A tiny exact set and a saturated filter: most unknown identifiers match the filter
+        registry = newRegistry(1, 8, 0.5);
+        IntStream.range(0, 40).forEach(i -> registry.revoke("revoked-" + i, expiresIn(Duration.ofHours(1))));
+
+        var falsePositive = IntStream.range(0, 1_000).mapToObj(i -> "valid-" + i)
+                .filter(registry::isRevoked)
+                .findFirst();
+
+        assertThat(falsePositive).isPresent();
+        assertThat(IntStream.range(0, 40)).allMatch(i -> registry.isRevoked("revoked-" + i));
+
+        clock.advance(Duration.ofHours(1).plusMillis(1));
+
+        assertThat(registry.isRevoked(falsePositive.get())).isFalse();
+    }
+
+    @Test
+    void olderFilterGenerationIsDroppedAfterTwoTokenLifetimes() {
+        registry = newRegistry(100, 1_000, 0.000001);
+        var lifetime = Duration.ofDays(EXPIRATION_DAYS);
+        registry.revoke("first", expiresIn(lifetime));
+
+        clock.advance(lifetime.minusMinutes(1));
+        registry.revoke("second", expiresIn(lifetime));
+        clock.advance(Duration.ofMinutes(1));
+        // Starts a second generation; the first one still holds the revocations of the first lifetime
+        registry.revoke("third", expiresIn(lifetime));
+
+        assertThat(registry.isRevoked("second")).isTrue();
+        assertThat(registry.isRevoked("third")).isTrue();
+
+        clock.advance(lifetime);
+        registry.revoke("fourth", expiresIn(lifetime));
+
+        assertThat(registry.isRevoked("first")).isFalse();
+        assertThat(registry.isRevoked("second")).isFalse();
+        assertThat(registry.isRevoked("third")).isFalse();
+        assertThat(registry.isRevoked("fourth")).isTrue();
+    }
+
+    private TokenRevocationRegistry newRegistry(long recentMaximumSize, long expectedRevocations,
+            double falsePositiveProbability) {
+        return new TokenRevocationRegistry(EXPIRATION_DAYS, recentMaximumSize, expectedRevocations,
+                falsePositiveProbability, file(), clock);
+    }
+
+    private Path file() {
+        return directory.resolve("revoked-tokens.log");
+    }
+
+    private Instant expiresIn(Duration duration) {
+        return clock.instant().plus(duration);
+    }
+}
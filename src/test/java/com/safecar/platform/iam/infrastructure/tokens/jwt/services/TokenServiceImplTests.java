@@ -0,0 +1,112 @@
+package com.safecar.platform.iam.infrastructure.tokens.jwt.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that the verified claims cache of the {@link TokenServiceImpl} only answers for usable tokens:
+ * entries expire with their token, and a revoked token is verified again and rejected.
+ */
+class TokenServiceImplTests {
+    private static final String SECRET = "a-test-secret-of-at-least-thirty-two-bytes-for-hs256";
+    private static final int EXPIRATION_DAYS = 1;
+
+    @TempDir
+    private Path directory;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-10-18T00:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private TokenRevocationRegistry revocationRegistry;
+    private TokenServiceImpl tokenService;
+
+    @BeforeEach
+    void setUp() {
+        revocationRegistry = new TokenRevocationRegistry(EXPIRATION_DAYS, 100, 1_000, 0.000001,
+                directory.resolve("revoked-tokens.log"), clock);
+        tokenService = new TokenServiceImpl();
+        ReflectionTestUtils.setField(tokenService, "secret", SECRET);
+        ReflectionTestUtils.setField(tokenService, "expirationDays", EXPIRATION_DAYS);
+        ReflectionTestUtils.setField(tokenService, "selfContainedPrincipal", true);
+        ReflectionTestUtils.setField(tokenService, "verifiedClaimsCacheMaximumSize", 100L);
+        tokenService.setMeterRegistry(meterRegistry);
+        tokenService.setRevocationRegistry(revocationRegistry);
+        tokenService.setClock(clock);
+        tokenService.initialize();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        revocationRegistry.close();
+    }
+
+    @Test
+    void verifiedClaimsAreCachedUntilTheTokenExpires() {
+        var token = newToken();
+        assertThat(tokenService.getVerifiedClaimsFrom(token)).isPresent();
+
+        clock.advance(Duration.ofDays(EXPIRATION_DAYS).minusSeconds(1));
+        assertThat(tokenService.getVerifiedClaimsFrom(token)).isPresent();
+        assertThat(cacheGets("hit")).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(2));
+        assertThat(tokenService.getVerifiedClaimsFrom(token)).isEmpty();
+        assertThat(cacheGets("hit")).isEqualTo(1);
+        assertThat(cacheGets("miss")).isEqualTo(2);
+        assertThat(validations("expired")).isEqualTo(1);
+    }
+
+    @Test
+    void revokedTokenMissesTheCacheAndIsRejected() {
+        var token = newToken();
+        assertThat(tokenService.getVerifiedClaimsFrom(token)).isPresent();
+
+        assertThat(tokenService.revokeToken(token)).isTrue();
+
+        var claims = tokenService.getVerifiedClaimsFrom(token);
+        assertThat(claims).isPresent();
+        assertThat(tokenService.isRevoked(claims.get())).isTrue();
+        assertThat(cacheGets("miss")).isEqualTo(2);
+        assertThat(validations("valid")).isEqualTo(2);
+    }
+
+    @Test
+    void otherTokensStayCachedWhenOneIsRevoked() {
+        var revoked = newToken();
+        var kept = newToken();
+        tokenService.getVerifiedClaimsFrom(revoked);
+        tokenService.getVerifiedClaimsFrom(kept);
+
+        tokenService.revokeToken(revoked);
+
+        var claims = tokenService.getVerifiedClaimsFrom(kept);
+        assertThat(claims).isPresent();
+        assertThat(tokenService.isRevoked(claims.get())).isFalse();
+        assertThat(cacheGets("hit")).isEqualTo(2);
+    }
+
+    private String newToken() {
+        return tokenService.generateToken("1", "driver@safecar.com", List.of("ROLE_DRIVER"), 0L);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "verifiedClaims").tag("result", result)
+                .functionCounter().count();
+    }
+
+    private long validations(String result) {
+        return meterRegistry.get("iam.token.validation.duration").tag("result", result).timer().count();
+    }
+}
@@ -0,0 +1,116 @@
+package com.safecar.platform.iam.interfaces.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.safecar.platform.iam.domain.exceptions.EmailAlreadyRegisteredException;
+import com.safecar.platform.iam.domain.model.commands.SignInCommand;
+import com.safecar.platform.iam.domain.model.commands.SignUpCommand;
+import com.safecar.platform.iam.domain.services.UserCommandService;
+import com.safecar.platform.iam.infrastructure.hashing.bcrypt.services.PasswordHashingExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks the error responses of the authentication endpoints: a 409 for a sign-up with a registered email,
+ * and a 503 with a {@code Retry-After} header once the password hashing pool and its queue are full.
+ */
+class AuthenticationControllerTests {
+    private static final String SIGN_UP = """
+            {"email":"driver@safecar.com","password":"S4fecar!Password","confirmPassword":"S4fecar!Password","roles":["ROLE_DRIVER"]}
+            """;
+    private static final String SIGN_IN = """
+            {"email":"driver@safecar.com","password":"S4fecar!Password"}
+            """;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor hashingExecutor = newHashingExecutor(1, 1);
+    private final UserCommandService userCommandService = mock(UserCommandService.class);
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new AuthenticationController(userCommandService))
+            .build();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    void signUpWithARegisteredEmailIsAConflict() throws Exception {
+        when(userCommandService.handle(any(SignUpCommand.class)))
+                .thenThrow(new EmailAlreadyRegisteredException("driver@safecar.com", null));
+
+        mockMvc.perform(post("/api/v1/authentication/sign-up").contentType(MediaType.APPLICATION_JSON).content(SIGN_UP))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void signInIsRefusedWhileHashingIsSaturated() throws Exception {
+        when(userCommandService.handle(any(SignInCommand.class))).thenAnswer(invocation ->
+                hashingExecutor.execute("matches", Optional::empty));
+        var started = new CountDownLatch(1);
+        occupy(() -> {
+            started.countDown();
+            return awaitRelease();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        occupy(this::awaitRelease);
+        awaitQueued(1);
+
+        mockMvc.perform(post("/api/v1/authentication/sign-in").contentType(MediaType.APPLICATION_JSON).content(SIGN_IN))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        assertThat(meterRegistry.get("iam.hashing.rejections").counter().count()).isEqualTo(1);
+    }
+
+    /**
+     * Runs a hashing task from another request thread, which waits for its result.
+     */
+    private void occupy(Supplier<Boolean> task) {
+        Thread.ofVirtual().start(() -> hashingExecutor.execute("matches", task));
+    }
+
+    private boolean awaitRelease() {
+        try {
+            return release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void awaitQueued(int tasks) throws InterruptedException {
+        var queued = meterRegistry.get("executor.queued").tag("name", "passwordHashing").gauge();
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (queued.value() < tasks && System.nanoTime() - deadline < 0)
+            Thread.sleep(10);
+        assertThat(queued.value()).isEqualTo(tasks);
+    }
+
+    private PasswordHashingExecutor newHashingExecutor(int poolSize, int queueCapacity) {
+        var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        return new PasswordHashingExecutor(poolSize, queueCapacity, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+}
@@ -0,0 +1,51 @@
+package com.safecar.platform.iam.interfaces.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safecar.platform.iam.domain.model.entities.Role;
+import com.safecar.platform.iam.domain.model.queries.GetAllRolesQuery;
+import com.safecar.platform.iam.domain.model.valueobjects.Roles;
+import com.safecar.platform.iam.domain.services.RoleQueryService;
+
+/**
+ * Checks that the roles are served with a strong ETag, and that a client revalidating its copy gets a 304.
+ */
+class RolesControllerTests {
+    private final RoleQueryService roleQueryService = mock(RoleQueryService.class);
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new RolesController(roleQueryService, new ObjectMapper()))
+            .build();
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() throws Exception {
+        when(roleQueryService.handle(any(GetAllRolesQuery.class)))
+                .thenReturn(List.of(new Role(1L, Roles.ROLE_ADMIN), new Role(2L, Roles.ROLE_DRIVER)));
+        var eTag = mockMvc.perform(get("/api/v1/roles"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+
+        mockMvc.perform(get("/api/v1/roles").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/api/v1/roles").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,77 @@
+package com.safecar.platform.iam.interfaces.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
+import com.safecar.platform.iam.domain.model.queries.GetUserByEmailQuery;
+import com.safecar.platform.iam.domain.services.UserCommandService;
+import com.safecar.platform.iam.domain.services.UserQueryService;
+
+/**
+ * Checks that a user is served with an ETag of its representation: a client revalidating an unchanged user
+ * gets a 304, and a change to the user changes the ETag.
+ */
+class UsersControllerConditionalGetTests {
+    private static final String USER_PATH = "/api/v1/users/driver@safecar.com";
+
+    private final UUID userId = UUID.randomUUID();
+    private final UserQueryService userQueryService = mock(UserQueryService.class);
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(new UsersController(userQueryService, mock(UserCommandService.class), new ObjectMapper(),
+                    10, 1, Duration.ofMillis(1), 1))
+            .build();
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() throws Exception {
+        userHasRoles("ROLE_DRIVER");
+        var eTag = eTagOfTheUser();
+
+        mockMvc.perform(get(USER_PATH).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void changedUserHasANewETag() throws Exception {
+        userHasRoles("ROLE_DRIVER");
+        var eTag = eTagOfTheUser();
+
+        userHasRoles("ROLE_DRIVER", "ROLE_MECHANIC");
+
+        mockMvc.perform(get(USER_PATH).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roles.length()").value(2));
+        assertThat(eTagOfTheUser()).isNotEqualTo(eTag);
+    }
+
+    private void userHasRoles(String... roleNames) {
+        when(userQueryService.handle(any(GetUserByEmailQuery.class)))
+                .thenReturn(Optional.of(new UserSummary(userId, "driver@safecar.com", List.of(roleNames))));
+    }
+
+    private String eTagOfTheUser() throws Exception {
+        var eTag = mockMvc.perform(get(USER_PATH))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotBlank();
+        return eTag;
+    }
+}
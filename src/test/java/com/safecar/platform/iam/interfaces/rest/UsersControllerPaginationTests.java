@@ -0,0 +1,139 @@
+package com.safecar.platform.iam.interfaces.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safecar.platform.iam.application.internal.queryservices.UserQueryServiceImpl;
+import com.safecar.platform.iam.domain.model.aggregates.User;
+import com.safecar.platform.iam.domain.model.entities.Role;
+import com.safecar.platform.iam.domain.model.valueobjects.Roles;
+import com.safecar.platform.iam.domain.services.UserCommandService;
+import com.safecar.platform.iam.infrastructure.persistence.jdbc.UserSummaryJdbcRepository;
+import com.safecar.platform.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import com.safecar.platform.iam.interfaces.rest.resources.UserResource;
+
+/**
+ * Checks the keyset pagination of the users: following the {@code Link: rel="next"} header from the first page
+ * returns every user exactly once, in creation order, and the last page has no link.
+ * <p>
+ * Every user has several roles, so the join behind a page yields several rows with the same id,
+ * and the users are created in a burst, so most of their ids share the millisecond of their timestamp.
+ * </p>
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class UsersControllerPaginationTests {
+    private static final Pattern NEXT_LINK = Pattern.compile("<([^>]+)>; rel=\"next\"");
+    private static final String PASSWORD = "S4fecar!Password";
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockMvc mockMvc;
+    private Set<Role> roles;
+
+    @BeforeEach
+    void setUp() {
+        var userQueryService = new UserQueryServiceImpl(userRepository, mock(UserSummaryJdbcRepository.class));
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new UsersController(userQueryService, mock(UserCommandService.class), objectMapper,
+                        10, 1, Duration.ofMillis(1), 1))
+                .build();
+        roles = Set.of(entityManager.persist(new Role(Roles.ROLE_CLIENT)),
+                entityManager.persist(new Role(Roles.ROLE_ADMIN)));
+    }
+
+    @Test
+    void nextLinksWalkEveryUserOnceInCreationOrder() throws Exception {
+        var created = createUsers(2 * PAGE_SIZE + 1);
+
+        var pages = walkPages();
+
+        assertThat(pages).extracting(List::size).containsExactly(PAGE_SIZE, PAGE_SIZE, 1);
+        assertThat(pages.stream().flatMap(List::stream).map(UserResource::id)).containsExactlyElementsOf(created);
+        assertThat(pages.getFirst()).allSatisfy(user ->
+                assertThat(user.roles()).containsExactlyInAnyOrder("ROLE_CLIENT", "ROLE_ADMIN"));
+    }
+
+    @Test
+    void fullLastPageLinksToAnEmptyPage() throws Exception {
+        var created = createUsers(2 * PAGE_SIZE);
+
+        var pages = walkPages();
+
+        assertThat(pages).extracting(List::size).containsExactly(PAGE_SIZE, PAGE_SIZE, 0);
+        assertThat(pages.stream().flatMap(List::stream).map(UserResource::id)).containsExactlyElementsOf(created);
+    }
+
+    @Test
+    void nextLinkCarriesTheLastIdAndThePageSize() throws Exception {
+        var created = createUsers(PAGE_SIZE);
+
+        var result = mockMvc.perform(get("/api/v1/users").param("limit", String.valueOf(PAGE_SIZE))).andReturn();
+
+        assertThat(nextLink(result)).isEqualTo(
+                URI.create("http://localhost/api/v1/users?after=" + created.getLast() + "&limit=" + PAGE_SIZE));
+    }
+
+    private List<UUID> createUsers(int count) {
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < count; i++)
+            ids.add(entityManager.persist(new User("user" + i + "@safecar.com", PASSWORD, roles)).getId());
+        entityManager.flush();
+        entityManager.clear();
+        return ids;
+    }
+
+    /**
+     * Requests the first page, then follows the next links until a page has none.
+     */
+    private List<List<UserResource>> walkPages() throws Exception {
+        var pages = new ArrayList<List<UserResource>>();
+        var result = mockMvc.perform(get("/api/v1/users").param("limit", String.valueOf(PAGE_SIZE))).andReturn();
+        pages.add(usersOf(result));
+        for (var next = nextLink(result); next != null; next = nextLink(result)) {
+            result = mockMvc.perform(get(next)).andReturn();
+            pages.add(usersOf(result));
+        }
+        return pages;
+    }
+
+    private List<UserResource> usersOf(MvcResult result) throws Exception {
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        return objectMapper.readValue(result.getResponse().getContentAsByteArray(), new TypeReference<>() { });
+    }
+
+    private static URI nextLink(MvcResult result) {
+        var link = result.getResponse().getHeader(HttpHeaders.LINK);
+        if (link == null)
+            return null;
+        var matcher = NEXT_LINK.matcher(link);
+        assertThat(matcher.matches()).as("Link header %s", link).isTrue();
+        return URI.create(matcher.group(1));
+    }
+}
@@ -0,0 +1,92 @@
+package com.safecar.platform.iam.interfaces.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safecar.platform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
+import com.safecar.platform.iam.domain.model.commands.ProvisionUsersCommand;
+import com.safecar.platform.iam.domain.model.valueobjects.UserProvisioningResult;
+import com.safecar.platform.iam.domain.services.UserCommandService;
+import com.safecar.platform.iam.domain.services.UserQueryService;
+import com.safecar.platform.iam.interfaces.rest.resources.UserProvisioningResultResource;
+
+/**
+ * Checks that bulk provisioning reports every row, whatever its content, and rides out hashing backpressure.
+ */
+class UsersControllerProvisioningTests {
+    private static final int MAXIMUM_ATTEMPTS = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UserCommandService userCommandService = mock(UserCommandService.class);
+    private final UsersController controller = new UsersController(mock(UserQueryService.class), userCommandService,
+            objectMapper, 10, MAXIMUM_ATTEMPTS, Duration.ofMillis(1), 1);
+
+    @Test
+    void nullRowsAndRoleNamesAreRejectedWithoutAbortingTheReport() throws Exception {
+        when(userCommandService.handle(any(ProvisionUsersCommand.class))).thenReturn(
+                List.of(UserProvisioningResult.provisioned("valid@safecar.com", UUID.randomUUID())));
+
+        var report = provision("""
+                null
+                {"email":"nullrole@safecar.com","password":"S4fecar!Password","roles":[null]}
+                {"email":"valid@safecar.com","password":"S4fecar!Password"}
+                """);
+
+        assertThat(report).extracting(UserProvisioningResultResource::line).containsExactly(1L, 2L, 3L);
+        assertThat(report).extracting(UserProvisioningResultResource::status)
+                .containsExactly("REJECTED", "REJECTED", "CREATED");
+        assertThat(report.get(1).email()).isEqualTo("nullrole@safecar.com");
+    }
+
+    @Test
+    void chunkRejectedByHashingBackpressureIsRetried() throws Exception {
+        when(userCommandService.handle(any(ProvisionUsersCommand.class)))
+                .thenThrow(new HashingCapacityExceededException("Password hashing capacity exceeded", null))
+                .thenReturn(List.of(UserProvisioningResult.provisioned("valid@safecar.com", UUID.randomUUID())));
+
+        var report = provision("""
+                {"email":"valid@safecar.com","password":"S4fecar!Password"}
+                """);
+
+        assertThat(report).extracting(UserProvisioningResultResource::status).containsExactly("CREATED");
+        verify(userCommandService, times(2)).handle(any(ProvisionUsersCommand.class));
+    }
+
+    @Test
+    void chunkIsRejectedOnceTheAttemptsAreExhausted() throws Exception {
+        when(userCommandService.handle(any(ProvisionUsersCommand.class)))
+                .thenThrow(new HashingCapacityExceededException("Password hashing capacity exceeded", null));
+
+        var report = provision("""
+                {"email":"valid@safecar.com","password":"S4fecar!Password"}
+                """);
+
+        assertThat(report).extracting(UserProvisioningResultResource::status).containsExactly("REJECTED");
+        verify(userCommandService, times(MAXIMUM_ATTEMPTS)).handle(any(ProvisionUsersCommand.class));
+    }
+
+    private List<UserProvisioningResultResource> provision(String body) throws Exception {
+        var request = new MockHttpServletRequest("POST", "/api/v1/users/bulk");
+        request.setContentType("application/x-ndjson");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        var output = new ByteArrayOutputStream();
+        controller.provisionUsers(request).getBody().writeTo(output);
+        return objectMapper.readerFor(UserProvisioningResultResource.class)
+                .<UserProvisioningResultResource>readValues(output.toByteArray())
+                .readAll();
+    }
+}
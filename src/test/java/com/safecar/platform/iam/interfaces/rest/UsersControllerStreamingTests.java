@@ -0,0 +1,117 @@
+package com.safecar.platform.iam.interfaces.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safecar.platform.iam.domain.model.projections.UserSummary;
+import com.safecar.platform.iam.domain.model.queries.GetAllUsersQuery;
+import com.safecar.platform.iam.domain.services.UserCommandService;
+import com.safecar.platform.iam.domain.services.UserQueryService;
+
+/**
+ * Checks that only administrators stream the users, and that at most the configured number of streams,
+ * each holding a database connection, run at once.
+ */
+@SpringJUnitConfig
+// Each test starts with every stream slot free
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class UsersControllerStreamingTests {
+    private static final int MAXIMUM_CONCURRENT_STREAMS = 1;
+
+    @Autowired
+    private UsersController controller;
+
+    @Autowired
+    private UserQueryService userQueryService;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void driversCannotStreamTheUsers() {
+        authenticateAs("ROLE_DRIVER");
+
+        assertThatExceptionOfType(AccessDeniedException.class).isThrownBy(controller::streamAllUsers);
+    }
+
+    @Test
+    void streamsBeyondTheMaximumAreRefusedUntilOneEnds() throws Exception {
+        authenticateAs("ROLE_ADMIN");
+        doAnswer(invocation -> {
+            invocation.<Consumer<UserSummary>>getArgument(1)
+                    .accept(new UserSummary(UUID.randomUUID(), "driver@safecar.com", List.of("ROLE_DRIVER")));
+            return null;
+        }).when(userQueryService).handle(any(GetAllUsersQuery.class), any());
+
+        var first = controller.streamAllUsers();
+        var refused = controller.streamAllUsers();
+
+        assertThat(refused.getStatusCode().value()).isEqualTo(503);
+        assertThat(refused.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isNotBlank();
+        var output = new ByteArrayOutputStream();
+        first.getBody().writeTo(output);
+        assertThat(output.toString()).contains("driver@safecar.com");
+        assertThat(controller.streamAllUsers().getStatusCode().value()).isEqualTo(200);
+    }
+
+    @Test
+    void failedStreamGivesBackItsSlot() {
+        authenticateAs("ROLE_ADMIN");
+        doThrow(new QueryTimeoutException("User stream exceeded its timeout"))
+                .when(userQueryService).handle(any(GetAllUsersQuery.class), any());
+
+        var failed = controller.streamAllUsers();
+
+        assertThatExceptionOfType(QueryTimeoutException.class)
+                .isThrownBy(() -> failed.getBody().writeTo(new ByteArrayOutputStream()));
+        assertThat(controller.streamAllUsers().getStatusCode().value()).isEqualTo(200);
+    }
+
+    private static void authenticateAs(String authority) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                "user@safecar.com", null, List.of(new SimpleGrantedAuthority(authority))));
+    }
+
+    @Configuration
+    @EnableMethodSecurity
+    static class StreamingConfiguration {
+        @Bean
+        UserQueryService userQueryService() {
+            return mock(UserQueryService.class);
+        }
+
+        @Bean
+        UsersController usersController(UserQueryService userQueryService) {
+            return new UsersController(userQueryService, mock(UserCommandService.class), new ObjectMapper(), 10, 1,
+                    Duration.ofMillis(1), MAXIMUM_CONCURRENT_STREAMS);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.safecar.platform.telemetry.application.internal.commandservices;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.safecar.platform.telemetry.domain.model.aggregates.Alert;
+import com.safecar.platform.telemetry.domain.model.commands.IngestTelemetryCommand;
+import com.safecar.platform.telemetry.domain.model.events.AlertRaisedEvent;
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertRuleDefinition;
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertRuleType;
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertSeverity;
+import com.safecar.platform.telemetry.domain.model.valueobjects.ComparisonOperator;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+import com.safecar.platform.telemetry.infrastructure.memory.RecentReadingsStore;
+import com.safecar.platform.telemetry.infrastructure.persistence.jdbc.TelemetryReadingJdbcRepository;
+import com.safecar.platform.telemetry.infrastructure.persistence.jdbc.TelemetryRollupJdbcRepository;
+import com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories.AlertRepository;
+import com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories.VehicleRepository;
+import com.safecar.platform.telemetry.infrastructure.rules.AlertRuleEngine;
+
+/**
+ * Checks that the alerts raised by a batch are published with the owner of the vehicle, reading it at most once
+ * per batch and only when the caller did not load the vehicle.
+ */
+class TelemetryCommandServiceImplTests {
+    private static final String OWNER_EMAIL = "driver@safecar.com";
+    private static final AlertRuleDefinition OVERHEATING = new AlertRuleDefinition("engine-overheating",
+            TelemetrySignal.ENGINE_TEMPERATURE, AlertRuleType.THRESHOLD, ComparisonOperator.ABOVE, 115, null,
+            AlertSeverity.CRITICAL, "Engine overheating");
+
+    private final UUID vehicleId = UUID.randomUUID();
+    private final List<TelemetrySample> samples = List.of(
+            new TelemetrySample(TelemetrySignal.ENGINE_TEMPERATURE, Instant.parse("2026-10-18T08:00:00Z"), 120),
+            new TelemetrySample(TelemetrySignal.ENGINE_TEMPERATURE, Instant.parse("2026-10-18T08:00:01Z"), 90),
+            new TelemetrySample(TelemetrySignal.ENGINE_TEMPERATURE, Instant.parse("2026-10-18T08:00:02Z"), 121));
+    private final AlertRuleEngine alertRuleEngine = mock(AlertRuleEngine.class);
+    private final AlertRepository alertRepository = mock(AlertRepository.class);
+    private final VehicleRepository vehicleRepository = mock(VehicleRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final TelemetryCommandServiceImpl service = new TelemetryCommandServiceImpl(
+            mock(TelemetryReadingJdbcRepository.class), mock(TelemetryRollupJdbcRepository.class),
+            mock(TransactionTemplate.class), mock(RecentReadingsStore.class),
+            alertRuleEngine, alertRepository, vehicleRepository, eventPublisher);
+
+    @Test
+    void ownerLoadedByTheCallerIsPublishedWithoutReadingTheVehicle() {
+        raiseTwoAlerts();
+
+        service.handle(new IngestTelemetryCommand(vehicleId, OWNER_EMAIL, samples));
+
+        assertThat(publishedEvents()).extracting(AlertRaisedEvent::ownerEmail).containsExactly(OWNER_EMAIL, OWNER_EMAIL);
+        verify(vehicleRepository, never()).findOwnerEmailById(any());
+    }
+
+    @Test
+    void ownerOfADeviceBatchIsReadOncePerBatch() {
+        raiseTwoAlerts();
+        when(vehicleRepository.findOwnerEmailById(vehicleId)).thenReturn(Optional.of(OWNER_EMAIL));
+
+        service.handle(new IngestTelemetryCommand(vehicleId, null, samples));
+
+        assertThat(publishedEvents()).extracting(AlertRaisedEvent::ownerEmail).containsExactly(OWNER_EMAIL, OWNER_EMAIL);
+        verify(vehicleRepository, times(1)).findOwnerEmailById(vehicleId);
+    }
+
+    @Test
+    void batchRaisingNoAlertReadsNoOwner() {
+        when(alertRuleEngine.evaluate(vehicleId, samples)).thenReturn(List.of());
+
+        service.handle(new IngestTelemetryCommand(vehicleId, null, samples));
+
+        verify(vehicleRepository, never()).findOwnerEmailById(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private void raiseTwoAlerts() {
+        var alerts = List.of(new Alert(vehicleId, OVERHEATING, 120, samples.get(0).recordedAt()),
+                new Alert(vehicleId, OVERHEATING, 121, samples.get(2).recordedAt()));
+        when(alertRuleEngine.evaluate(vehicleId, samples)).thenReturn(alerts);
+        when(alertRepository.saveAll(anyList())).thenReturn(alerts);
+    }
+
+    private List<AlertRaisedEvent> publishedEvents() {
+        var events = ArgumentCaptor.forClass(AlertRaisedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        return events.getAllValues();
+    }
+}
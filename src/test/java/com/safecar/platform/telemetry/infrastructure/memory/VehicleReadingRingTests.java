@@ -0,0 +1,133 @@
+package com.safecar.platform.telemetry.infrastructure.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+/**
+ * Checks the coverage, ordering and concurrent reads of the {@link VehicleReadingRing}.
+ */
+class VehicleReadingRingTests {
+    private static final TelemetrySignal[] SIGNALS = TelemetrySignal.values();
+    private static final Instant START = Instant.parse("2026-10-18T00:00:00Z");
+    private static final Instant END = START.plusSeconds(10_000_000);
+
+    @Test
+    void readingsAreReturnedByTimeAndSignalWithDuplicatesCollapsed() {
+        var ring = newRing(16);
+        ring.append(List.of(
+                sample(TelemetrySignal.ENGINE_RPM, 2, 2_000),
+                sample(TelemetrySignal.ENGINE_TEMPERATURE, 2, 90),
+                sample(TelemetrySignal.ENGINE_TEMPERATURE, 1, 85),
+                sample(TelemetrySignal.ENGINE_TEMPERATURE, 2, 95)), 0);
+
+        assertThat(ring.read(null, START, END, 10, 0)).containsExactly(
+                sample(TelemetrySignal.ENGINE_TEMPERATURE, 1, 85),
+                sample(TelemetrySignal.ENGINE_TEMPERATURE, 2, 90),
+                sample(TelemetrySignal.ENGINE_RPM, 2, 2_000));
+        assertThat(ring.read(TelemetrySignal.ENGINE_RPM, START, END, 10, 0))
+                .containsExactly(sample(TelemetrySignal.ENGINE_RPM, 2, 2_000));
+        assertThat(ring.read(null, START, END, 1, 0)).hasSize(1);
+    }
+
+    @Test
+    void rangesStartingBeforeTheCoverageAreNotAnswered() {
+        var ring = newRing(16);
+        var samples = new ArrayList<TelemetrySample>();
+        for (int second = 0; second < 32; second++)
+            samples.add(sample(TelemetrySignal.OIL_PRESSURE, second, second));
+        ring.append(samples, 0);
+
+        var coveredFrom = Instant.EPOCH.plusNanos(ring.coveredFrom() * 1_000);
+        assertThat(coveredFrom).isAfter(START);
+        assertThat(ring.read(null, START, END, 100, 0)).isNull();
+        // Every reading from the coverage on is returned, without gaps
+        assertThat(ring.read(null, coveredFrom, END, 100, 0))
+                .extracting(TelemetrySample::recordedAt)
+                .startsWith(firstSecondFrom(coveredFrom))
+                .endsWith(START.plusSeconds(31))
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    void evictedRingRefusesAppends() {
+        var ring = newRing(16);
+
+        ring.evict();
+
+        assertThat(ring.append(List.of(sample(TelemetrySignal.ENGINE_RPM, 0, 800)), 0)).isFalse();
+    }
+
+    @Test
+    void concurrentReadersNeverSeeTornOrMissingReadings() {
+        // A ring of 8 readings keeps a reserve of one, so the writer overwrites slots readers are still copying
+        var ring = newRing(8);
+        var written = new AtomicLong();
+        var done = new AtomicBoolean();
+        var consistentReads = new AtomicLong();
+        try (var executor = Executors.newFixedThreadPool(5)) {
+            var readers = new ArrayList<CompletableFuture<Void>>();
+            for (int reader = 0; reader < 4; reader++)
+                readers.add(CompletableFuture.runAsync(() -> {
+                    while (!done.get()) {
+                        var from = Instant.EPOCH.plusNanos(ring.coveredFrom() * 1_000);
+                        var samples = ring.read(null, from, END, Integer.MAX_VALUE, 0);
+                        if (samples == null || samples.isEmpty())
+                            continue;
+                        assertThat(samples.getFirst().recordedAt()).isEqualTo(firstSecondFrom(from));
+                        for (int i = 0; i < samples.size(); i++) {
+                            var second = samples.getFirst().recordedAt().getEpochSecond() - START.getEpochSecond() + i;
+                            assertThat(samples.get(i)).isEqualTo(reading(second));
+                        }
+                        consistentReads.incrementAndGet();
+                    }
+                }, executor));
+            var writer = CompletableFuture.runAsync(() -> {
+                for (long second = 0; second < 1_000_000; second += 4) {
+                    ring.append(List.of(reading(second), reading(second + 1), reading(second + 2), reading(second + 3)), 0);
+                    written.set(second + 4);
+                }
+                done.set(true);
+            }, executor);
+            writer.join();
+            readers.forEach(CompletableFuture::join);
+        }
+
+        assertThat(written).hasValue(1_000_000);
+        assertThat(consistentReads.get()).isPositive();
+    }
+
+    /**
+     * @return the time of the first reading recorded at or after a time, as readings are a second apart
+     */
+    private static Instant firstSecondFrom(Instant time) {
+        return Instant.ofEpochSecond(time.getEpochSecond() + (time.getNano() > 0 ? 1 : 0));
+    }
+
+    private static VehicleReadingRing newRing(int capacity) {
+        return new VehicleReadingRing(capacity, VehicleReadingRing.toMicros(START), 0);
+    }
+
+    /**
+     * The reading recorded a number of seconds after the start, whose signal and value derive from that number,
+     * so a reading copied while being overwritten does not match.
+     */
+    private static TelemetrySample reading(long second) {
+        return new TelemetrySample(SIGNALS[(int) (second % SIGNALS.length)], START.plusSeconds(second), second);
+    }
+
+    private static TelemetrySample sample(TelemetrySignal signal, long second, double value) {
+        return new TelemetrySample(signal, START.plusSeconds(second), value);
+    }
+}
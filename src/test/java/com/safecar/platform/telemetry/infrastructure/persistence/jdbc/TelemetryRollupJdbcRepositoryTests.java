@@ -0,0 +1,121 @@
+package com.safecar.platform.telemetry.infrastructure.persistence.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.RollupResolution;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetryAggregate;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+import com.safecar.platform.telemetry.infrastructure.persistence.jpa.repositories.TelemetryRollupRepository;
+
+/**
+ * Checks that the rollups recomputed by the {@link TelemetryRollupJdbcRepository} stay exact at every resolution
+ * when readings arrive late or a batch is sent again.
+ * <p>
+ * The upserts are MySQL statements, so they run against an in-memory H2 database in MySQL mode.
+ * </p>
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rollups;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ TelemetryReadingJdbcRepository.class, TelemetryRollupJdbcRepository.class })
+class TelemetryRollupJdbcRepositoryTests {
+    private static final Instant DAY = Instant.parse("2026-10-18T00:00:00Z");
+    private static final Instant HOUR = Instant.parse("2026-10-18T08:00:00Z");
+    private static final Instant MINUTE = Instant.parse("2026-10-18T08:15:00Z");
+
+    @Autowired
+    private TelemetryReadingJdbcRepository readingRepository;
+
+    @Autowired
+    private TelemetryRollupJdbcRepository rollupRepository;
+
+    @Autowired
+    private TelemetryRollupRepository rollups;
+
+    private final UUID vehicleId = UUID.randomUUID();
+
+    @Test
+    void bucketsAreRolledUpAtEveryResolution() {
+        ingest(speed(MINUTE, 40), speed(MINUTE.plusSeconds(30), 60), speed(MINUTE.plusSeconds(60), 80));
+
+        assertThat(aggregates(RollupResolution.MINUTE)).containsExactly(
+                new TelemetryAggregate(TelemetrySignal.SPEED, MINUTE, 40, 60, 100, 2),
+                new TelemetryAggregate(TelemetrySignal.SPEED, MINUTE.plusSeconds(60), 80, 80, 80, 1));
+        assertThat(aggregates(RollupResolution.HOUR)).containsExactly(
+                new TelemetryAggregate(TelemetrySignal.SPEED, HOUR, 40, 80, 180, 3));
+        assertThat(aggregates(RollupResolution.DAY)).containsExactly(
+                new TelemetryAggregate(TelemetrySignal.SPEED, DAY, 40, 80, 180, 3));
+    }
+
+    @Test
+    void batchSentAgainIsNotCountedTwice() {
+        var batch = new TelemetrySample[] { speed(MINUTE, 40), speed(MINUTE.plusSeconds(30), 60) };
+
+        ingest(batch);
+        ingest(batch);
+
+        assertThat(aggregates(RollupResolution.MINUTE)).containsExactly(
+                new TelemetryAggregate(TelemetrySignal.SPEED, MINUTE, 40, 60, 100, 2));
+        assertThat(aggregates(RollupResolution.DAY)).containsExactly(
+                new TelemetryAggregate(TelemetrySignal.SPEED, DAY, 40, 60, 100, 2));
+    }
+
+    @Test
+    void lateReadingIsMergedIntoItsBucketsAtEveryResolution() {
+        ingest(speed(MINUTE, 40), speed(HOUR.plusSeconds(3600), 50));
+
+        ingest(speed(MINUTE.plusSeconds(10), 120));
+
+        assertThat(aggregates(RollupResolution.MINUTE)).first().isEqualTo(
+                new TelemetryAggregate(TelemetrySignal.SPEED, MINUTE, 40, 120, 160, 2));
+        assertThat(aggregates(RollupResolution.HOUR)).containsExactly(
+                new TelemetryAggregate(TelemetrySignal.SPEED, HOUR, 40, 120, 160, 2),
+                new TelemetryAggregate(TelemetrySignal.SPEED, HOUR.plusSeconds(3600), 50, 50, 50, 1));
+        assertThat(aggregates(RollupResolution.DAY)).containsExactly(
+                new TelemetryAggregate(TelemetrySignal.SPEED, DAY, 40, 120, 210, 3));
+    }
+
+    @Test
+    void signalsAndVehiclesAreRolledUpSeparately() {
+        ingest(speed(MINUTE, 40),
+                new TelemetrySample(TelemetrySignal.ENGINE_TEMPERATURE, MINUTE.plusSeconds(5), 90));
+        var otherVehicleId = UUID.randomUUID();
+        var other = List.of(speed(MINUTE, 100));
+        readingRepository.insertAll(otherVehicleId, other);
+        rollupRepository.refresh(otherVehicleId, other);
+
+        assertThat(aggregates(RollupResolution.MINUTE)).containsExactlyInAnyOrder(
+                new TelemetryAggregate(TelemetrySignal.SPEED, MINUTE, 40, 40, 40, 1),
+                new TelemetryAggregate(TelemetrySignal.ENGINE_TEMPERATURE, MINUTE, 90, 90, 90, 1));
+    }
+
+    private void ingest(TelemetrySample... samples) {
+        var batch = List.of(samples);
+        readingRepository.insertAll(vehicleId, batch);
+        rollupRepository.refresh(vehicleId, batch);
+    }
+
+    private List<TelemetryAggregate> aggregates(RollupResolution resolution) {
+        return rollups.findAggregates(vehicleId, resolution, DAY, DAY.plusSeconds(86_400));
+    }
+
+    private static TelemetrySample speed(Instant recordedAt, double value) {
+        return new TelemetrySample(TelemetrySignal.SPEED, recordedAt, value);
+    }
+}
@@ -0,0 +1,137 @@
+package com.safecar.platform.telemetry.infrastructure.rules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.safecar.platform.telemetry.domain.model.aggregates.Alert;
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertRuleDefinition;
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertRuleType;
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertSeverity;
+import com.safecar.platform.telemetry.domain.model.valueobjects.ComparisonOperator;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySample;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that the {@link AlertRuleEngine} raises an alert when a rule becomes met over the readings of a vehicle,
+ * whatever the batches they arrive in, and keeps the state of unchanged rules across reloads.
+ */
+class AlertRuleEngineTests {
+    private static final Instant START = Instant.parse("2026-10-18T08:00:00Z");
+    private static final AlertRuleDefinition OVERHEATING = rule("engine-overheating", TelemetrySignal.ENGINE_TEMPERATURE,
+            AlertRuleType.THRESHOLD, ComparisonOperator.ABOVE, 115, null);
+    private static final AlertRuleDefinition RUNNING_HOT = rule("engine-running-hot", TelemetrySignal.ENGINE_TEMPERATURE,
+            AlertRuleType.SUSTAINED, ComparisonOperator.ABOVE, 105, Duration.ofMinutes(2));
+    private static final AlertRuleDefinition OIL_DROPPING = rule("oil-pressure-dropping", TelemetrySignal.OIL_PRESSURE,
+            AlertRuleType.RATE_OF_CHANGE, ComparisonOperator.BELOW, -100, Duration.ofMinutes(1));
+
+    private final UUID vehicleId = UUID.randomUUID();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AlertRuleEngine engine = newEngine();
+
+    @Test
+    void thresholdRuleRaisesOnceWhileMetAndAgainOnceCleared() {
+        engine.install(AlertRuleSet.compile(List.of(OVERHEATING)));
+
+        var alerts = engine.evaluate(vehicleId, List.of(
+                temperature(0, 120), temperature(1, 121), temperature(2, 90), temperature(3, 118)));
+
+        assertThat(alerts).extracting(Alert::getRecordedAt).containsExactly(START, START.plusSeconds(3));
+        assertThat(alerts).extracting(Alert::getRuleId).containsOnly("engine-overheating");
+        assertThat(meterRegistry.counter("telemetry.alerts.raised", "severity", "WARNING").count()).isEqualTo(2);
+    }
+
+    @Test
+    void sustainedRuleRaisesOnceTheConditionHeldForTheWindowAcrossBatches() {
+        engine.install(AlertRuleSet.compile(List.of(RUNNING_HOT)));
+
+        assertThat(engine.evaluate(vehicleId, List.of(temperature(0, 110), temperature(60, 110)))).isEmpty();
+        assertThat(engine.evaluate(vehicleId, List.of(temperature(119, 110)))).isEmpty();
+        assertThat(engine.evaluate(vehicleId, List.of(temperature(120, 110))))
+                .extracting(Alert::getRecordedAt).containsExactly(START.plusSeconds(120));
+    }
+
+    @Test
+    void sustainedRuleRestartsItsWindowWhenTheConditionBreaks() {
+        engine.install(AlertRuleSet.compile(List.of(RUNNING_HOT)));
+
+        assertThat(engine.evaluate(vehicleId, List.of(
+                temperature(0, 110), temperature(100, 100), temperature(110, 110), temperature(200, 110))))
+                .isEmpty();
+        assertThat(engine.evaluate(vehicleId, List.of(temperature(230, 110)))).hasSize(1);
+    }
+
+    @Test
+    void rateOfChangeRuleComparesWithTheOldestReadingWithinTheWindow() {
+        engine.install(AlertRuleSet.compile(List.of(OIL_DROPPING)));
+
+        // 30 kPa in 30 seconds is 60 kPa per minute, too slow to be met
+        assertThat(engine.evaluate(vehicleId, List.of(oilPressure(0, 300), oilPressure(30, 270)))).isEmpty();
+        // 120 kPa in 60 seconds since the oldest reading within the window
+        assertThat(engine.evaluate(vehicleId, List.of(oilPressure(60, 180))))
+                .extracting(Alert::getValue).containsExactly(180.0);
+        // The drop at 0 seconds left the window: 90 kPa in 60 seconds since the reading at 30 seconds
+        assertThat(engine.evaluate(vehicleId, List.of(oilPressure(90, 180)))).isEmpty();
+    }
+
+    @Test
+    void readingsAreEvaluatedInRecordingOrderAndLateOnesSkipped() {
+        engine.install(AlertRuleSet.compile(List.of(OVERHEATING)));
+
+        assertThat(engine.evaluate(vehicleId, List.of(temperature(2, 90), temperature(1, 120)))).hasSize(1);
+        // Recorded before the latest reading evaluated, which cleared the rule
+        assertThat(engine.evaluate(vehicleId, List.of(temperature(1, 120)))).isEmpty();
+    }
+
+    @Test
+    void vehiclesAreEvaluatedIndependently() {
+        engine.install(AlertRuleSet.compile(List.of(OVERHEATING)));
+
+        assertThat(engine.evaluate(vehicleId, List.of(temperature(0, 120)))).hasSize(1);
+        assertThat(engine.evaluate(UUID.randomUUID(), List.of(temperature(0, 120)))).hasSize(1);
+    }
+
+    @Test
+    void reloadKeepsTheStateOfUnchangedRulesAndResetsTheChangedOnes() {
+        engine.install(AlertRuleSet.compile(List.of(OVERHEATING, RUNNING_HOT)));
+        assertThat(engine.evaluate(vehicleId, List.of(temperature(0, 120), temperature(60, 120))))
+                .extracting(Alert::getRuleId).containsExactly("engine-overheating");
+
+        var longerWindow = rule("engine-running-hot", TelemetrySignal.ENGINE_TEMPERATURE, AlertRuleType.SUSTAINED,
+                ComparisonOperator.ABOVE, 105, Duration.ofMinutes(3));
+        engine.install(AlertRuleSet.compile(List.of(OIL_DROPPING, longerWindow, OVERHEATING)));
+
+        // The overheating rule is still firing, and the changed rule starts its window again
+        assertThat(engine.evaluate(vehicleId, List.of(temperature(120, 120), temperature(180, 120)))).isEmpty();
+        assertThat(engine.evaluate(vehicleId, List.of(temperature(300, 120))))
+                .extracting(Alert::getRuleId).containsExactly("engine-running-hot");
+    }
+
+    private AlertRuleEngine newEngine() {
+        var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        return new AlertRuleEngine(100, Duration.ofHours(1), beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private static AlertRuleDefinition rule(String id, TelemetrySignal signal, AlertRuleType type,
+            ComparisonOperator operator, double threshold, Duration window) {
+        return new AlertRuleDefinition(id, signal, type, operator, threshold, window, AlertSeverity.WARNING, id);
+    }
+
+    private static TelemetrySample temperature(long second, double value) {
+        return new TelemetrySample(TelemetrySignal.ENGINE_TEMPERATURE, START.plusSeconds(second), value);
+    }
+
+    private static TelemetrySample oilPressure(long second, double value) {
+        return new TelemetrySample(TelemetrySignal.OIL_PRESSURE, START.plusSeconds(second), value);
+    }
+}
@@ -0,0 +1,55 @@
+package com.safecar.platform.telemetry.infrastructure.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that the {@link AlertStreamBroker} bounds the open streams and counts them.
+ */
+class AlertStreamBrokerTests {
+    private static final int MAXIMUM_SUBSCRIBERS = 2;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AlertStreamBroker broker = newBroker();
+
+    @AfterEach
+    void tearDown() {
+        broker.shutdown();
+    }
+
+    @Test
+    void streamsBeyondTheMaximumAreRefused() {
+        assertThat(broker.subscribeToOwnedVehicles("driver@safecar.com")).isPresent();
+        assertThat(broker.subscribeToFleet()).isPresent();
+
+        assertThat(broker.subscribeToOwnedVehicles("driver@safecar.com")).isEmpty();
+        assertThat(broker.subscribeToFleet()).isEmpty();
+        assertThat(meterRegistry.get("telemetry.alerts.stream.subscribers").gauge().value())
+                .isEqualTo(MAXIMUM_SUBSCRIBERS);
+    }
+
+    @Test
+    void bufferMustHoldAnAlert() {
+        var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", new SimpleMeterRegistry());
+
+        assertThatIllegalArgumentException().isThrownBy(() ->
+                new AlertStreamBroker(1, 0, Duration.ofMinutes(1), beanFactory.getBeanProvider(MeterRegistry.class)));
+    }
+
+    private AlertStreamBroker newBroker() {
+        var beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        return new AlertStreamBroker(MAXIMUM_SUBSCRIBERS, 4, Duration.ofMinutes(1),
+                beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+}
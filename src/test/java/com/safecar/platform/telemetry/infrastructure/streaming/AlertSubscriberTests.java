@@ -0,0 +1,127 @@
+package com.safecar.platform.telemetry.infrastructure.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.safecar.platform.telemetry.domain.model.valueobjects.AlertSeverity;
+import com.safecar.platform.telemetry.domain.model.valueobjects.TelemetrySignal;
+import com.safecar.platform.telemetry.interfaces.rest.resources.AlertResource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that an {@link AlertSubscriber} never lets a slow client hold more than its buffer, tells the client how
+ * many alerts it missed, and stops at the first failed write.
+ */
+class AlertSubscriberTests {
+    private static final int BUFFER_CAPACITY = 2;
+
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+    private final RecordingEmitter emitter = new RecordingEmitter();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AlertSubscriber subscriber = new AlertSubscriber(emitter, BUFFER_CAPACITY, tasks::add,
+            meterRegistry.counter("telemetry.alerts.stream.dropped"));
+
+    @Test
+    void alertsAreWrittenInOrderByOneDrainTask() {
+        var first = alert();
+        var second = alert();
+
+        subscriber.offer(first);
+        subscriber.offer(second);
+
+        assertThat(tasks).hasSize(1);
+        runTasks();
+        assertThat(emitter.events).containsExactly(alertEvent(first), alertEvent(second));
+    }
+
+    @Test
+    void slowClientLosesItsOldestAlertsAndIsToldHowMany() {
+        var alerts = List.of(alert(), alert(), alert(), alert(), alert());
+
+        alerts.forEach(subscriber::offer);
+        runTasks();
+
+        assertThat(emitter.events).containsExactly("event:dropped\ndata:3\n\n",
+                alertEvent(alerts.get(3)), alertEvent(alerts.get(4)));
+        assertThat(meterRegistry.counter("telemetry.alerts.stream.dropped").count()).isEqualTo(3);
+    }
+
+    @Test
+    void heartbeatIsOnlyWrittenToIdleStreams() {
+        var waiting = alert();
+        subscriber.offer(waiting);
+        subscriber.offerHeartbeat();
+        runTasks();
+
+        subscriber.offerHeartbeat();
+        runTasks();
+
+        assertThat(emitter.events).containsExactly(alertEvent(waiting), ":heartbeat\n\n");
+    }
+
+    @Test
+    void failedWriteClosesTheStream() {
+        emitter.failing = true;
+        subscriber.offer(alert());
+        runTasks();
+
+        subscriber.offer(alert());
+        subscriber.offerHeartbeat();
+
+        assertThat(subscriber.isClosed()).isTrue();
+        assertThat(tasks).isEmpty();
+        assertThat(emitter.events).isEmpty();
+    }
+
+    @Test
+    void closedStreamDiscardsItsBufferedAlerts() {
+        subscriber.offer(alert());
+        subscriber.close();
+        runTasks();
+
+        assertThat(emitter.events).isEmpty();
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty())
+            tasks.poll().run();
+    }
+
+    private static AlertResource alert() {
+        return new AlertResource(UUID.randomUUID(), UUID.randomUUID(), "engine-overheating",
+                TelemetrySignal.ENGINE_TEMPERATURE, AlertSeverity.CRITICAL, "Engine overheating", 120.0,
+                Instant.parse("2026-10-18T08:00:00Z"));
+    }
+
+    private static String alertEvent(AlertResource alert) {
+        return "id:" + alert.id() + "\nevent:alert\ndata:" + alert + "\n\n";
+    }
+
+    /**
+     * Emitter recording the events sent to it, or failing as if the connection were gone.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing)
+                throw new IOException("Broken pipe");
+            events.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+    }
+}